@@ -0,0 +1,99 @@
+#!/usr/bin/env bash
+# Startup time of the service per launch mode: plain jar, prod profile, + AOT, + AppCDS, and CRaC restore
+# when the JDK supports it.
+#
+# Time is measured from launching the JVM to the first 200 from /actuator/health, so it includes JVM
+# startup, context refresh and the first database round trip; the "Started App in" line is shown alongside.
+# Needs the PostgreSQL database from application.properties (or SPRING_DATASOURCE_* variables) and a free
+# port 8080.
+#
+# Usage: scripts/startup-benchmark.sh [runs-per-mode]   (default 5)
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=8080
+HEALTH_URL="http://localhost:${PORT}/actuator/health"
+TIMEOUT_SECONDS=120
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+WORK="$ROOT/target/startup"
+JAR_NAME=BankProjectSpring-1.0-SNAPSHOT.jar
+FAT_JAR="$ROOT/target/$JAR_NAME"
+APP_JAR="$WORK/app/$JAR_NAME"
+CDS_ARCHIVE="$WORK/app.jsa"
+CRAC_DIR="$WORK/crac"
+PROD=--spring.profiles.active=prod
+
+now_ms() {
+  date +%s%3N
+}
+
+# Запускает приложение, ждёт первого ответа health и печатает миллисекунды до него
+measure() {
+  local log="$WORK/run.log"
+  local start
+  start=$(now_ms)
+  "$@" >"$log" 2>&1 &
+  local pid=$!
+  local deadline=$((start + TIMEOUT_SECONDS * 1000))
+  until curl -sf -o /dev/null "$HEALTH_URL"; do
+    if ! kill -0 "$pid" 2>/dev/null || [ "$(now_ms)" -gt "$deadline" ]; then
+      kill "$pid" 2>/dev/null || true
+      echo "startup failed, see $log" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  local elapsed=$(($(now_ms) - start))
+  local started
+  started=$(grep -o 'Started App in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' | head -1 || true)
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed ${started:--}"
+}
+
+# Прогоняет режим RUNS раз и печатает медиану
+bench() {
+  local name=$1
+  shift
+  local times=() refresh=()
+  for ((i = 0; i < RUNS; i++)); do
+    read -r ms started < <(measure "$@") || true
+    if [ -z "${ms:-}" ]; then
+      exit 1
+    fi
+    times+=("$ms")
+    refresh+=("$started")
+  done
+  local median
+  median=$(printf '%s\n' "${times[@]}" | sort -n | sed -n "$(((RUNS + 1) / 2))p")
+  printf '%-22s %8s ms   runs: %s   Started App in (s): %s\n' "$name" "$median" "${times[*]}" "${refresh[*]}"
+}
+
+mkdir -p "$WORK"
+echo "Building with -Pproduction (AOT for the prod profile)..."
+mvn -B -q -f "$ROOT/pom.xml" -Pproduction -DskipTests package
+
+rm -rf "$WORK/app" "$CDS_ARCHIVE" "$CRAC_DIR"
+java -Djarmode=tools -jar "$FAT_JAR" extract --destination "$WORK/app"
+
+echo "Training run for the AppCDS archive..."
+java -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+  -jar "$APP_JAR" "$PROD" >"$WORK/cds-training.log" 2>&1
+
+echo
+printf '%-22s %11s\n' mode median
+bench "jar (default profile)" java -jar "$FAT_JAR"
+bench "prod" java -jar "$APP_JAR" "$PROD"
+bench "prod + AOT" java -Dspring.aot.enabled=true -jar "$APP_JAR" "$PROD"
+bench "prod + AOT + CDS" java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true -jar "$APP_JAR" "$PROD"
+
+if java -XX:CRaCCheckpointTo="$CRAC_DIR" -version >/dev/null 2>&1; then
+  echo "Taking a CRaC checkpoint after refresh..."
+  # Процесс завершается сам после чекпойнта; пулы Hikari опустошает HikariCheckpointResource
+  java -XX:CRaCCheckpointTo="$CRAC_DIR" -Dspring.context.checkpoint=onRefresh -Dspring.aot.enabled=true \
+    -jar "$APP_JAR" "$PROD" >"$WORK/crac-checkpoint.log" 2>&1 || true
+  bench "CRaC restore" java -XX:CRaCRestoreFrom="$CRAC_DIR"
+else
+  echo "CRaC restore: skipped, this JDK has no CRaC support"
+fi
@@ -1,10 +1,10 @@
 package com.bank.project.aop;
 
+import com.bank.project.config.Workload;
 import com.bank.project.entity.AuditLog;
 import com.bank.project.repository.AuditLogRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.*;
@@ -12,6 +12,9 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -22,11 +25,20 @@ import java.util.Map;
 @Aspect
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class AuditAspect {
 
     private final AuditLogRepository auditLogRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate auditTransaction;
+
+    public AuditAspect(AuditLogRepository auditLogRepository, ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager) {
+        this.auditLogRepository = auditLogRepository;
+        this.objectMapper = objectMapper;
+        // Аудит пишется в своей транзакции через отдельный пул и не зависит от исхода основной
+        this.auditTransaction = new TransactionTemplate(transactionManager);
+        this.auditTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     @AfterReturning(
         value = "@annotation(audit) && execution(* com.bank.project..*.*(..))",
@@ -63,7 +75,7 @@ public class AuditAspect {
                     }
                 }
                 
-                auditLogRepository.save(auditLog);
+                save(auditLog);
             }
         } catch (Exception e) {
             log.error("Error in audit logging", e);
@@ -95,12 +107,16 @@ public class AuditAspect {
                 auditLog.setNewValue(parameters);
             }
             
-            auditLogRepository.save(auditLog);
+            save(auditLog);
         } catch (Exception e) {
             log.error("Error in failure audit logging", e);
         }
     }
 
+    private void save(AuditLog auditLog) {
+        Workload.run(Workload.AUDIT, () -> auditTransaction.executeWithoutResult(status -> auditLogRepository.save(auditLog)));
+    }
+
     private String getCurrentUsername() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         return (authentication != null) ? authentication.getName() : "anonymous";
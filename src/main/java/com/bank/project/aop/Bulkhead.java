@@ -0,0 +1,16 @@
+package com.bank.project.aop;
+
+import com.bank.project.config.Workload;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs the annotated method (or every method of the annotated class) as the given {@link Workload},
+ * so the connections it opens come from that workload's pool.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+    Workload value();
+}
@@ -0,0 +1,38 @@
+package com.bank.project.aop;
+
+import com.bank.project.config.Workload;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BulkheadAspect {
+
+    /**
+     * Устанавливает нагрузку до открытия транзакции, чтобы соединение взялось из нужного пула
+     */
+    @Around("@annotation(com.bank.project.aop.Bulkhead) || @within(com.bank.project.aop.Bulkhead)")
+    public Object runAsWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Bulkhead.class);
+        }
+        if (bulkhead == null) {
+            return joinPoint.proceed();
+        }
+        Workload previous = Workload.enter(bulkhead.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Workload.exit(previous);
+        }
+    }
+}
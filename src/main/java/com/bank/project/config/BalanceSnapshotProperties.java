@@ -0,0 +1,16 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.balance-snapshot")
+public class BalanceSnapshotProperties {
+    private boolean enabled = true;
+    // Счетов в одном чанке: один запрос оборотов и одна транзакция записи на чанк
+    private int chunkSize = 500;
+    // Меньше пула Hikari, чтобы задание не забирало все соединения
+    private int threads = 4;
+}
@@ -0,0 +1,32 @@
+package com.bank.project.config;
+
+import com.bank.project.service.streaming.JsonStreamFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR and Smile for service-to-service callers, picked by {@code Accept}.
+ * <p>
+ * Spring MVC would register these converters on its own when the dataformats are present, but with a
+ * plain mapper; these beans replace them with copies of the application {@link ObjectMapper}, so binary
+ * responses carry the same modules and settings as JSON and as the streamed list endpoints.
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    @Bean
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.cbor.CBORFactory")
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(JsonStreamFormat.CBOR.mapperFrom(objectMapper));
+    }
+
+    @Bean
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.smile.SmileFactory")
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(JsonStreamFormat.SMILE.mapperFrom(objectMapper));
+    }
+}
@@ -0,0 +1,73 @@
+package com.bank.project.config;
+
+import com.bank.project.service.cache.ReferenceDataCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Hit/miss counters and hit ratio for the reference-data regions of the second-level cache.
+     * Requires {@code hibernate.generate_statistics=true}.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            ReferenceDataCache.ENTITY_REGIONS.forEach(region -> bindRegion(registry, statistics, region, false));
+            ReferenceDataCache.QUERY_REGIONS.forEach(region -> bindRegion(registry, statistics, region, true));
+        };
+    }
+
+    private void bindRegion(MeterRegistry registry, Statistics statistics, String region, boolean queryRegion) {
+        String kind = queryRegion ? "query" : "entity";
+
+        FunctionCounter.builder("hibernate.second.level.cache.requests", statistics,
+                        regionMetric(region, queryRegion, CacheRegionStatistics::getHitCount))
+                .description("Second-level cache lookups")
+                .tags("region", region, "kind", kind, "result", "hit")
+                .register(registry);
+
+        FunctionCounter.builder("hibernate.second.level.cache.requests", statistics,
+                        regionMetric(region, queryRegion, CacheRegionStatistics::getMissCount))
+                .description("Second-level cache lookups")
+                .tags("region", region, "kind", kind, "result", "miss")
+                .register(registry);
+
+        Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics,
+                        regionMetric(region, queryRegion, stats -> {
+                            long total = stats.getHitCount() + stats.getMissCount();
+                            return total == 0 ? 0.0 : (double) stats.getHitCount() / total;
+                        }))
+                .description("Second-level cache hit ratio")
+                .tags("region", region, "kind", kind)
+                .register(registry);
+    }
+
+    private ToDoubleFunction<Statistics> regionMetric(String region, boolean queryRegion,
+                                                      ToDoubleFunction<CacheRegionStatistics> metric) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics;
+            try {
+                regionStatistics = queryRegion
+                        ? statistics.getQueryRegionStatistics(region)
+                        : statistics.getDomainDataRegionStatistics(region);
+            } catch (IllegalArgumentException e) {
+                // Регион ещё не создан (нет ни одного обращения)
+                return 0.0;
+            }
+            return regionStatistics == null ? 0.0 : metric.applyAsDouble(regionStatistics);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.bank.project.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ClientOverviewConfig {
+
+    /**
+     * Pool for the concurrent lookups behind the client overview.
+     * Bounded on both threads and queue: when it is saturated new lookups are rejected
+     * and reported as unavailable sections instead of piling up behind slow ones.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService clientOverviewExecutor(ClientOverviewProperties properties) {
+        return new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("client-overview-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
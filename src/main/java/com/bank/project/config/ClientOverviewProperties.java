@@ -0,0 +1,19 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.client-overview")
+public class ClientOverviewProperties {
+    // Сколько ждать каждую часть обзора; общая задержка ограничена этим же значением
+    private Duration pieceTimeout = Duration.ofMillis(800);
+    private int recentTransactions = 20;
+    // Меньше пула Hikari, чтобы обзоры не забирали все соединения
+    private int threads = 6;
+    private int queueCapacity = 100;
+}
@@ -0,0 +1,17 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.client-uniqueness")
+public class ClientUniquenessProperties {
+    // Как часто фильтр дочитывает клиентов, записанных другими узлами после последнего прохода
+    private Duration catchUpInterval = Duration.ofSeconds(10);
+    // Запас окна назад по updated_at: долгие транзакции, отставание реплики и расхождение часов узлов
+    private Duration catchUpOverlap = Duration.ofMinutes(1);
+}
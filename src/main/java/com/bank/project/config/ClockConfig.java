@@ -0,0 +1,16 @@
+package com.bank.project.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    // Единый источник времени: сервисы читают его один раз на запрос, тесты могут подменить
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,128 @@
+package com.bank.project.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of API requests in flight at once.
+ * <p>
+ * With virtual threads Tomcat no longer bounds concurrency by its worker pool, so thousands of
+ * requests could queue inside Hikari and fail one by one on its connection timeout. A fair semaphore
+ * sized to the connection pool keeps that queue in front of the application instead: requests wait
+ * here in arrival order, and one that cannot get a permit within the acquire timeout is answered
+ * with 503 and {@code Retry-After} before it has touched the database.
+ * <p>
+ * A request that goes async, such as a {@code StreamingResponseBody} export, is still writing and
+ * holding its connection after the filter chain returns, so its permit is released only when the
+ * async request completes, fails or times out.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int limit;
+    private final long acquireTimeoutNanos;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(int limit, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be positive: " + limit);
+        }
+        this.limit = limit;
+        this.permits = new Semaphore(limit, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.waitTimer = meterRegistry.timer("http.concurrency.limit.wait");
+        this.rejected = meterRegistry.counter("http.concurrency.limit.rejected");
+        Gauge.builder("http.concurrency.limit.in.flight", this, ConcurrencyLimitFilter::inFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejected.increment();
+            log.warn("Rejected {} {}: {} requests already in flight", request.getMethod(), request.getRequestURI(), limit);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy, retry later");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    int inFlight() {
+        return limit - permits.availablePermits();
+    }
+
+    private final class ReleaseOnCompletion implements AsyncListener {
+
+        // Ошибка и таймаут завершаются ещё и onComplete — разрешение отдаётся один раз
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Повторный startAsync сбрасывает слушателей
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    // Одновременных API-запросов; 0 — по сумме размеров пулов соединений, кроме пула аудита
+    private int permits = 0;
+    // Сколько запрос ждёт разрешения, прежде чем получить 503
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+    private String urlPattern = "/api/*";
+}
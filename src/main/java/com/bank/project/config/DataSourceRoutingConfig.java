@@ -0,0 +1,111 @@
+package com.bank.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Separate connection pools (bulkheads) per kind of work, see {@link ReadWriteRoutingDataSource}:
+ * <ul>
+ *     <li>primary — OLTP writes and non-transactional access;</li>
+ *     <li>replica — OLTP {@code @Transactional(readOnly = true)} reads;</li>
+ *     <li>reporting — reports and exports marked with {@link com.bank.project.aop.Bulkhead};</li>
+ *     <li>batch — scheduled bulk writes on the primary, with a statement timeout longer than OLTP's;</li>
+ *     <li>audit — audit log writes of {@link com.bank.project.aop.Audit} methods.</li>
+ * </ul>
+ * Every pool is a bean of its own, so its size (the concurrency limit), wait timeout and statement
+ * timeout ({@code connection-init-sql}) come from its own {@code hikari} properties, and waiting for a
+ * connection shows up per pool name in {@code hikaricp.connections.acquire} and {@code hikaricp.connections.pending}.
+ * Reads on the replica may lag behind writes, so a flow that must read its own write has to do so in a
+ * read-write transaction.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, ReplicaDataSourceProperties replica) {
+        return pool(properties, replica.getUrl(), replica.getUsername(), replica.getPassword());
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.datasource.reporting.hikari")
+    public HikariDataSource reportingDataSource(DataSourceProperties properties, ReplicaDataSourceProperties replica,
+                                                WorkloadDataSourceProperties workloads) {
+        WorkloadDataSourceProperties.Pool reporting = workloads.getReporting();
+        return pool(properties, pick(reporting.getUrl(), replica.getUrl()),
+                pick(reporting.getUsername(), replica.getUsername()),
+                pick(reporting.getPassword(), replica.getPassword()));
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.datasource.batch.hikari")
+    public HikariDataSource batchDataSource(DataSourceProperties properties, WorkloadDataSourceProperties workloads) {
+        WorkloadDataSourceProperties.Pool batch = workloads.getBatch();
+        return pool(properties, batch.getUrl(), batch.getUsername(), batch.getPassword());
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.datasource.audit.hikari")
+    public HikariDataSource auditDataSource(DataSourceProperties properties, WorkloadDataSourceProperties workloads) {
+        WorkloadDataSourceProperties.Pool audit = workloads.getAudit();
+        return pool(properties, audit.getUrl(), audit.getUsername(), audit.getPassword());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 @Qualifier("reportingDataSource") DataSource reporting,
+                                 @Qualifier("batchDataSource") DataSource batch,
+                                 @Qualifier("auditDataSource") DataSource audit) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica,
+                ReadWriteRoutingDataSource.Route.REPORTING, reporting,
+                ReadWriteRoutingDataSource.Route.BATCH, batch,
+                ReadWriteRoutingDataSource.Route.AUDIT, audit));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+        // Значения по умолчанию заданы явно, иначе прокси возьмёт соединение ещё до выбора пула
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties primary, String url, String username, String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(pick(url, primary.determineUrl()))
+                .username(pick(username, primary.determineUsername()))
+                .password(pick(password, primary.determinePassword()))
+                .build();
+    }
+
+    private static String pick(String value, String fallback) {
+        return StringUtils.hasText(value) ? value : fallback;
+    }
+}
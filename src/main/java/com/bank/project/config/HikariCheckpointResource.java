@@ -0,0 +1,101 @@
+package com.bank.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Empties the Hikari pools before a CRaC checkpoint and lets them refill after restore.
+ * <p>
+ * A checkpoint cannot contain open sockets, and after a restore the server sessions behind them would be
+ * gone anyway. Before the checkpoint every pool is suspended, so {@code getConnection} waits instead of
+ * opening a socket. Then its idle connections are closed, and busy ones are closed when they come back.
+ * After a restore the pools are resumed and refill on demand. A pool without
+ * {@code allow-pool-suspension} is only emptied, so it may reconnect straight away.
+ * <p>
+ * The web server and the {@code @Scheduled} task scheduler are stopped and restarted by Spring's own
+ * lifecycle handling of the checkpoint. That handling registers with CRaC when the context finishes
+ * refreshing, which is after this eager singleton. CRaC notifies resources in reverse order of
+ * registration before a checkpoint, so no new work arrives by the time the pools are drained; after a
+ * restore the pools are back before anything is restarted.
+ */
+@Slf4j
+@Component
+public class HikariCheckpointResource implements Resource {
+
+    static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectProvider<HikariDataSource> pools;
+    private final Duration drainTimeout;
+
+    @Autowired
+    public HikariCheckpointResource(ObjectProvider<HikariDataSource> pools) {
+        this(pools, DRAIN_TIMEOUT);
+        // Контекст CRaC держит слабую ссылку; сильную держит контекст Spring
+        Core.getGlobalContext().register(this);
+    }
+
+    HikariCheckpointResource(ObjectProvider<HikariDataSource> pools, Duration drainTimeout) {
+        this.pools = pools;
+        this.drainTimeout = drainTimeout;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) throws Exception {
+        List<HikariDataSource> started = startedPools();
+        for (HikariDataSource pool : started) {
+            if (pool.isAllowPoolSuspension()) {
+                pool.getHikariPoolMXBean().suspendPool();
+            } else {
+                log.warn("Pool {} does not allow suspension and may reconnect before the checkpoint", pool.getPoolName());
+            }
+            pool.getHikariPoolMXBean().softEvictConnections();
+        }
+
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        for (HikariDataSource pool : started) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            while (mxBean.getTotalConnections() > 0) {
+                if (System.nanoTime() - deadline > 0) {
+                    // Чекпойнт всё равно не удастся с открытым сокетом; возвращаем пулы в работу
+                    resume(started);
+                    throw new IllegalStateException("Pool " + pool.getPoolName() + " still has "
+                            + mxBean.getActiveConnections() + " connections in use after " + drainTimeout);
+                }
+                Thread.sleep(50);
+            }
+        }
+        log.info("Drained {} connection pools for checkpoint", started.size());
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        List<HikariDataSource> started = startedPools();
+        resume(started);
+        log.info("Resumed {} connection pools after restore", started.size());
+    }
+
+    private List<HikariDataSource> startedPools() {
+        // У пула, к которому ещё не обращались, нет MXBean — и нет соединений
+        return pools.orderedStream()
+                .filter(pool -> pool.getHikariPoolMXBean() != null)
+                .toList();
+    }
+
+    private static void resume(List<HikariDataSource> started) {
+        for (HikariDataSource pool : started) {
+            if (pool.isAllowPoolSuspension()) {
+                pool.getHikariPoolMXBean().resumePool();
+            }
+        }
+    }
+}
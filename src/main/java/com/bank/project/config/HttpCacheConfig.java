@@ -0,0 +1,39 @@
+package com.bank.project.config;
+
+import com.bank.project.service.cache.ReferenceDataVersions;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Arrays;
+
+@Configuration
+@ConditionalOnProperty(name = "app.http-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HttpCacheConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ReferenceDataVersions> versions;
+    private final ObjectProvider<HttpCacheProperties> properties;
+
+    // Через ObjectProvider: в срезах @WebMvcTest этих компонентов нет
+    public HttpCacheConfig(ObjectProvider<ReferenceDataVersions> versions, ObjectProvider<HttpCacheProperties> properties) {
+        this.versions = versions;
+        this.properties = properties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        ReferenceDataVersions referenceDataVersions = versions.getIfAvailable();
+        HttpCacheProperties httpCacheProperties = properties.getIfAvailable();
+        if (referenceDataVersions == null || httpCacheProperties == null) {
+            return;
+        }
+        registry.addInterceptor(new ReferenceDataETagInterceptor(referenceDataVersions, httpCacheProperties))
+                .addPathPatterns(Arrays.stream(ReferenceDataETagInterceptor.Endpoint.values())
+                        .map(ReferenceDataETagInterceptor.Endpoint::pattern)
+                        .toList())
+                // Курс на дату берётся из истории курсов, у которой нет своего счётчика
+                .excludePathPatterns("/api/currencies/code/*/rate");
+    }
+}
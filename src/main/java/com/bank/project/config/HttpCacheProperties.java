@@ -0,0 +1,23 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheProperties {
+    private boolean enabled = true;
+    // Как часто каждый экземпляр перечитывает номера версий справочников
+    private Duration versionRefresh = Duration.ofSeconds(2);
+    // Через столько интервалов без обновления номера считаются неизвестными и 304 не отдаётся
+    private int staleAfterRefreshes = 5;
+    // Cache-Control по ключу эндпоинта (currencies, tax-codes, products, managers)
+    private Map<String, String> cacheControl = new LinkedHashMap<>();
+    private String defaultCacheControl = "private, no-cache";
+}
@@ -0,0 +1,18 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.interest-accrual")
+public class InterestAccrualProperties {
+    private boolean enabled = true;
+    // Ширина диапазона id в одной партиции; партиция — единица параллелизма и контрольная точка
+    private long partitionSize = 10_000;
+    // Строк в одном JDBC-пакете вставки
+    private int batchSize = 1000;
+    // Меньше пула Hikari: каждая партиция держит соединение на время своей транзакции
+    private int parallelism = 4;
+}
@@ -0,0 +1,37 @@
+package com.bank.project.config;
+
+import org.crac.Resource;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Beans that must exist even when nothing asks for them, for {@code spring.main.lazy-initialization=true}
+ * (prod profile): a lazy bean's {@code @Scheduled} jobs would never be registered, and a CRaC
+ * {@link Resource} would never be registered either.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter backgroundBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (Resource.class.isAssignableFrom(beanType) || hasScheduledMethods(beanType));
+    }
+
+    static boolean hasScheduledMethods(Class<?> beanType) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType, ReflectionUtils.USER_DECLARED_METHODS)) {
+            if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                    || AnnotatedElementUtils.hasAnnotation(method, Schedules.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+    private boolean relayEnabled = true;
+    // Куда публикуются события: log — отдельный логгер "outbox", memory — список в памяти (для тестов)
+    private String sink = "log";
+    private int batchSize = 100;
+    // Сколько пачек реле забирает за один запуск, пока очередь не опустеет
+    private int maxBatchesPerRun = 20;
+    // После стольких неудачных попыток (по одной за запуск реле) событие уходит в dead letter
+    private int maxAttempts = 20;
+    private Duration retention = Duration.ofDays(7);
+}
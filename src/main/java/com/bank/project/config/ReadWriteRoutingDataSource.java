@@ -0,0 +1,30 @@
+package com.bank.project.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Picks the connection pool for the current {@link Workload}: reporting, batch and audit work get pools of
+ * their own, OLTP read-only transactions go to the replica and everything else to the primary.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this data source must sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers
+ * choosing the target until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA, REPORTING, BATCH, AUDIT
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return switch (Workload.current()) {
+            case REPORTING -> Route.REPORTING;
+            case BATCH -> Route.BATCH;
+            case AUDIT -> Route.AUDIT;
+            case OLTP -> TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reconciliation")
+public class ReconciliationProperties {
+    private boolean enabled = true;
+    // Каталог для CSV-отчётов о расхождениях
+    private String reportDir = "reports/reconciliation";
+    // Строк за один проход серверного курсора
+    private int fetchSize = 5000;
+    // Допустимая разница между остатком и журналом
+    private BigDecimal tolerance = BigDecimal.ZERO;
+}
@@ -0,0 +1,109 @@
+package com.bank.project.config;
+
+import com.bank.project.service.cache.ReferenceDataCache;
+import com.bank.project.service.cache.ReferenceDataVersions;
+import com.bank.project.service.streaming.JsonStreamFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
+
+/**
+ * Conditional GET for the reference data endpoints.
+ * <p>
+ * The strong ETag is built from the {@link ReferenceDataVersions write counters} of the tables an
+ * endpoint reads, never from the response body; products also carry their manager's name, so they
+ * depend on both tables. A matching {@code If-None-Match} is answered with 304 here, before the
+ * controller runs, so revalidation costs no query. {@code Cache-Control} comes from
+ * {@link HttpCacheProperties} per endpoint.
+ */
+public class ReferenceDataETagInterceptor implements HandlerInterceptor {
+
+    enum Endpoint {
+        CURRENCIES("/api/currencies", "currencies", ReferenceDataCache.CURRENCY_REGION),
+        TAX_CODES("/api/tax-codes", "tax-codes", ReferenceDataCache.TAX_CODE_REGION),
+        PRODUCTS("/api/products", "products", ReferenceDataCache.PRODUCT_REGION, ReferenceDataCache.MANAGER_REGION),
+        MANAGERS("/api/managers", "managers", ReferenceDataCache.MANAGER_REGION);
+
+        private final String path;
+        private final String key;
+        private final List<String> tables;
+
+        Endpoint(String path, String key, String... tables) {
+            this.path = path;
+            this.key = key;
+            this.tables = List.of(tables);
+        }
+
+        static Endpoint of(String path) {
+            for (Endpoint endpoint : values()) {
+                if (path.equals(endpoint.path) || path.startsWith(endpoint.path + "/")) {
+                    return endpoint;
+                }
+            }
+            return null;
+        }
+
+        String pattern() {
+            return path + "/**";
+        }
+    }
+
+    private final ReferenceDataVersions versions;
+    private final HttpCacheProperties properties;
+
+    public ReferenceDataETagInterceptor(ReferenceDataVersions versions, HttpCacheProperties properties) {
+        this.versions = versions;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+        Endpoint endpoint = Endpoint.of(request.getRequestURI().substring(request.getContextPath().length()));
+        if (endpoint == null) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                properties.getCacheControl().getOrDefault(endpoint.key, properties.getDefaultCacheControl()));
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        String etag = etag(endpoint, request.getHeader(HttpHeaders.ACCEPT));
+        if (etag == null) {
+            return true;
+        }
+        // При совпадении выставляет 304 и ETag; контроллер и БД не вызываются
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    /**
+     * @return quoted ETag, or {@code null} while any of the versions is unknown
+     */
+    String etag(Endpoint endpoint, String accept) {
+        StringBuilder etag = new StringBuilder("\"").append(endpoint.key);
+        for (String table : endpoint.tables) {
+            OptionalLong version = versions.current(table);
+            if (version.isEmpty()) {
+                return null;
+            }
+            etag.append('-').append(version.getAsLong());
+        }
+        // У каждого представления (NDJSON, CBOR, Smile) свой тег; JSON-массив — без суффикса
+        JsonStreamFormat format = JsonStreamFormat.fromAccept(accept);
+        if (format != JsonStreamFormat.JSON_ARRAY) {
+            etag.append('-').append(format.name().toLowerCase(Locale.ROOT));
+        }
+        return etag.append('"').toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connection of the read replica. Pool settings are bound separately from {@code app.datasource.replica.hikari}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+    private boolean enabled;
+    // Пустые значения берутся из spring.datasource: тот же сервер, но отдельный пул
+    private String url;
+    private String username;
+    private String password;
+}
@@ -0,0 +1,17 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.streaming-read")
+public class StreamingReadProperties {
+    // Строк за одно обращение к БД; соединение держится только на время чтения страницы
+    private int pageSize = 500;
+    // Предел для всей потоковой выдачи, вместо общего spring.mvc.async.request-timeout
+    private Duration timeout = Duration.ofMinutes(10);
+}
@@ -0,0 +1,61 @@
+package com.bank.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Map;
+
+/**
+ * Extras for the opt-in virtual-thread mode ({@code --spring.profiles.active=virtual-threads}).
+ * <p>
+ * Spring Boot itself moves Tomcat request handling, the {@code @Async} executor and the
+ * {@code @Scheduled} scheduler onto virtual threads when {@code spring.threads.virtual.enabled=true}
+ * and the JVM is 21 or newer; on older runtimes the property is ignored and the platform pools stay.
+ * What Boot does not do is bound the work that reaches JDBC, so this adds {@link ConcurrencyLimitFilter}.
+ * <p>
+ * Unless set explicitly, the limit is the number of connections API requests can hold at once: the sum
+ * of the pool sizes except the audit pool, whose connections are only taken next to another one.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    static final int MIN_RUNTIME_VERSION = 21;
+
+    // Пул аудита берётся поверх соединения основной транзакции и пропускной способности не добавляет
+    static final String AUDIT_POOL = "auditDataSource";
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties,
+            Map<String, HikariDataSource> pools,
+            MeterRegistry meterRegistry) {
+        int runtime = Runtime.version().feature();
+        if (runtime < MIN_RUNTIME_VERSION) {
+            log.warn("Virtual threads requested but running on Java {}; request handling stays on platform threads", runtime);
+        }
+        int permits = properties.getPermits() > 0 ? properties.getPermits() : connectionPermits(pools);
+        log.info("Limiting {} to {} concurrent requests", properties.getUrlPattern(), permits);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(permits, properties.getAcquireTimeout(), meterRegistry));
+        registration.addUrlPatterns(properties.getUrlPattern());
+        // Раньше фильтров безопасности: отказ не должен стоить проверки токена
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    static int connectionPermits(Map<String, HikariDataSource> pools) {
+        return pools.entrySet().stream()
+                .filter(pool -> !AUDIT_POOL.equals(pool.getKey()))
+                .mapToInt(pool -> pool.getValue().getMaximumPoolSize())
+                .sum();
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.project.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Kind of database work running on the current thread; {@link ReadWriteRoutingDataSource} gives each
+ * kind its own connection pool so heavy reports, nightly batch jobs and audit writes cannot exhaust the
+ * OLTP pools, and each pool can carry a statement timeout that suits its work.
+ * <p>
+ * The workload only affects connections obtained while it is set: code already inside a transaction keeps
+ * that transaction's connection, so a different workload needs its own (e.g. {@code REQUIRES_NEW}) transaction.
+ */
+public enum Workload {
+    OLTP, REPORTING, BATCH, AUDIT;
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload == null ? OLTP : workload;
+    }
+
+    public static <T> T call(Workload workload, Supplier<T> action) {
+        Workload previous = enter(workload);
+        try {
+            return action.get();
+        } finally {
+            exit(previous);
+        }
+    }
+
+    public static void run(Workload workload, Runnable action) {
+        call(workload, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Sets the workload of the current thread.
+     *
+     * @return the value to pass to {@link #exit} to restore the previous workload
+     */
+    public static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void exit(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.bank.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connections of the per-workload pools behind {@link DataSourceRoutingConfig}; the replica has its own
+ * {@link ReplicaDataSourceProperties}. Pool settings are bound separately from {@code app.datasource.<pool>.hikari}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource")
+public class WorkloadDataSourceProperties {
+    // Отчёты и выгрузки; без своего адреса идут на реплику
+    private Pool reporting = new Pool();
+    // Ночные пакетные задания (снимки остатков, начисление процентов, очистка outbox); без своего адреса идут на основную БД
+    private Pool batch = new Pool();
+    // Запись журнала аудита; без своего адреса идёт на основную БД
+    private Pool audit = new Pool();
+
+    @Data
+    public static class Pool {
+        // Пустые значения берутся из spring.datasource: тот же сервер, но отдельный пул
+        private String url;
+        private String username;
+        private String password;
+    }
+}
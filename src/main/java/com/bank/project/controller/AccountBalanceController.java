@@ -0,0 +1,61 @@
+package com.bank.project.controller;
+
+import com.bank.project.dto.AccountBalanceResponse;
+import com.bank.project.exception.InvalidRequestException;
+import com.bank.project.service.balance.AccountBalanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/accounts")
+@Tag(name = "Account Management", description = "Endpoints for managing bank accounts")
+public class AccountBalanceController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountBalanceController.class);
+
+    private final AccountBalanceService accountBalanceService;
+
+    @Autowired
+    public AccountBalanceController(AccountBalanceService accountBalanceService) {
+        this.accountBalanceService = accountBalanceService;
+    }
+
+    @Operation(summary = "Account balance as of a date",
+            description = "Ledger balance at the given moment, or at the end of the given day. "
+                    + "Without parameters returns the current ledger balance.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balance calculated"),
+            @ApiResponse(responseCode = "400", description = "Date in the future"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<AccountBalanceResponse> getBalance(
+            @Parameter(description = "ID of the account") @PathVariable Long id,
+            @Parameter(description = "Moment to calculate the balance at, e.g. 2026-10-18T15:30:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @Parameter(description = "Day to calculate the closing balance for, e.g. 2026-10-18")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        if (asOf != null && date != null) {
+            throw new InvalidRequestException("Specify either asOf or date, not both");
+        }
+        LocalDateTime moment = date != null ? date.plusDays(1).atStartOfDay() : asOf;
+        logger.debug("Calculating balance of account {} as of {}", id, moment);
+        return ResponseEntity.ok(accountBalanceService.getBalanceAsOf(id, moment));
+    }
+}
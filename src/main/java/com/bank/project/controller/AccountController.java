@@ -1,7 +1,11 @@
 package com.bank.project.controller;
 
+import com.bank.project.dto.AccountResponse;
 import com.bank.project.entity.Account;
 import com.bank.project.service.AccountServiceInterface;
+import com.bank.project.service.mapper.AccountMapper;
+import com.bank.project.service.streaming.JsonStreamFormat;
+import com.bank.project.service.streaming.StreamingJsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,8 +17,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -28,25 +35,30 @@ public class AccountController {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountController.class);
     private final AccountServiceInterface accountService;
+    private final AccountMapper accountMapper;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     @Autowired
-    public AccountController(AccountServiceInterface accountService) {
+    public AccountController(AccountServiceInterface accountService, AccountMapper accountMapper,
+                             StreamingJsonWriter streamingJsonWriter) {
         this.accountService = accountService;
+        this.accountMapper = accountMapper;
+        this.streamingJsonWriter = streamingJsonWriter;
     }
 
     @Operation(summary = "Create a new account", description = "Creates a new bank account for a specific client.")
     @ApiResponses({
-            @ApiResponse(responseCode = "201", description = "Account successfully created", content = @Content(schema = @Schema(implementation = Account.class))),
+            @ApiResponse(responseCode = "201", description = "Account successfully created", content = @Content(schema = @Schema(implementation = AccountResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input")
     })
     @PostMapping
-    public ResponseEntity<Account> createAccount(
+    public ResponseEntity<AccountResponse> createAccount(
             @RequestBody(description = "Details of the account to create", required = true,
                     content = @Content(schema = @Schema(implementation = Account.class)))
             @org.springframework.web.bind.annotation.RequestBody Account account) {
         logger.info("Creating account for client with ID: {}", account.getClientId());
         Account createdAccount = accountService.createAccount(account);
-        return ResponseEntity.status(201).body(createdAccount);
+        return ResponseEntity.status(201).body(accountMapper.toResponse(createdAccount));
     }
     
     @Operation(summary = "Test AOP functionality", description = "Endpoint to demonstrate AOP logging and performance monitoring")
@@ -73,86 +85,93 @@ public class AccountController {
 
     @Operation(summary = "Get account by ID", description = "Retrieves account details by account ID.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Account found", content = @Content(schema = @Schema(implementation = Account.class))),
+            @ApiResponse(responseCode = "200", description = "Account found", content = @Content(schema = @Schema(implementation = AccountResponse.class))),
             @ApiResponse(responseCode = "404", description = "Account not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Account> getAccountById(
+    public ResponseEntity<AccountResponse> getAccountById(
             @Parameter(description = "ID of the account to retrieve", required = true)
             @PathVariable Long id) {
         return accountService.getAccountById(id)
+                .map(accountMapper::toResponse)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Get all accounts", description = "Fetches all bank accounts.")
-    @ApiResponse(responseCode = "200", description = "List of accounts retrieved", content = @Content(schema = @Schema(implementation = Account.class)))
-    @GetMapping
-    public ResponseEntity<List<Account>> getAllAccounts() {
-        List<Account> accounts = accountService.getAllAccounts();
-        return ResponseEntity.ok(accounts);
+    @Operation(summary = "Get all accounts",
+            description = "Fetches all bank accounts, streamed as a JSON array, or as NDJSON, CBOR or Smile when requested with Accept: application/x-ndjson, application/cbor or application/x-jackson-smile.")
+    @ApiResponse(responseCode = "200", description = "List of accounts retrieved", content = @Content(schema = @Schema(implementation = AccountResponse.class)))
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, JsonStreamFormat.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> getAllAccounts(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingJsonWriter.response(JsonStreamFormat.fromAccept(accept), sink -> {
+            long total = accountService.streamAllAccounts(account -> sink.write(accountMapper.toResponse(account)));
+            logger.info("Total accounts streamed: {}", total);
+        });
     }
 
     @Operation(summary = "Get accounts by status", description = "Fetches accounts by their status.")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Account>> getAccountsByStatus(
+    public ResponseEntity<List<AccountResponse>> getAccountsByStatus(
             @Parameter(description = "Status of the accounts to fetch", required = true)
             @PathVariable String status) {
         List<Account> accounts = accountService.getAccountsByStatus(status);
-        return ResponseEntity.ok(accounts);
+        return ResponseEntity.ok(accountMapper.toResponses(accounts));
     }
 
     @Operation(summary = "Get accounts with balance less than a specified amount", description = "Fetches accounts whose balance is less than the given amount.")
     @GetMapping("/balance/lessThan/{balance}")
-    public ResponseEntity<List<Account>> getAccountsByBalanceLessThan(
+    public ResponseEntity<List<AccountResponse>> getAccountsByBalanceLessThan(
             @Parameter(description = "Maximum balance threshold", required = true)
             @PathVariable BigDecimal balance) {
         List<Account> accounts = accountService.getAccountsByBalanceLessThan(balance);
-        return ResponseEntity.ok(accounts);
+        return ResponseEntity.ok(accountMapper.toResponses(accounts));
     }
 
     @Operation(summary = "Get accounts by currency code", description = "Fetches accounts with a specific currency code.")
     @GetMapping("/currency/{currencyCode}")
-    public ResponseEntity<List<Account>> getAccountsByCurrencyCode(
+    public ResponseEntity<List<AccountResponse>> getAccountsByCurrencyCode(
             @Parameter(description = "Currency code of the accounts to fetch", required = true)
             @PathVariable String currencyCode) {
         List<Account> accounts = accountService.getAccountsByCurrencyCode(currencyCode);
-        return ResponseEntity.ok(accounts);
+        return ResponseEntity.ok(accountMapper.toResponses(accounts));
     }
 
     @Operation(summary = "Get accounts created within a date range", description = "Fetches accounts created between the specified start and end dates.")
     @GetMapping("/createdAtBetween")
-    public ResponseEntity<List<Account>> getAccountsByCreatedAtBetween(
+    public ResponseEntity<List<AccountResponse>> getAccountsByCreatedAtBetween(
             @Parameter(description = "Start date of the range", required = true)
             @RequestParam LocalDateTime startDate,
             @Parameter(description = "End date of the range", required = true)
             @RequestParam LocalDateTime endDate) {
         List<Account> accounts = accountService.getAccountsByCreatedAtBetween(startDate, endDate);
-        return ResponseEntity.ok(accounts);
+        return ResponseEntity.ok(accountMapper.toResponses(accounts));
     }
 
     @Operation(summary = "Get accounts updated after a specific date", description = "Fetches accounts updated after the specified date.")
     @GetMapping("/updatedAtAfter/{updatedAt}")
-    public ResponseEntity<List<Account>> getAccountsByUpdatedAtAfter(
+    public ResponseEntity<List<AccountResponse>> getAccountsByUpdatedAtAfter(
             @Parameter(description = "Date to filter accounts updated after", required = true)
             @PathVariable LocalDateTime updatedAt) {
         List<Account> accounts = accountService.getAccountsByUpdatedAtAfter(updatedAt);
-        return ResponseEntity.ok(accounts);
+        return ResponseEntity.ok(accountMapper.toResponses(accounts));
     }
 
     @Operation(summary = "Get account by name", description = "Fetches an account by its name.")
     @GetMapping("/name/{name}")
-    public ResponseEntity<Account> getAccountByName(
+    public ResponseEntity<AccountResponse> getAccountByName(
             @Parameter(description = "Name of the account to fetch", required = true)
             @PathVariable String name) {
         return accountService.getAccountByName(name)
+                .map(accountMapper::toResponse)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @Operation(summary = "Update an account", description = "Updates the details of an existing account by ID.")
     @PutMapping("/{id}")
-    public ResponseEntity<Account> updateAccount(
+    public ResponseEntity<AccountResponse> updateAccount(
             @Parameter(description = "ID of the account to update", required = true)
             @PathVariable Long id,
             @RequestBody(description = "Updated account details", required = true,
@@ -160,7 +179,7 @@ public class AccountController {
             @org.springframework.web.bind.annotation.RequestBody Account account) {
         Account updatedAccount = accountService.updateAccount(id, account);
         if (updatedAccount != null) {
-            return ResponseEntity.ok(updatedAccount);
+            return ResponseEntity.ok(accountMapper.toResponse(updatedAccount));
         } else {
             return ResponseEntity.notFound().build();
         }
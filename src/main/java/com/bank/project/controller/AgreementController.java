@@ -1,7 +1,9 @@
 package com.bank.project.controller;
 
+import com.bank.project.dto.AgreementResponse;
 import com.bank.project.entity.Agreement;
 import com.bank.project.service.AgreementService;
+import com.bank.project.service.mapper.AgreementMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,29 +23,31 @@ public class AgreementController {
 
     private static final Logger logger = LoggerFactory.getLogger(AgreementController.class);
     private final AgreementService agreementService;
+    private final AgreementMapper agreementMapper;
 
     @Autowired
-    public AgreementController(AgreementService agreementService) {
+    public AgreementController(AgreementService agreementService, AgreementMapper agreementMapper) {
         this.agreementService = agreementService;
+        this.agreementMapper = agreementMapper;
     }
 
     @Operation(summary = "Create a new agreement", description = "Creates a new agreement for a specific account.")
     @PostMapping
-    public ResponseEntity<Agreement> createAgreement(@RequestBody Agreement agreement) {
+    public ResponseEntity<AgreementResponse> createAgreement(@RequestBody Agreement agreement) {
         logger.info("Creating new agreement for account ID: {}", agreement.getAccountId()); // передаем аргумент
         Agreement createdAgreement = agreementService.createAgreement(agreement);
         logger.info("Agreement created with ID: {}", createdAgreement.getId()); // передаем аргумент
-        return ResponseEntity.ok(createdAgreement);
+        return ResponseEntity.ok(agreementMapper.toResponse(createdAgreement));
     }
 
     @Operation(summary = "Get agreement by ID", description = "Retrieves an agreement by its ID.")
     @GetMapping("/{id}")
-    public ResponseEntity<Agreement> getAgreementById(@Parameter(description = "ID of the agreement to retrieve") @PathVariable Long id) {
+    public ResponseEntity<AgreementResponse> getAgreementById(@Parameter(description = "ID of the agreement to retrieve") @PathVariable Long id) {
         logger.info("Fetching agreement with ID: {}", id); // передаем аргумент
         Agreement agreement = agreementService.getAgreementById(id);
         if (agreement != null) {
             logger.info("Agreement found with ID: {}", id); // передаем аргумент
-            return ResponseEntity.ok(agreement);
+            return ResponseEntity.ok(agreementMapper.toResponse(agreement));
         } else {
             logger.warn("Agreement with ID: {} not found", id); // передаем аргумент
             return ResponseEntity.notFound().build();
@@ -52,79 +56,79 @@ public class AgreementController {
 
     @Operation(summary = "Get all agreements", description = "Fetches all agreements.")
     @GetMapping
-    public ResponseEntity<List<Agreement>> getAllAgreements() {
+    public ResponseEntity<List<AgreementResponse>> getAllAgreements() {
         logger.info("Fetching all agreements.");
         List<Agreement> agreements = agreementService.getAllAgreements();
-        return ResponseEntity.ok(agreements);
+        return ResponseEntity.ok(agreementMapper.toResponses(agreements));
     }
 
     @Operation(summary = "Get agreements by status", description = "Fetches agreements based on their status.")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Agreement>> getAgreementsByStatus(@Parameter(description = "Status of the agreements to retrieve") @PathVariable String status) {
+    public ResponseEntity<List<AgreementResponse>> getAgreementsByStatus(@Parameter(description = "Status of the agreements to retrieve") @PathVariable String status) {
         logger.info("Fetching agreements with status: {}", status); // передаем аргумент
         List<Agreement> agreements = agreementService.getAgreementsByStatus(status);
-        return ResponseEntity.ok(agreements);
+        return ResponseEntity.ok(agreementMapper.toResponses(agreements));
     }
 
     @Operation(summary = "Get agreements by account ID", description = "Fetches agreements based on the associated account ID.")
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<Agreement>> getAgreementsByAccountId(@Parameter(description = "Account ID associated with the agreements") @PathVariable Long accountId) {
+    public ResponseEntity<List<AgreementResponse>> getAgreementsByAccountId(@Parameter(description = "Account ID associated with the agreements") @PathVariable Long accountId) {
         logger.info("Fetching agreements for account ID: {}", accountId); // передаем аргумент
         List<Agreement> agreements = agreementService.getAgreementsByAccountId(accountId);
-        return ResponseEntity.ok(agreements);
+        return ResponseEntity.ok(agreementMapper.toResponses(agreements));
     }
 
     @Operation(summary = "Get agreements by product ID", description = "Fetches agreements based on the associated product ID.")
     @GetMapping("/product/{productId}")
-    public ResponseEntity<List<Agreement>> getAgreementsByProductId(@Parameter(description = "Product ID associated with the agreements") @PathVariable Long productId) {
+    public ResponseEntity<List<AgreementResponse>> getAgreementsByProductId(@Parameter(description = "Product ID associated with the agreements") @PathVariable Long productId) {
         logger.info("Fetching agreements for product ID: {}", productId); // передаем аргумент
         List<Agreement> agreements = agreementService.getAgreementsByProductId(productId);
-        return ResponseEntity.ok(agreements);
+        return ResponseEntity.ok(agreementMapper.toResponses(agreements));
     }
 
     @Operation(summary = "Get agreements by interest rate", description = "Fetches agreements based on the specified interest rate.")
     @GetMapping("/interest-rate/{interestRate}")
-    public ResponseEntity<List<Agreement>> getAgreementsByInterestRate(@Parameter(description = "Interest rate of the agreements") @PathVariable Double interestRate) {
+    public ResponseEntity<List<AgreementResponse>> getAgreementsByInterestRate(@Parameter(description = "Interest rate of the agreements") @PathVariable Double interestRate) {
         logger.info("Fetching agreements with interest rate: {}", interestRate); // передаем аргумент
         List<Agreement> agreements = agreementService.getAgreementsByInterestRate(interestRate);
-        return ResponseEntity.ok(agreements);
+        return ResponseEntity.ok(agreementMapper.toResponses(agreements));
     }
 
     @Operation(summary = "Get agreements by sum", description = "Fetches agreements based on the specified sum.")
     @GetMapping("/sum/{sum}")
-    public ResponseEntity<List<Agreement>> getAgreementsBySum(@Parameter(description = "Sum associated with the agreements") @PathVariable Double sum) {
+    public ResponseEntity<List<AgreementResponse>> getAgreementsBySum(@Parameter(description = "Sum associated with the agreements") @PathVariable Double sum) {
         logger.info("Fetching agreements with sum: {}", sum); // передаем аргумент
         List<Agreement> agreements = agreementService.getAgreementsBySum(sum);
-        return ResponseEntity.ok(agreements);
+        return ResponseEntity.ok(agreementMapper.toResponses(agreements));
     }
 
     @Operation(summary = "Get agreements created within a date range", description = "Fetches agreements created between the specified start and end dates.")
     @GetMapping("/created-between")
-    public ResponseEntity<List<Agreement>> getAgreementsByCreatedAtBetween(
+    public ResponseEntity<List<AgreementResponse>> getAgreementsByCreatedAtBetween(
             @Parameter(description = "Start date of the range") @RequestParam LocalDateTime startDate,
             @Parameter(description = "End date of the range") @RequestParam LocalDateTime endDate) {
         logger.info("Fetching agreements created between {} and {}", startDate, endDate); // передаем аргументы
         List<Agreement> agreements = agreementService.getAgreementsByCreatedAtBetween(startDate, endDate);
-        return ResponseEntity.ok(agreements);
+        return ResponseEntity.ok(agreementMapper.toResponses(agreements));
     }
 
     @Operation(summary = "Get agreements updated after a specific date", description = "Fetches agreements updated after the specified date.")
     @GetMapping("/updated-after")
-    public ResponseEntity<List<Agreement>> getAgreementsByUpdatedAtAfter(
+    public ResponseEntity<List<AgreementResponse>> getAgreementsByUpdatedAtAfter(
             @Parameter(description = "Date to filter agreements updated after") @RequestParam LocalDateTime updatedAt) {
         logger.info("Fetching agreements updated after: {}", updatedAt); // передаем аргумент
         List<Agreement> agreements = agreementService.getAgreementsByUpdatedAtAfter(updatedAt);
-        return ResponseEntity.ok(agreements);
+        return ResponseEntity.ok(agreementMapper.toResponses(agreements));
     }
 
     @Operation(summary = "Update an agreement", description = "Updates an existing agreement by its ID.")
     @PutMapping("/{id}")
-    public ResponseEntity<Agreement> updateAgreement(@Parameter(description = "ID of the agreement to update") @PathVariable Long id, @RequestBody Agreement agreement) {
+    public ResponseEntity<AgreementResponse> updateAgreement(@Parameter(description = "ID of the agreement to update") @PathVariable Long id, @RequestBody Agreement agreement) {
         logger.info("Updating agreement with ID: {}", id); // передаем аргумент
         Agreement updatedAgreement = agreementService.updateAgreement(id, agreement);
         if (updatedAgreement != null) {
             logger.info("Agreement with ID: {} updated successfully", id); // передаем аргумент
-            return ResponseEntity.ok(updatedAgreement);
+            return ResponseEntity.ok(agreementMapper.toResponse(updatedAgreement));
         } else {
             logger.warn("Agreement with ID: {} not found for update", id); // передаем аргумент
             return ResponseEntity.notFound().build();
@@ -0,0 +1,62 @@
+package com.bank.project.controller;
+
+import com.bank.project.dto.ChangeFeedResponse;
+import com.bank.project.service.changes.ChangeFeedEntity;
+import com.bank.project.service.changes.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Change feed", description = "Incremental sync of accounts, agreements, clients and transactions")
+public class ChangeFeedController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedController.class);
+
+    private final ChangeFeedService changeFeedService;
+
+    @Autowired
+    public ChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @Operation(summary = "Read a change feed",
+            description = "Returns rows changed after the cursor in (updated_at, id) order. "
+                    + "Feeds: accounts, agreements, clients, transactions. With waitSeconds the request "
+                    + "is held until changes appear or the wait ends (at most 25 seconds).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes after the cursor, possibly none"),
+            @ApiResponse(responseCode = "400", description = "Unknown feed or invalid cursor")
+    })
+    @GetMapping("/{feed}")
+    public CompletableFuture<ResponseEntity<ChangeFeedResponse<?>>> getChanges(
+            @Parameter(description = "Feed name") @PathVariable String feed,
+            @Parameter(description = "Cursor from the previous batch; omit to start from the beginning")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum rows in the batch") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Seconds to wait for changes when there are none")
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+        ChangeFeedEntity entity = ChangeFeedEntity.fromPath(feed);
+        logger.debug("Change feed {} requested after {}, wait {}s", entity, cursor, waitSeconds);
+        if (waitSeconds <= 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(changeFeedService.poll(entity, cursor, limit)));
+        }
+        return changeFeedService.awaitChanges(entity, cursor, limit, Duration.ofSeconds(waitSeconds))
+                .thenApply(ResponseEntity::ok);
+    }
+}
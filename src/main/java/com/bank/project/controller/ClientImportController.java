@@ -0,0 +1,67 @@
+package com.bank.project.controller;
+
+import com.bank.project.dto.ClientImportReport;
+import com.bank.project.exception.ResourceNotFoundException;
+import com.bank.project.service.importing.ClientImportFormat;
+import com.bank.project.service.importing.ClientImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/clients/import")
+@Tag(name = "Client import", description = "Bulk client onboarding")
+public class ClientImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientImportController.class);
+
+    private final ClientImportService clientImportService;
+
+    @Autowired
+    public ClientImportController(ClientImportService clientImportService) {
+        this.clientImportService = clientImportService;
+    }
+
+    @Operation(summary = "Import clients", description = "Streams a CSV (text/csv) or NDJSON (application/x-ndjson) upload and creates clients in batches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see the report for rejected rows"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format, bad header or duplicate job id")
+    })
+    @PostMapping(consumes = {ClientImportFormat.TEXT_CSV, ClientImportFormat.APPLICATION_NDJSON})
+    public ResponseEntity<ClientImportReport> importClients(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(description = "Optional job id to poll progress with while the upload is running")
+            @RequestParam(required = false) String jobId,
+            InputStream body) {
+        ClientImportFormat format = ClientImportFormat.fromContentType(contentType);
+        logger.info("Received client import upload, format {}", format);
+        return ResponseEntity.ok(clientImportService.importClients(body, format, jobId));
+    }
+
+    @Operation(summary = "Get import progress", description = "Returns progress and row-level errors of an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ClientImportReport> getImport(@PathVariable String jobId) {
+        return ResponseEntity.ok(clientImportService.getReport(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job", "id", jobId)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.project.controller;
+
+import com.bank.project.dto.ClientOverviewResponse;
+import com.bank.project.service.overview.ClientOverviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/clients")
+@Tag(name = "Client", description = "Endpoints for managing clients")
+public class ClientOverviewController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientOverviewController.class);
+
+    private final ClientOverviewService clientOverviewService;
+
+    @Autowired
+    public ClientOverviewController(ClientOverviewService clientOverviewService) {
+        this.clientOverviewService = clientOverviewService;
+    }
+
+    @Operation(summary = "Client overview",
+            description = "Client with accounts, agreements and recent transactions in one response. "
+                    + "Sections that did not load in time are listed in unavailableSections.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Overview assembled, possibly partial"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<ClientOverviewResponse> getOverview(
+            @Parameter(description = "ID of the client") @PathVariable Long id) {
+        logger.debug("Building overview for client {}", id);
+        return ResponseEntity.ok(clientOverviewService.getOverview(id));
+    }
+}
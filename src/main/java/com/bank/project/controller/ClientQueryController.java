@@ -0,0 +1,121 @@
+package com.bank.project.controller;
+
+import com.bank.project.dto.ClientResponse;
+import com.bank.project.dto.ClientStatusTransitionRequest;
+import com.bank.project.dto.ClientStatusTransitionResponse;
+import com.bank.project.entity.enums.ClientStatus;
+import com.bank.project.exception.InvalidRequestException;
+import com.bank.project.service.ClientService;
+import com.bank.project.service.mapper.ClientMapper;
+import com.bank.project.service.paging.CursorPage;
+import com.bank.project.service.streaming.JsonStreamFormat;
+import com.bank.project.service.streaming.StreamingJsonWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Read-heavy client listings that page by cursor instead of offset, and set-based bulk operations.
+ */
+@RestController
+@RequestMapping("/api/clients")
+@Tag(name = "Client", description = "Endpoints for managing clients")
+public class ClientQueryController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientQueryController.class);
+
+    private final ClientService clientService;
+    private final ClientMapper clientMapper;
+    private final StreamingJsonWriter streamingJsonWriter;
+
+    @Autowired
+    public ClientQueryController(ClientService clientService, ClientMapper clientMapper,
+                                 StreamingJsonWriter streamingJsonWriter) {
+        this.clientService = clientService;
+        this.clientMapper = clientMapper;
+        this.streamingJsonWriter = streamingJsonWriter;
+    }
+
+    @Operation(summary = "Browse clients by cursor",
+            description = "Keyset-paginated client listing. Pass nextCursor from the response to fetch the following page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of clients"),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort field or invalid cursor")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ClientResponse>> getClientsPage(
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort key and direction, e.g. createdAt,desc. Allowed keys: id, createdAt, lastName, email")
+            @RequestParam(defaultValue = "id,asc") String sort) {
+        logger.debug("Fetching clients by cursor, size: {}, sort: {}", size, sort);
+        return ResponseEntity.ok(clientService.getClientsPage(cursor, size, sort).map(clientMapper::toResponse));
+    }
+
+    @Operation(summary = "Get clients by status", description = "Keyset-paginated listing of clients with the given status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of clients"),
+            @ApiResponse(responseCode = "400", description = "Unknown status or invalid cursor")
+    })
+    @GetMapping("/by-status/{status}")
+    public ResponseEntity<CursorPage<ClientResponse>> getClientsByStatus(
+            @Parameter(description = "Client status (ACTIVE, INACTIVE, SUSPENDED, DELETED)") @PathVariable String status,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+        logger.debug("Fetching clients with status {} by cursor, size: {}", status, size);
+        return ResponseEntity.ok(clientService.getClientsByStatus(status, cursor, size).map(clientMapper::toResponse));
+    }
+
+    @Operation(summary = "Export clients by status", description = "Streams every client with the given status as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "NDJSON stream of clients"),
+            @ApiResponse(responseCode = "400", description = "Unknown status")
+    })
+    @GetMapping(value = "/by-status/{status}/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportClientsByStatus(
+            @Parameter(description = "Client status") @PathVariable String status) {
+        // Проверяем статус до начала потока: после отправки 200 ответить 400 уже нельзя
+        ClientStatus clientStatus = clientService.parseStatus(status);
+        logger.info("Exporting clients with status {}", clientStatus);
+        return streamingJsonWriter.response(JsonStreamFormat.NDJSON, sink ->
+                clientService.exportClientsByStatus(clientStatus.name(),
+                        client -> sink.write(clientMapper.toResponse(client))));
+    }
+
+    @Operation(summary = "Bulk status transition",
+            description = "Sets the status of the listed clients, or of every client in fromStatus, in set-based batches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statuses updated"),
+            @ApiResponse(responseCode = "400", description = "Unknown status or neither clientIds nor fromStatus given")
+    })
+    @PostMapping("/status-transitions")
+    public ResponseEntity<ClientStatusTransitionResponse> transitionStatus(
+            @Valid @RequestBody ClientStatusTransitionRequest request) {
+        logger.info("Bulk status transition to {} (from {}, {} ids)", request.getToStatus(), request.getFromStatus(),
+                request.getClientIds() == null ? 0 : request.getClientIds().size());
+        int updated;
+        if (request.getClientIds() != null && !request.getClientIds().isEmpty()) {
+            updated = clientService.updateClientStatus(request.getClientIds(), request.getToStatus());
+        } else if (request.getFromStatus() != null) {
+            updated = clientService.transitionClientStatus(request.getFromStatus(), request.getToStatus());
+        } else {
+            throw new InvalidRequestException("Either clientIds or fromStatus must be provided");
+        }
+        return ResponseEntity.ok(new ClientStatusTransitionResponse(request.getToStatus().toUpperCase(), updated));
+    }
+}
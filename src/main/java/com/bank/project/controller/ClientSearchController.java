@@ -0,0 +1,46 @@
+package com.bank.project.controller;
+
+import com.bank.project.dto.ClientSearchResponse;
+import com.bank.project.service.search.ClientSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/clients/search")
+@Tag(name = "Client search", description = "Fuzzy search over clients")
+public class ClientSearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientSearchController.class);
+
+    private final ClientSearchService clientSearchService;
+
+    @Autowired
+    public ClientSearchController(ClientSearchService clientSearchService) {
+        this.clientSearchService = clientSearchService;
+    }
+
+    @Operation(summary = "Search clients", description = "Ranked fuzzy search over name, email, phone and address with cursor pagination")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results"),
+            @ApiResponse(responseCode = "400", description = "Query too short or invalid cursor")
+    })
+    @GetMapping
+    public ResponseEntity<ClientSearchResponse> search(
+            @Parameter(description = "Search text") @RequestParam String q,
+            @Parameter(description = "Page size") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor) {
+        logger.debug("Searching clients: q={}, limit={}", q, limit);
+        return ResponseEntity.ok(clientSearchService.search(q, limit, cursor));
+    }
+}
@@ -1,17 +1,23 @@
 package com.bank.project.controller;
 
+import com.bank.project.dto.BulkConversionRequest;
+import com.bank.project.dto.BulkConversionResponse;
 import com.bank.project.entity.Currency;
 import com.bank.project.service.CurrencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -40,6 +46,47 @@ public class CurrencyController {
         return ResponseEntity.ok(createdCurrency);
     }
 
+    @Operation(summary = "Convert an amount", description = "Converts an amount between two currencies using the in-memory rate table")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Amount converted"),
+            @ApiResponse(responseCode = "404", description = "Currency with code not found")
+    })
+    @GetMapping("/convert")
+    public ResponseEntity<BigDecimal> convert(
+            @Parameter(description = "Amount in the source currency") @RequestParam BigDecimal amount,
+            @Parameter(description = "Source currency code") @RequestParam String from,
+            @Parameter(description = "Target currency code") @RequestParam String to,
+            @Parameter(description = "Convert at the rates in effect at this moment (ISO date-time); current rates if omitted")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        logger.debug("Converting {} from {} to {} as of {}", amount, from, to, asOf);
+        return ResponseEntity.ok(currencyService.convertAsOf(amount, from, to, asOf));
+    }
+
+    @Operation(summary = "Get historical rate", description = "Returns the exchange rate of a currency in effect at the given moment")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rate found"),
+            @ApiResponse(responseCode = "404", description = "Currency with code not found")
+    })
+    @GetMapping("/code/{code}/rate")
+    public ResponseEntity<Double> getRateAsOf(
+            @Parameter(description = "Currency code") @PathVariable String code,
+            @Parameter(description = "Moment in ISO date-time format")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        logger.debug("Fetching rate of {} as of {}", code, asOf);
+        return ResponseEntity.ok(currencyService.rateAsOf(code, asOf));
+    }
+
+    @Operation(summary = "Convert amounts in bulk", description = "Converts arrays of amounts in mixed currencies into one target currency")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Amounts converted"),
+            @ApiResponse(responseCode = "404", description = "Currency with code not found")
+    })
+    @PostMapping("/convert/bulk")
+    public ResponseEntity<BulkConversionResponse> convertBulk(@Valid @RequestBody BulkConversionRequest request) {
+        logger.info("Bulk converting {} amounts to {}", request.getAmounts().length, request.getTargetCurrency());
+        return ResponseEntity.ok(currencyService.convertBulk(request));
+    }
+
     @Operation(summary = "Get currency by ID", description = "Fetches a currency by its unique ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Currency found"),
@@ -1,7 +1,11 @@
 package com.bank.project.controller;
 
+import com.bank.project.dto.ProductResponse;
 import com.bank.project.entity.Product;
 import com.bank.project.service.ProductService;
+import com.bank.project.service.mapper.ProductMapper;
+import com.bank.project.service.streaming.JsonStreamFormat;
+import com.bank.project.service.streaming.StreamingJsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,8 +13,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -22,10 +29,15 @@ public class ProductController {
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
 
     private final ProductService productService;
+    private final ProductMapper productMapper;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     @Autowired
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductMapper productMapper,
+                             StreamingJsonWriter streamingJsonWriter) {
         this.productService = productService;
+        this.productMapper = productMapper;
+        this.streamingJsonWriter = streamingJsonWriter;
     }
 
     @Operation(summary = "Create a new product", description = "Create a new product and return the created product")
@@ -34,11 +46,11 @@ public class ProductController {
             @ApiResponse(responseCode = "400", description = "Invalid product data")
     })
     @PostMapping
-    public ResponseEntity<Product> createProduct(@RequestBody Product product) {
+    public ResponseEntity<ProductResponse> createProduct(@RequestBody Product product) {
         logger.info("Request to create a new product: {}", product);
         Product createdProduct = productService.createProduct(product);
         logger.info("Product created successfully with ID: {}", createdProduct.getId());
-        return ResponseEntity.ok(createdProduct);
+        return ResponseEntity.ok(productMapper.toResponse(createdProduct));
     }
 
     @Operation(summary = "Get a product by ID", description = "Fetch a product by its ID")
@@ -47,29 +59,33 @@ public class ProductController {
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(
+    public ResponseEntity<ProductResponse> getProductById(
             @Parameter(description = "ID of the product to be fetched") @PathVariable Long id) {
         logger.info("Request to fetch product with ID: {}", id);
         Product product = productService.getProductById(id);
         if (product != null) {
             logger.info("Product found: {}", product);
-            return ResponseEntity.ok(product);
+            return ResponseEntity.ok(productMapper.toResponse(product));
         } else {
             logger.warn("Product with ID: {} not found", id);
             return ResponseEntity.notFound().build();
         }
     }
 
-    @Operation(summary = "Get all products", description = "Fetch a list of all products")
+    @Operation(summary = "Get all products",
+            description = "Fetch a list of all products, streamed as a JSON array, or as NDJSON, CBOR or Smile when requested with Accept: application/x-ndjson, application/cbor or application/x-jackson-smile")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Products fetched successfully")
     })
-    @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, JsonStreamFormat.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> getAllProducts(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         logger.info("Request to fetch all products");
-        List<Product> products = productService.getAllProducts();
-        logger.info("Total products fetched: {}", products.size());
-        return ResponseEntity.ok(products);
+        return streamingJsonWriter.response(JsonStreamFormat.fromAccept(accept), sink -> {
+            long total = productService.streamAllProducts(product -> sink.write(productMapper.toResponse(product)));
+            logger.info("Total products streamed: {}", total);
+        });
     }
 
     @Operation(summary = "Update a product", description = "Update the details of a product by its ID")
@@ -78,14 +94,14 @@ public class ProductController {
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<Product> updateProduct(
+    public ResponseEntity<ProductResponse> updateProduct(
             @Parameter(description = "ID of the product to be updated") @PathVariable Long id,
             @RequestBody Product product) {
         logger.info("Request to update product with ID: {}", id);
         Product updatedProduct = productService.updateProduct(id, product);
         if (updatedProduct != null) {
             logger.info("Product updated successfully: {}", updatedProduct);
-            return ResponseEntity.ok(updatedProduct);
+            return ResponseEntity.ok(productMapper.toResponse(updatedProduct));
         } else {
             logger.warn("Product with ID: {} not found for update", id);
             return ResponseEntity.notFound().build();
@@ -115,11 +131,11 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Products fetched successfully")
     })
     @GetMapping("/filter/status/{status}")
-    public ResponseEntity<List<Product>> getProductsByStatus(@PathVariable String status) {
+    public ResponseEntity<List<ProductResponse>> getProductsByStatus(@PathVariable String status) {
         logger.info("Request to fetch products with status: {}", status);
         List<Product> products = productService.findProductsByStatus(status);
         logger.info("Products found with status {}: {}", status, products.size());
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(productMapper.toResponses(products));
     }
 
     @Operation(summary = "Get products by currency code", description = "Fetch products by their currency code")
@@ -127,11 +143,11 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Products fetched successfully")
     })
     @GetMapping("/filter/currency/{currencyCode}")
-    public ResponseEntity<List<Product>> getProductsByCurrencyCode(@PathVariable String currencyCode) {
+    public ResponseEntity<List<ProductResponse>> getProductsByCurrencyCode(@PathVariable String currencyCode) {
         logger.info("Request to fetch products with currency code: {}", currencyCode);
         List<Product> products = productService.findProductsByCurrencyCode(currencyCode);
         logger.info("Products found with currency code {}: {}", currencyCode, products.size());
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(productMapper.toResponses(products));
     }
 
     @Operation(summary = "Get products by interest rate", description = "Fetch products by their interest rate")
@@ -139,11 +155,11 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Products fetched successfully")
     })
     @GetMapping("/filter/interestRate/{interestRate}")
-    public ResponseEntity<List<Product>> getProductsByInterestRate(@PathVariable Double interestRate) {
+    public ResponseEntity<List<ProductResponse>> getProductsByInterestRate(@PathVariable Double interestRate) {
         logger.info("Request to fetch products with interest rate: {}", interestRate);
         List<Product> products = productService.findProductsByInterestRate(BigDecimal.valueOf(interestRate));
         logger.info("Products found with interest rate {}: {}", interestRate, products.size());
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(productMapper.toResponses(products));
     }
 
     @Operation(summary = "Get products by credit limit", description = "Fetch products by their credit limit")
@@ -151,11 +167,11 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Products fetched successfully")
     })
     @GetMapping("/filter/creditLimit/{creditLimit}")
-    public ResponseEntity<List<Product>> getProductsByCreditLimit(@PathVariable Double creditLimit) {
+    public ResponseEntity<List<ProductResponse>> getProductsByCreditLimit(@PathVariable Double creditLimit) {
         logger.info("Request to fetch products with credit limit: {}", creditLimit);
         List<Product> products = productService.findProductsByCreditLimit(BigDecimal.valueOf(creditLimit));
         logger.info("Products found with credit limit {}: {}", creditLimit, products.size());
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(productMapper.toResponses(products));
     }
 
     @Operation(summary = "Get products by status and currency code", description = "Fetch products by their status and currency code")
@@ -163,13 +179,13 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Products fetched successfully")
     })
     @GetMapping("/filter/status/{status}/currency/{currencyCode}")
-    public ResponseEntity<List<Product>> getProductsByStatusAndCurrencyCode(
+    public ResponseEntity<List<ProductResponse>> getProductsByStatusAndCurrencyCode(
             @PathVariable String status,
             @PathVariable String currencyCode) {
         logger.info("Request to fetch products with status: {} and currency code: {}", status, currencyCode);
         List<Product> products = productService.findProductsByStatusAndCurrencyCode(status, currencyCode);
         logger.info("Products found with status {} and currency code {}: {}", status, currencyCode, products.size());
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(productMapper.toResponses(products));
     }
 
     @Operation(summary = "Get products by status and interest rate", description = "Fetch products by their status and interest rate")
@@ -177,13 +193,13 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Products fetched successfully")
     })
     @GetMapping("/filter/status/{status}/interestRate/{interestRate}")
-    public ResponseEntity<List<Product>> getProductsByStatusAndInterestRate(
+    public ResponseEntity<List<ProductResponse>> getProductsByStatusAndInterestRate(
             @PathVariable String status,
             @PathVariable Double interestRate) {
         logger.info("Request to fetch products with status: {} and interest rate: {}", status, interestRate);
         List<Product> products = productService.findProductsByStatusAndInterestRate(status, interestRate);
         logger.info("Products found with status {} and interest rate {}: {}", status, interestRate, products.size());
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(productMapper.toResponses(products));
     }
 
     @Operation(summary = "Get a product by name", description = "Fetch a product by its name")
@@ -192,12 +208,12 @@ public class ProductController {
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @GetMapping("/name/{name}")
-    public ResponseEntity<Product> getProductByName(@PathVariable String name) {
+    public ResponseEntity<ProductResponse> getProductByName(@PathVariable String name) {
         logger.info("Request to fetch product with name: {}", name);
         Product product = productService.findProductByName(name);
         if (product != null) {
             logger.info("Product found: {}", product);
-            return ResponseEntity.ok(product);
+            return ResponseEntity.ok(productMapper.toResponse(product));
         } else {
             logger.warn("Product with name: {} not found", name);
             return ResponseEntity.notFound().build();
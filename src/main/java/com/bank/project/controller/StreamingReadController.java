@@ -0,0 +1,86 @@
+package com.bank.project.controller;
+
+import com.bank.project.service.streaming.JsonStreamFormat;
+import com.bank.project.service.streaming.PageWriter;
+import com.bank.project.service.streaming.StreamingJsonWriter;
+import com.bank.project.service.streaming.StreamingReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/stream")
+@Tag(name = "Streaming reads", description = "Date-range queries streamed as NDJSON, one object per line")
+public class StreamingReadController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingReadController.class);
+
+    private final StreamingReadService streamingReadService;
+    private final StreamingJsonWriter streamingJsonWriter;
+
+    @Autowired
+    public StreamingReadController(StreamingReadService streamingReadService,
+                                   StreamingJsonWriter streamingJsonWriter) {
+        this.streamingReadService = streamingReadService;
+        this.streamingJsonWriter = streamingJsonWriter;
+    }
+
+    @Operation(summary = "Stream transactions by date range",
+            description = "Same rows as /api/transactions/filter-by-date-range, in creation order, written page by page "
+                    + "without holding a request thread or a database connection for the whole response")
+    @ApiResponse(responseCode = "200", description = "Transactions as NDJSON")
+    @GetMapping(value = "/transactions", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactions(
+            @Parameter(description = "Start date of the date range") @RequestParam LocalDateTime startDate,
+            @Parameter(description = "End date of the date range") @RequestParam LocalDateTime endDate) {
+        logger.info("Streaming transactions from {} to {}", startDate, endDate);
+        return ndjson(writer -> streamingReadService.streamTransactionsCreatedBetween(startDate, endDate, writer));
+    }
+
+    @Operation(summary = "Stream accounts created within a date range",
+            description = "Same rows as /api/accounts/createdAtBetween, in creation order, as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Accounts as NDJSON"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid date")
+    })
+    @GetMapping(value = "/accounts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAccounts(
+            @Parameter(description = "Start of the range", required = true) @RequestParam LocalDateTime startDate,
+            @Parameter(description = "End of the range", required = true) @RequestParam LocalDateTime endDate) {
+        logger.info("Streaming accounts from {} to {}", startDate, endDate);
+        return ndjson(writer -> streamingReadService.streamAccountsCreatedBetween(startDate, endDate, writer));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(PageSource source) {
+        return streamingJsonWriter.response(JsonStreamFormat.NDJSON, sink -> {
+            long rows = source.writeTo(page -> {
+                for (Object item : page) {
+                    sink.write(item);
+                }
+                // Страница уходит клиенту до чтения следующей
+                sink.flush();
+            });
+            logger.debug("Streamed {} rows", rows);
+        });
+    }
+
+    @FunctionalInterface
+    private interface PageSource {
+        long writeTo(PageWriter<Object> writer) throws IOException;
+    }
+}
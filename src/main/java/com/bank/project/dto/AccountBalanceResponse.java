@@ -0,0 +1,20 @@
+package com.bank.project.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Ledger balance of an account at {@link #asOf}: the nearest end-of-day snapshot before it
+ * ({@code null} if there is none) plus the transactions booked since.
+ */
+@Data
+public class AccountBalanceResponse {
+    private Long accountId;
+    private LocalDateTime asOf;
+    private BigDecimal balance;
+    private LocalDate snapshotDate;
+    private BigDecimal changeSinceSnapshot;
+}
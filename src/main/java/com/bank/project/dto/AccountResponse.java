@@ -0,0 +1,27 @@
+package com.bank.project.dto;
+
+import com.bank.project.entity.AccountStatus;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for account endpoints, filled in by the generated AccountMapper.
+ * Built from an account whose client was fetched in the same query,
+ * so serialization never touches a lazy association.
+ */
+@Data
+public class AccountResponse {
+    private Long id;
+    private String accountNumber;
+    private Long clientId;
+    private String clientFullName;
+    private String name;
+    private String type;
+    private AccountStatus status;
+    private BigDecimal balance;
+    private Integer currencyCode;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
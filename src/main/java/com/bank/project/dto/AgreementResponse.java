@@ -0,0 +1,24 @@
+package com.bank.project.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for agreement list and filter endpoints.
+ * Flattens the account and product references into ids and display fields.
+ */
+@Data
+public class AgreementResponse {
+    private Long id;
+    private Long accountId;
+    private String accountNumber;
+    private Long clientId;
+    private Long productId;
+    private String productName;
+    private Double interestRate;
+    private String status;
+    private Double sum;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.bank.project.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkConversionRequest {
+    @NotNull(message = "Amounts are required")
+    private double[] amounts;
+
+    @NotNull(message = "Currency codes are required")
+    private String[] currencyCodes;
+
+    @NotBlank(message = "Target currency is required")
+    private String targetCurrency;
+}
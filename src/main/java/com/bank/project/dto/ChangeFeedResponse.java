@@ -0,0 +1,21 @@
+package com.bank.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One batch of a change feed. {@code nextCursor} is always set: pass it back to continue from this
+ * batch, even when it is empty. {@code hasMore} tells the consumer it can poll again immediately.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse<T> {
+    private String feed;
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
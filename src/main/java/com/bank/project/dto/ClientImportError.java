@@ -0,0 +1,14 @@
+package com.bank.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientImportError {
+    private long line;
+    private String field;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package com.bank.project.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class ClientImportReport {
+    private String jobId;
+    private String status;
+    private String format;
+    private long processed;
+    private long imported;
+    private long rejected;
+    // Ошибки по строкам; список ограничен, счётчик rejected — полный
+    private List<ClientImportError> errors;
+    private boolean errorsTruncated;
+    private String failureMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,19 @@
+package com.bank.project.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client 360 view: the client with their accounts, agreements and latest transactions.
+ * Sections that did not load in time are {@code null} and listed in {@link #unavailableSections}.
+ */
+@Data
+public class ClientOverviewResponse {
+    private ClientResponse client;
+    private List<AccountResponse> accounts;
+    private List<AgreementResponse> agreements;
+    private List<TransactionResponse> recentTransactions;
+    private List<String> unavailableSections = new ArrayList<>();
+}
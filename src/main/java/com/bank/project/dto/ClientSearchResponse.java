@@ -0,0 +1,16 @@
+package com.bank.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientSearchResponse {
+    private List<ClientSearchResult> items;
+    // Токен следующей страницы; null, если результатов больше нет
+    private String nextCursor;
+}
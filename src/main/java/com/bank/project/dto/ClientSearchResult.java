@@ -0,0 +1,29 @@
+package com.bank.project.dto;
+
+import com.bank.project.repository.ClientSearchHit;
+import lombok.Data;
+
+@Data
+public class ClientSearchResult {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String address;
+    private String status;
+    private Float score;
+
+    public static ClientSearchResult fromHit(ClientSearchHit hit) {
+        ClientSearchResult result = new ClientSearchResult();
+        result.setId(hit.getId());
+        result.setFirstName(hit.getFirstName());
+        result.setLastName(hit.getLastName());
+        result.setEmail(hit.getEmail());
+        result.setPhone(hit.getPhone());
+        result.setAddress(hit.getAddress());
+        result.setStatus(hit.getStatus());
+        result.setScore(hit.getScore());
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package com.bank.project.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientStatusTransitionRequest {
+    // Либо явный список клиентов, либо все клиенты в статусе fromStatus
+    private List<Long> clientIds;
+
+    private String fromStatus;
+
+    @NotBlank(message = "Target status is required")
+    private String toStatus;
+}
@@ -0,0 +1,13 @@
+package com.bank.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientStatusTransitionResponse {
+    private String toStatus;
+    private int updated;
+}
@@ -0,0 +1,32 @@
+package com.bank.project.dto;
+
+import com.bank.project.entity.Manager;
+import com.bank.project.entity.enums.ProductStatus;
+import com.bank.project.entity.enums.ProductType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for product endpoints, filled in by the generated ProductMapper.
+ * Exposes the owning manager as plain fields instead of the lazy {@link Manager} proxy.
+ */
+@Data
+public class ProductResponse {
+    private Long id;
+    private Long managerId;
+    private String managerFullName;
+    private String name;
+    private String description;
+    private ProductStatus status;
+    private ProductType type;
+    private String currencyCode;
+    private BigDecimal interestRate;
+    private BigDecimal creditLimit;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
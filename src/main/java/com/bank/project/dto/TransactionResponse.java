@@ -0,0 +1,19 @@
+package com.bank.project.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for transaction endpoints.
+ */
+@Data
+public class TransactionResponse {
+    private Long id;
+    private Long debitAccountId;
+    private Long creditAccountId;
+    private String type;
+    private Double amount;
+    private String description;
+    private LocalDateTime createdAt;
+}
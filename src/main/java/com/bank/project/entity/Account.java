@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 @Setter
 @Getter
 @Entity
-@Table(name = "account")
+@Table(name = "account", indexes = {
+        @Index(name = "idx_account_client_id", columnList = "client_id"),
+        @Index(name = "idx_account_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_account_created_at_id", columnList = "created_at, id")
+})
 public class Account {
 
     @Id
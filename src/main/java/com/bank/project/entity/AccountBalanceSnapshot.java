@@ -0,0 +1,43 @@
+package com.bank.project.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Ledger balance of an account at the end of {@code balanceDate}: the previous snapshot plus the
+ * day's credits minus its debits.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "account_balance_snapshot", uniqueConstraints = @UniqueConstraint(
+        name = "uk_account_balance_snapshot_account_date", columnNames = {"account_id", "balance_date"}))
+public class AccountBalanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "balance_date", nullable = false)
+    private LocalDate balanceDate;
+
+    @Column(name = "balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public AccountBalanceSnapshot(Long accountId, LocalDate balanceDate, BigDecimal balance, LocalDateTime createdAt) {
+        this.accountId = accountId;
+        this.balanceDate = balanceDate;
+        this.balance = balance;
+        this.createdAt = createdAt;
+    }
+}
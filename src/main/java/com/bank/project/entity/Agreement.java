@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 @Setter
 @Getter
 @Entity
-@Table(name = "agreement")
+@Table(name = "agreement", indexes = {
+        @Index(name = "idx_agreement_account_id", columnList = "account_id"),
+        @Index(name = "idx_agreement_updated_at_id", columnList = "updated_at, id")
+})
 public class Agreement {
 
     @Id
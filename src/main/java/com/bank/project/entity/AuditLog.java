@@ -18,10 +18,13 @@ public class AuditLog {
     private String action;
     private String entityType;
     private Long entityId;
+    @Column(columnDefinition = "TEXT")
     private String oldValue;
+    @Column(columnDefinition = "TEXT")
     private String newValue;
     private String ipAddress;
     private String status; // SUCCESS/FAILED
+    @Column(columnDefinition = "TEXT")
     private String errorMessage;
     
     @CreationTimestamp
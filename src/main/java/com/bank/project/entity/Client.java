@@ -14,7 +14,11 @@ import java.time.LocalDateTime;
 @Setter
 @Builder
 @Entity
-@Table(name = "client")
+@Table(name = "client", indexes = {
+        @Index(name = "idx_client_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_client_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_client_updated_at_id", columnList = "updated_at, id")
+})
 @AllArgsConstructor
 public class Client {
 
@@ -80,7 +84,7 @@ public class Client {
     @Column(name = "address")
     private String address;
 
-    @Column(name = "created_at", updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @Column(name = "updated_at")
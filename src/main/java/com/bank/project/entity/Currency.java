@@ -3,6 +3,8 @@ package com.bank.project.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -10,6 +12,8 @@ import java.time.LocalDateTime;
 @Getter
 @Entity
 @Table(name = "currency")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "currency")
 public class Currency {
 
     public enum CurrencyCode {
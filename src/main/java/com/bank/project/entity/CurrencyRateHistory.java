@@ -0,0 +1,34 @@
+package com.bank.project.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "currency_rate_history",
+        indexes = @Index(name = "idx_currency_rate_history_code_valid_from", columnList = "currency_code, valid_from"))
+public class CurrencyRateHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "currency_code", nullable = false, length = 16)
+    private String currencyCode;
+
+    @Column(name = "exchange_rate", nullable = false)
+    private Double exchangeRate;
+
+    // Курс действует начиная с этого момента и до следующей записи по той же валюте
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+
+    public CurrencyRateHistory(String currencyCode, Double exchangeRate, LocalDateTime validFrom) {
+        this.currencyCode = currencyCode;
+        this.exchangeRate = exchangeRate;
+        this.validFrom = validFrom;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bank.project.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Interest accrued on an agreement for one day. Written in JDBC batches by the accrual engine;
+ * the entity only describes the table.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "interest_accrual", uniqueConstraints = @UniqueConstraint(
+        name = "uk_interest_accrual_agreement_date", columnNames = {"agreement_id", "accrual_date"}))
+public class InterestAccrual {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "agreement_id", nullable = false)
+    private Long agreementId;
+
+    @Column(name = "accrual_date", nullable = false)
+    private LocalDate accrualDate;
+
+    @Column(name = "principal", nullable = false, precision = 19, scale = 2)
+    private BigDecimal principal;
+
+    @Column(name = "annual_rate", nullable = false, precision = 9, scale = 4)
+    private BigDecimal annualRate;
+
+    // Дробные копейки сохраняются, округление до копеек — при капитализации
+    @Column(name = "amount", nullable = false, precision = 19, scale = 6)
+    private BigDecimal amount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
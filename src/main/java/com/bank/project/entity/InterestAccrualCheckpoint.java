@@ -0,0 +1,39 @@
+package com.bank.project.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Marks an agreement id range as accrued for a day. Committed together with the range's accruals,
+ * so a restarted run skips exactly the ranges that are already done.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "interest_accrual_checkpoint", uniqueConstraints = @UniqueConstraint(
+        name = "uk_interest_accrual_checkpoint_date_start", columnNames = {"accrual_date", "range_start"}))
+public class InterestAccrualCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "accrual_date", nullable = false)
+    private LocalDate accrualDate;
+
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Column(name = "agreements", nullable = false)
+    private Integer agreements;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -4,6 +4,8 @@ import com.bank.project.entity.enums.ManagerStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -11,6 +13,8 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "manager")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manager")
 public class Manager {
 
     @Id
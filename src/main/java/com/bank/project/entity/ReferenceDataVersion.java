@@ -0,0 +1,26 @@
+package com.bank.project.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Write counter of a reference data table, bumped after every change made through the services.
+ * HTTP ETags of the reference endpoints are built from it.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "reference_data_version")
+public class ReferenceDataVersion {
+
+    @Id
+    @Column(name = "table_name", length = 64)
+    private String tableName;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
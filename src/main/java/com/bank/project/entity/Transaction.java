@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 @Setter
 @Getter
 @Entity
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        @Index(name = "idx_transaction_debit_created_at", columnList = "debit_account_id, created_at"),
+        @Index(name = "idx_transaction_credit_created_at", columnList = "credit_account_id, created_at"),
+        @Index(name = "idx_transaction_created_at_id", columnList = "created_at, id")
+})
 public class Transaction {
 
     @Id
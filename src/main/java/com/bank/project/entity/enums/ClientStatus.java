@@ -3,5 +3,6 @@ package com.bank.project.entity.enums;
 public enum ClientStatus {
     ACTIVE,
     INACTIVE,
+    SUSPENDED,
     DELETED
 }
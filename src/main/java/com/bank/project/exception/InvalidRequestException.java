@@ -0,0 +1,15 @@
+package com.bank.project.exception;
+
+/**
+ * Request that is well-formed but cannot be served as asked (conflicting parameters, a malformed cursor
+ * and so on); answered with 400. Other {@link IllegalArgumentException}s stay internal errors.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
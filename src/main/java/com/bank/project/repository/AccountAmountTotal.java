@@ -0,0 +1,10 @@
+package com.bank.project.repository;
+
+/**
+ * Sum of transaction amounts for one account.
+ */
+public interface AccountAmountTotal {
+    Long getAccountId();
+
+    Double getTotal();
+}
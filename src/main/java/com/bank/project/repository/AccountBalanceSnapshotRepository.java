@@ -0,0 +1,32 @@
+package com.bank.project.repository;
+
+import com.bank.project.entity.AccountBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, Long> {
+
+    // Ближайший снимок строго до указанного дня
+    Optional<AccountBalanceSnapshot> findFirstByAccountIdAndBalanceDateLessThanOrderByBalanceDateDesc(
+            Long accountId, LocalDate balanceDate);
+
+    // Последний снимок до указанного дня для каждого счёта чанка
+    @Query("SELECT s FROM AccountBalanceSnapshot s WHERE s.accountId IN :accountIds AND s.balanceDate = "
+            + "(SELECT MAX(p.balanceDate) FROM AccountBalanceSnapshot p "
+            + "WHERE p.accountId = s.accountId AND p.balanceDate < :balanceDate)")
+    List<AccountBalanceSnapshot> findLatestBefore(@Param("accountIds") Collection<Long> accountIds,
+                                                  @Param("balanceDate") LocalDate balanceDate);
+
+    @Modifying
+    @Query("DELETE FROM AccountBalanceSnapshot s WHERE s.accountId IN :accountIds AND s.balanceDate = :balanceDate")
+    int deleteForDate(@Param("accountIds") Collection<Long> accountIds, @Param("balanceDate") LocalDate balanceDate);
+}
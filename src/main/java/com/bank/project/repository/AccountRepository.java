@@ -2,33 +2,83 @@ package com.bank.project.repository;
 
 import com.bank.project.entity.Account;
 import com.bank.project.entity.AccountStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByName(String name);
 
+    // Список счетов загружается одним запросом вместе с клиентом
+    @NotNull
+    @Override
+    @EntityGraph(attributePaths = "client")
+    List<Account> findAll();
+
+    // Все счета одним курсором для потоковой выдачи GET /api/accounts
+    @EntityGraph(attributePaths = "client")
+    @Query("SELECT a FROM Account a ORDER BY a.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Account> streamAll();
+
+    @EntityGraph(attributePaths = "client")
     List<Account> findAllByStatus(AccountStatus status);
 
+    @EntityGraph(attributePaths = "client")
     List<Account> findAllByBalanceLessThan(BigDecimal balance);
 
+    @EntityGraph(attributePaths = "client")
     List<Account> findAllByCurrencyCode(Integer currencyCode);
 
+    @EntityGraph(attributePaths = "client")
     List<Account> findAllByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    @EntityGraph(attributePaths = "client")
     List<Account> findAllByUpdatedAtAfter(LocalDateTime updatedAt);
 
-    List<Account> findAllByClientId(Long clientId);
+    // Запрос задан явно: getClientId() у сущности — заглушка, и производный запрос искал бы такой атрибут
+    @EntityGraph(attributePaths = "client")
+    @Query("SELECT a FROM Account a WHERE a.client.id = :clientId")
+    List<Account> findAllByClientId(@Param("clientId") Long clientId);
 
     boolean existsById(@NotNull Long id);
 
+    // Лента изменений: строки после водяного знака (updated_at, id), но не позже upTo
+    @EntityGraph(attributePaths = "client")
+    @Query("SELECT a FROM Account a "
+            + "WHERE (a.updatedAt > :updatedAt OR (a.updatedAt = :updatedAt AND a.id > :id)) AND a.updatedAt <= :upTo "
+            + "ORDER BY a.updatedAt, a.id")
+    List<Account> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                   @Param("upTo") LocalDateTime upTo, Limit limit);
+
+    // Счета, открытые за период, страницами по ключу (created_at, id) для потоковой выдачи
+    @EntityGraph(attributePaths = "client")
+    @Query("SELECT a FROM Account a WHERE a.createdAt BETWEEN :from AND :to "
+            + "AND (a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.id > :id)) "
+            + "ORDER BY a.createdAt, a.id")
+    List<Account> findPageCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                         @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                         Limit limit);
 
+    // Идентификаторы счетов по возрастанию, порциями для пакетных заданий
+    @Query("SELECT a.id FROM Account a WHERE a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
 }
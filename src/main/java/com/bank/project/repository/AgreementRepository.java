@@ -1,26 +1,66 @@
 package com.bank.project.repository;
 
 import com.bank.project.entity.Agreement;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AgreementRepository extends JpaRepository<Agreement, Long> {
 
-    List<Agreement> findByAccountId(Long accountId);
+    // Список договоров загружается одним запросом вместе со счётом, клиентом и продуктом
+    @NotNull
+    @Override
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
+    List<Agreement> findAll();
 
-    List<Agreement> findByProductId(Long productId);
+    @NotNull
+    @Override
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
+    Optional<Agreement> findById(@NotNull Long id);
 
+    // Запросы по связям заданы явно: getAccountId()/getProductId() у сущностей — заглушки,
+    // и производный запрос искал бы такие атрибуты
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
+    @Query("SELECT a FROM Agreement a WHERE a.account.id = :accountId")
+    List<Agreement> findByAccountId(@Param("accountId") Long accountId);
+
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
+    @Query("SELECT a FROM Agreement a WHERE a.account.client.id = :clientId")
+    List<Agreement> findByAccountClientId(@Param("clientId") Long clientId);
+
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
+    @Query("SELECT a FROM Agreement a WHERE a.product.id = :productId")
+    List<Agreement> findByProductId(@Param("productId") Long productId);
+
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
     List<Agreement> findByStatus(String status);
 
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
     List<Agreement> findByInterestRateGreaterThan(Double interestRate);
 
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
     List<Agreement> findBySumLessThan(Double sum);
 
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
     List<Agreement> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
     List<Agreement> findByUpdatedAtAfter(LocalDateTime updatedAt);
+
+    // Лента изменений: строки после водяного знака (updated_at, id), но не позже upTo
+    @EntityGraph(attributePaths = {"account", "account.client", "product"})
+    @Query("SELECT a FROM Agreement a "
+            + "WHERE (a.updatedAt > :updatedAt OR (a.updatedAt = :updatedAt AND a.id > :id)) AND a.updatedAt <= :upTo "
+            + "ORDER BY a.updatedAt, a.id")
+    List<Agreement> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                     @Param("upTo") LocalDateTime upTo, Limit limit);
 }
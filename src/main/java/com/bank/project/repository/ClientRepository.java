@@ -1,28 +1,71 @@
 package com.bank.project.repository;
 
 import com.bank.project.entity.Client;
-import com.bank.project.entity.enums.ClientStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecificationExecutor<Client> {
     
     boolean existsByEmail(String email);
+
+    boolean existsByPhone(String phone);
+
+    boolean existsByPassportNumber(String passportNumber);
+
+    // Все уникальные ключи клиентов одним потоком — для прогрева фильтра уникальности
+    @Query("SELECT c.email AS email, c.phone AS phone, c.taxCode AS taxCode, c.passportNumber AS passportNumber FROM Client c")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ClientUniqueKeys> streamUniqueKeys();
+
+    // Уникальные ключи клиентов, записанных не раньше since, — догрузка фильтра между перестроениями
+    @Query("SELECT c.email AS email, c.phone AS phone, c.taxCode AS taxCode, c.passportNumber AS passportNumber "
+            + "FROM Client c WHERE c.updatedAt >= :since")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ClientUniqueKeys> findUniqueKeysUpdatedSince(@Param("since") LocalDateTime since);
+
+    // Лента изменений: строки после водяного знака (updated_at, id), но не позже upTo
+    @Query("SELECT c FROM Client c "
+            + "WHERE (c.updatedAt > :updatedAt OR (c.updatedAt = :updatedAt AND c.id > :id)) AND c.updatedAt <= :upTo "
+            + "ORDER BY c.updatedAt, c.id")
+    List<Client> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                  @Param("upTo") LocalDateTime upTo, Limit limit);
+
+    // Страница без count(*): Slice знает только о наличии следующей
+    Slice<Client> findAllBy(Pageable pageable);
     
     Optional<Client> findByEmail(String email);
     
-    @Query("SELECT c FROM Client c WHERE c.status = :status")
-    Page<Client> findByStatus(@Param("status") ClientStatus status, Pageable pageable);
+    // Keyset-страница по статусу; для горячих статусов обслуживается частичным индексом (status = ...) по id
+    List<Client> findByStatusAndIdGreaterThanOrderByIdAsc(String status, Long afterId, Limit limit);
+
+    @Query("SELECT c FROM Client c WHERE c.status = :status ORDER BY c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Client> streamByStatus(@Param("status") String status);
 
     @Query("SELECT c FROM Client c WHERE c.taxCode = :taxCode")
     List<Client> findByTaxCode(@Param("taxCode") String taxCode);
@@ -30,16 +73,77 @@ public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecif
     @Query("SELECT c FROM Client c WHERE LOWER(c.address) LIKE LOWER(concat('%', :address,'%'))")
     Page<Client> findByAddressContainingIgnoreCase(@Param("address") String address, Pageable pageable);
 
+    // Выражение должно совпадать с индексом idx_client_search_trgm, иначе планировщик его не использует
+    String SEARCH_DOCUMENT = "lower(coalesce(c.first_name, '') || ' ' || coalesce(c.last_name, '') || ' ' "
+            + "|| coalesce(c.email, '') || ' ' || coalesce(c.phone, '') || ' ' || coalesce(c.address, ''))";
+
+    /**
+     * Ranked fuzzy search over name, email, phone and address backed by the pg_trgm GIN index.
+     * Results are ordered by score descending, then id; pass the last row's score and id to get the next page.
+     */
+    @Query(value = "SELECT * FROM ("
+            + " SELECT c.id AS \"id\", c.first_name AS \"firstName\", c.last_name AS \"lastName\","
+            + " c.email AS \"email\", c.phone AS \"phone\", c.address AS \"address\", c.status AS \"status\","
+            + " word_similarity(:query, " + SEARCH_DOCUMENT + ") AS \"score\""
+            + " FROM client c"
+            + " WHERE " + SEARCH_DOCUMENT + " LIKE :pattern ESCAPE '\\' OR :query <% " + SEARCH_DOCUMENT
+            + ") hit"
+            + " WHERE CAST(:afterId AS bigint) IS NULL"
+            + " OR hit.\"score\" < CAST(:afterScore AS real)"
+            + " OR (hit.\"score\" = CAST(:afterScore AS real) AND hit.\"id\" > CAST(:afterId AS bigint))"
+            + " ORDER BY hit.\"score\" DESC, hit.\"id\" ASC"
+            + " LIMIT :limit",
+            nativeQuery = true)
+    List<ClientSearchHit> searchRanked(@Param("query") String query,
+                                       @Param("pattern") String pattern,
+                                       @Param("afterScore") Float afterScore,
+                                       @Param("afterId") Long afterId,
+                                       @Param("limit") int limit);
+
     @Query("SELECT c FROM Client c WHERE c.createdAt BETWEEN :startDate AND :endDate")
     List<Client> findByCreatedAtBetween(
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
+    // Проверки уникальности для пакетного импорта: один запрос на поле на весь чанк
+    @Query("SELECT c.email FROM Client c WHERE c.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT c.phone FROM Client c WHERE c.phone IN :phones")
+    List<String> findExistingPhones(@Param("phones") Collection<String> phones);
+
+    @Query("SELECT c.taxCode FROM Client c WHERE c.taxCode IN :taxCodes")
+    List<String> findExistingTaxCodes(@Param("taxCodes") Collection<String> taxCodes);
+
+    @Query("SELECT c.passportNumber FROM Client c WHERE c.passportNumber IN :passportNumbers")
+    List<String> findExistingPassportNumbers(@Param("passportNumbers") Collection<String> passportNumbers);
+
     Object findByStatus(String status);
 
     boolean existsByTaxCode(String number);
 
     Object findByAddressContainingIgnoreCase(String mainAddress);
 
-    int updateClientStatus(Long id, String suspended);
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Client c SET c.status = :status, c.updatedAt = :updatedAt WHERE c.id = :id")
+    int updateClientStatus(@Param("id") Long id, @Param("status") String status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Client c SET c.status = :status, c.updatedAt = :updatedAt WHERE c.id IN :ids")
+    int updateClientStatus(@Param("ids") Collection<Long> ids, @Param("status") String status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Одна порция перехода статуса; SKIP LOCKED не ждёт строки, занятые параллельными транзакциями
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE client SET status = :toStatus, updated_at = :updatedAt WHERE id IN ("
+            + " SELECT id FROM client WHERE status = :fromStatus ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int transitionStatusBatch(@Param("fromStatus") String fromStatus,
+                              @Param("toStatus") String toStatus,
+                              @Param("batchSize") int batchSize,
+                              @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,22 @@
+package com.bank.project.repository;
+
+/**
+ * Row returned by the trigram client search: the matched client's contact fields and its relevance score.
+ */
+public interface ClientSearchHit {
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getAddress();
+
+    String getStatus();
+
+    Float getScore();
+}
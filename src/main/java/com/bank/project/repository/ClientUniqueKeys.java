@@ -0,0 +1,14 @@
+package com.bank.project.repository;
+
+/**
+ * The uniquely constrained columns of a client row, used to warm the in-memory uniqueness filter.
+ */
+public interface ClientUniqueKeys {
+    String getEmail();
+
+    String getPhone();
+
+    String getTaxCode();
+
+    String getPassportNumber();
+}
@@ -0,0 +1,14 @@
+package com.bank.project.repository;
+
+import com.bank.project.entity.CurrencyRateHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CurrencyRateHistoryRepository extends JpaRepository<CurrencyRateHistory, Long> {
+
+    // Вся история одним запросом, уже в порядке построения индекса в памяти
+    List<CurrencyRateHistory> findAllByOrderByCurrencyCodeAscValidFromAscIdAsc();
+}
@@ -2,8 +2,11 @@ package com.bank.project.repository;
 
 import com.bank.project.entity.Manager;
 import com.bank.project.entity.enums.ManagerStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +17,10 @@ public interface ManagerRepository extends JpaRepository<Manager, Long> {
 
     @NotNull Optional<Manager> findById(@NotNull Long id); // Поиск по ID
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.manager")
+    })
     Optional<Manager> findByUsername(String username); // Поиск по имени пользователя
 
     Optional<Manager> findByFirstName(String firstName); // Поиск по имени
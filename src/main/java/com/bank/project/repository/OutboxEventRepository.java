@@ -0,0 +1,45 @@
+package com.bank.project.repository;
+
+import com.bank.project.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Захват пачки: только самое старое ожидающее событие каждого агрегата, строки другого узла пропускаются
+    @Query(value = "SELECT * FROM outbox_event e WHERE e.published_at IS NULL AND e.dead_lettered_at IS NULL"
+            + " AND NOT EXISTS (SELECT 1 FROM outbox_event o WHERE o.aggregate_type = e.aggregate_type"
+            + " AND o.aggregate_id = e.aggregate_id AND o.published_at IS NULL AND o.dead_lettered_at IS NULL"
+            + " AND o.id < e.id)"
+            + " ORDER BY e.id LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockUnpublishedBatch(@Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.deadLetteredAt = :at "
+            + "WHERE e.id = :id")
+    int markDeadLettered(@Param("id") Long id, @Param("error") String error, @Param("at") LocalDateTime at);
+
+    @Query(value = "SELECT count(*) FROM outbox_event WHERE published_at IS NULL AND dead_lettered_at IS NULL",
+            nativeQuery = true)
+    long countUnpublished();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,45 +2,87 @@ package com.bank.project.repository;
 
 import com.bank.project.entity.Product;
 import com.bank.project.entity.enums.ProductStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    @NotNull 
+    // Один продукт тоже грузится вместе с менеджером: ответ строится уже вне транзакции
+    @NotNull
+    @Override
+    @EntityGraph(attributePaths = "manager")
     Optional<Product> findById(@NotNull Long id);
 
+    // Без entity graph: Hibernate не может собрать join fetch из кэша запросов; менеджера догружает сервис
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.product")
+    })
     Optional<Product> findByName(String name);
+
+    // Список продуктов загружается одним запросом вместе с менеджером
+    @NotNull
+    @Override
+    @EntityGraph(attributePaths = "manager")
+    List<Product> findAll();
+
+    // Все продукты одним курсором для потоковой выдачи GET /api/products
+    @EntityGraph(attributePaths = "manager")
+    @Query("SELECT p FROM Product p ORDER BY p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Product> streamAll();
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByDescriptionContainingIgnoreCase(String description);
 
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByStatus(ProductStatus status);
 
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByCurrencyCode(String currencyCode);
 
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByInterestRate(BigDecimal interestRate);
 
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByCreditLimit(BigDecimal creditLimit);
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByCreditLimitLessThanEqual(BigDecimal maxCreditLimit);
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByMinAmountGreaterThanEqual(BigDecimal minAmount);
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByMaxAmountLessThanEqual(BigDecimal maxAmount);
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByIsActiveTrue();
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByIsActive(Boolean isActive);
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByStatusAndCurrencyCode(ProductStatus status, String currencyCode);
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByStatusAndInterestRate(ProductStatus status, BigDecimal interestRate);
     
+    @EntityGraph(attributePaths = "manager")
     List<Product> findByManagerId(Long managerId);
 }
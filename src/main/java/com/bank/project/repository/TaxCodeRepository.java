@@ -1,8 +1,11 @@
 package com.bank.project.repository;
 
 import com.bank.project.entity.TaxCode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,7 +15,15 @@ public interface TaxCodeRepository extends JpaRepository<TaxCode, Long> {
 
     @NotNull Optional<TaxCode> findById(@NotNull Long id);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.tax_codes")
+    })
     Optional<TaxCode> findByCode(String code);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.tax_codes")
+    })
     Optional<TaxCode> findByName(String name);
 }
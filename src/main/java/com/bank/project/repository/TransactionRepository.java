@@ -2,10 +2,14 @@ package com.bank.project.repository;
 
 import com.bank.project.entity.Transaction;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +27,39 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Transaction> findByAmount(Double amount);
 
     List<Transaction> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    // Лента новых проводок: водяной знак (created_at, id), проводки после записи не меняются
+    @Query("SELECT t FROM Transaction t "
+            + "WHERE (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id)) AND t.createdAt <= :upTo "
+            + "ORDER BY t.createdAt, t.id")
+    List<Transaction> findCreatedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                       @Param("upTo") LocalDateTime upTo, Limit limit);
+
+    // Проводки за период страницами по ключу (created_at, id) для потоковой выдачи
+    @Query("SELECT t FROM Transaction t WHERE t.createdAt BETWEEN :from AND :to "
+            + "AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id)) "
+            + "ORDER BY t.createdAt, t.id")
+    List<Transaction> findPageCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                             @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                             Limit limit);
+
+    // Последние проводки по всем счетам клиента, в обе стороны
+    @Query("SELECT t FROM Transaction t "
+            + "WHERE t.debitAccountId IN (SELECT a.id FROM Account a WHERE a.client.id = :clientId) "
+            + "OR t.creditAccountId IN (SELECT a.id FROM Account a WHERE a.client.id = :clientId) "
+            + "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transaction> findRecentByClientId(@Param("clientId") Long clientId, Limit limit);
+
+    // Обороты по счетам за период [from, to): отдельно по кредиту и по дебету
+    @Query("SELECT t.creditAccountId AS accountId, SUM(t.amount) AS total FROM Transaction t "
+            + "WHERE t.creditAccountId IN :accountIds AND t.createdAt >= :from AND t.createdAt < :to "
+            + "GROUP BY t.creditAccountId")
+    List<AccountAmountTotal> sumCreditsByAccount(@Param("accountIds") Collection<Long> accountIds,
+                                                 @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT t.debitAccountId AS accountId, SUM(t.amount) AS total FROM Transaction t "
+            + "WHERE t.debitAccountId IN :accountIds AND t.createdAt >= :from AND t.createdAt < :to "
+            + "GROUP BY t.debitAccountId")
+    List<AccountAmountTotal> sumDebitsByAccount(@Param("accountIds") Collection<Long> accountIds,
+                                                @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
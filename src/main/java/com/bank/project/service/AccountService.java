@@ -1,13 +1,22 @@
 package com.bank.project.service;
 
+import com.bank.project.aop.Audit;
 import com.bank.project.entity.Account;
 import com.bank.project.entity.AccountStatus;
 import com.bank.project.repository.AccountRepository;
+import com.bank.project.service.mapper.AccountMapper;
+import com.bank.project.service.outbox.OutboxService;
+import com.bank.project.service.streaming.EntityStreams;
+import com.bank.project.service.streaming.RowWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,12 +28,21 @@ public class AccountService implements AccountServiceInterface {
     private static final Logger logger = LoggerFactory.getLogger(AccountService.class);
 
     private final AccountRepository accountRepository;
+    private final AccountMapper accountMapper;
+    private final OutboxService outboxService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public AccountService(AccountRepository accountRepository) {
+    public AccountService(AccountRepository accountRepository, AccountMapper accountMapper,
+                          OutboxService outboxService) {
         this.accountRepository = accountRepository;
+        this.accountMapper = accountMapper;
+        this.outboxService = outboxService;
     }
 
+    @Audit(entityType = "Account")
     public Account createAccount(Account account) {
         logger.info("Creating a new account: {}", account);
         Account createdAccount = accountRepository.save(account);
@@ -49,6 +67,15 @@ public class AccountService implements AccountServiceInterface {
         logger.info("Total accounts fetched: {}", accounts.size());
         return accounts;
     }
+
+    /**
+     * Hands every account to {@code writer} straight from a database cursor, without loading them all.
+     */
+    @Transactional(readOnly = true)
+    public long streamAllAccounts(RowWriter<? super Account> writer) throws IOException {
+        logger.info("Streaming all accounts");
+        return EntityStreams.drain(accountRepository.streamAll(), entityManager, writer);
+    }
     
     /**
      * Test method to demonstrate AOP functionality
@@ -117,11 +144,14 @@ public class AccountService implements AccountServiceInterface {
         return accountRepository.findByName(name);
     }
 
+    @Audit(entityType = "Account")
+    @Transactional
     public Account updateAccount(Long id, Account account) {
         logger.info("Updating account with ID: {}", id);
         if (accountRepository.existsById(id)) {
             account.setId(id);
             Account updatedAccount = accountRepository.save(account);
+            outboxService.record(OutboxService.ACCOUNT, id, "AccountUpdated", accountMapper.toResponse(updatedAccount));
             logger.info("Account updated successfully: {}", updatedAccount);
             return updatedAccount;
         } else {
@@ -130,6 +160,7 @@ public class AccountService implements AccountServiceInterface {
         }
     }
 
+    @Audit(entityType = "Account")
     public boolean deleteAccount(Long id) {
         logger.info("Deleting account with ID: {}", id);
         if (accountRepository.existsById(id)) {
@@ -2,7 +2,9 @@ package com.bank.project.service;
 
 import com.bank.project.entity.Account;
 import com.bank.project.entity.AccountStatus;
+import com.bank.project.service.streaming.RowWriter;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,6 +14,7 @@ public interface AccountServiceInterface {
     Account createAccount(Account account);
     Optional<Account> getAccountById(Long id);
     List<Account> getAllAccounts();
+    long streamAllAccounts(RowWriter<? super Account> writer) throws IOException;
     List<Account> getAccountsByClientId(Long clientId);
     List<Account> getAccountsByStatus(String status);
     List<Account> getAccountsByBalanceLessThan(BigDecimal balance);
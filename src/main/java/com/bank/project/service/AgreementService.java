@@ -1,5 +1,8 @@
 package com.bank.project.service;
 
+import com.bank.project.aop.Audit;
+import com.bank.project.aop.Bulkhead;
+import com.bank.project.config.Workload;
 import com.bank.project.entity.Agreement;
 import com.bank.project.repository.AgreementRepository;
 import org.slf4j.Logger;
@@ -24,6 +27,7 @@ public class AgreementService {
     }
 
     // Creates a new agreement
+    @Audit(entityType = "Agreement")
     public Agreement createAgreement(Agreement agreement) {
         logger.info("Creating a new agreement: {}", agreement);
         agreement.setCreatedAt(LocalDateTime.now());
@@ -43,6 +47,7 @@ public class AgreementService {
     }
 
     // Retrieves all agreements
+    @Bulkhead(Workload.REPORTING)
     public List<Agreement> getAllAgreements() {
         logger.info("Retrieving all agreements");
         List<Agreement> agreements = agreementRepository.findAll();
@@ -51,6 +56,7 @@ public class AgreementService {
     }
 
     // Updates an existing agreement
+    @Audit(entityType = "Agreement")
     public Agreement updateAgreement(Long id, Agreement agreementDetails) {
         logger.info("Updating agreement with ID: {} using details: {}", id, agreementDetails);
         Agreement existingAgreement = getAgreementById(id);
@@ -64,6 +70,7 @@ public class AgreementService {
     }
 
     // Deletes an agreement by ID
+    @Audit(entityType = "Agreement")
     public void deleteAgreement(Long id) {
         logger.info("Deleting agreement with ID: {}", id);
         Agreement agreement = getAgreementById(id);
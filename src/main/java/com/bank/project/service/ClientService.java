@@ -2,8 +2,13 @@ package com.bank.project.service;
 
 import com.bank.project.dto.CreateClientRequest;
 import com.bank.project.entity.Client;
+import com.bank.project.entity.enums.ClientStatus;
+import com.bank.project.service.paging.CursorPage;
+import com.bank.project.service.streaming.RowWriter;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,10 +61,60 @@ public interface ClientService {
     List<Client> getAllClients(int page, int size, String[] sort);
     
     /**
-     * Get clients by status with pagination
+     * Get clients by keyset cursor, without offset scans or count queries
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param size page size, capped at MAX_PAGE_SIZE
+     * @param sort sort parameter (e.g., "createdAt,desc"); ignored when a cursor is given
+     * @return page of clients with the token for the next page
+     */
+    CursorPage<Client> getClientsPage(String cursor, int size, String sort);
+    
+    /**
+     * Get the first page of clients with the given status
      *
      * @param status client status (ACTIVE, INACTIVE, etc.)
-     * @return list of clients with specified status
+     * @return up to DEFAULT_STATUS_PAGE_SIZE clients with specified status
      */
     List<Client> getClientsByStatus(String status);
+
+    /**
+     * Get clients by status with keyset pagination
+     * @param status client status (ACTIVE, INACTIVE, etc.)
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param size page size, capped at MAX_PAGE_SIZE
+     * @return page of clients ordered by id with the token for the next page
+     */
+    CursorPage<Client> getClientsByStatus(String status, String cursor, int size);
+
+    /**
+     * Parse a client status as given in a request, ignoring case and surrounding whitespace
+     * @param status status name
+     * @return the matching status
+     * @throws com.bank.project.exception.InvalidRequestException if the status is empty or unknown
+     */
+    ClientStatus parseStatus(String status);
+
+    /**
+     * Stream every client with the given status to {@code writer} without loading them all into memory
+     * @param status client status
+     * @param writer called once per client, inside the read transaction
+     * @return number of clients exported
+     */
+    long exportClientsByStatus(String status, RowWriter<? super Client> writer) throws IOException;
+
+    /**
+     * Set the status of the given clients, in set-based batches committed independently
+     * @param ids client IDs
+     * @param status target status
+     * @return number of clients updated
+     */
+    int updateClientStatus(Collection<Long> ids, String status);
+
+    /**
+     * Move every client from one status to another, in set-based batches committed independently
+     * @param fromStatus current status
+     * @param toStatus target status
+     * @return number of clients updated
+     */
+    int transitionClientStatus(String fromStatus, String toStatus);
 }
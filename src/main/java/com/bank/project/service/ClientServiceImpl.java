@@ -1,23 +1,46 @@
 package com.bank.project.service;
 
+import com.bank.project.aop.Audit;
 import com.bank.project.dto.CreateClientRequest;
 import com.bank.project.entity.Client;
 import com.bank.project.entity.enums.ClientStatus;
+import com.bank.project.exception.InvalidRequestException;
 import com.bank.project.exception.ResourceNotFoundException;
 import com.bank.project.repository.ClientRepository;
 import com.bank.project.service.mapper.ClientMapper;
+import com.bank.project.service.outbox.OutboxService;
+import com.bank.project.service.paging.ClientSortKey;
+import com.bank.project.service.paging.CursorPage;
+import com.bank.project.service.paging.KeysetCursor;
+import com.bank.project.service.streaming.EntityStreams;
+import com.bank.project.service.streaming.RowWriter;
+import com.bank.project.service.uniqueness.ClientUniqueField;
+import com.bank.project.service.uniqueness.ClientUniquenessFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -37,15 +60,24 @@ public class ClientServiceImpl implements ClientService {
     private static final String DEFAULT_SORT_FIELD = "id";
     private static final String SORT_DELIMITER = ",";
     public static final int MAX_PAGE_SIZE = 100;
+    public static final int DEFAULT_STATUS_PAGE_SIZE = 10;
+    static final int STATUS_BATCH_SIZE = 1000;
     
     private final ClientRepository clientRepository;
     private final ClientMapper clientMapper;
+    private final Clock clock;
+    private final ClientUniquenessFilter uniquenessFilter;
+    private final OutboxService outboxService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     public Client createClient(Client request) {
         return null;
     }
 
+    @Audit(entityType = "Client")
     @Transactional
     @Override
     public Client createClient(CreateClientRequest request) {
@@ -53,21 +85,21 @@ public class ClientServiceImpl implements ClientService {
             log.info("Creating new client with email: {}", request.getEmail());
         }
 
-        // Check if client with email already exists
-        if (clientRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalStateException("Client with email " + request.getEmail() + " already exists");
+        // Map DTO to entity and check every uniquely constrained field before saving
+        Client client = clientMapper.toEntity(request, LocalDateTime.now(clock));
+        for (ClientUniqueField field : ClientUniqueField.values()) {
+            ensureUnique(field, field.valueOf(client), null);
         }
         
         try {
-            // Map DTO to entity and save
-            Client client = clientMapper.toEntity(request);
-            client.setCreatedAt(LocalDateTime.now());
-            client.setUpdatedAt(LocalDateTime.now());
-            client.setStatus("ACTIVE");
-            
             Client savedClient = clientRepository.save(client);
+            uniquenessFilter.register(savedClient);
+            outboxService.record(OutboxService.CLIENT, savedClient.getId(), "ClientCreated",
+                    clientMapper.toResponse(savedClient));
             log.info("Created new client with ID: {}", savedClient.getId());
             return savedClient;
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Client with the same email, phone, tax code or passport number already exists", e);
         } catch (Exception e) {
             log.error("Error creating client: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to create client: " + e.getMessage(), e);
@@ -96,45 +128,150 @@ public class ClientServiceImpl implements ClientService {
         // 2. Maximum page size is MAX_PAGE_SIZE (Math.min(...))
         // @formatter:on
         int validatedPage = max(0, page);
-        int validatedSize = Math.min(size, MAX_PAGE_SIZE);
+        int validatedSize = Math.min(max(1, size), MAX_PAGE_SIZE);
         
         // Parse sort parameters
         Sort sorting = parseSortParameters(sort);
         
+        // Slice вместо Page: без count(*) на каждую страницу
         Pageable pageable = PageRequest.of(validatedPage, validatedSize, sorting);
-        Page<Client> clientPage = clientRepository.findAll(pageable);
+        Slice<Client> clientSlice = clientRepository.findAllBy(pageable);
         
-        return clientPage.getContent();
+        return clientSlice.getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Client> getClientsPage(String cursor, int size, String sort) {
+        int validatedSize = Math.min(max(1, size), MAX_PAGE_SIZE);
+
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        ClientSortKey key;
+        Sort.Direction direction;
+        if (after != null) {
+            // Порядок задаётся курсором, чтобы страницы не перемешивались при смене параметров
+            key = after.getKey();
+            direction = after.getDirection();
+        } else {
+            String[] parts = (sort == null || sort.isBlank() ? DEFAULT_SORT_FIELD : sort).split(SORT_DELIMITER);
+            key = ClientSortKey.fromProperty(parts[0]);
+            direction = parts.length > 1 && parts[1].trim().equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        }
+        log.debug("Fetching clients page by {} {} after cursor: {}, size: {}", key, direction, after != null, validatedSize);
+
+        Sort sorting = key == ClientSortKey.ID
+                ? Sort.by(direction, DEFAULT_SORT_FIELD)
+                : Sort.by(direction, key.getProperty()).and(Sort.by(direction, DEFAULT_SORT_FIELD));
+        Specification<Client> specification = after == null ? (root, query, cb) -> cb.conjunction() : keysetAfter(after);
+
+        // Берём на одну строку больше — так узнаём о следующей странице без count(*)
+        List<Client> rows = clientRepository.findBy(specification,
+                q -> q.sortBy(sorting).limit(validatedSize + 1).all());
+        if (rows.size() <= validatedSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Client> content = rows.subList(0, validatedSize);
+        Client last = content.get(content.size() - 1);
+        String next = new KeysetCursor(key, direction, String.valueOf(key.valueOf(last)), last.getId()).encode();
+        return new CursorPage<>(content, next);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<Client> getClientsByStatus(String status) {
-        log.debug("Fetching clients with status: {}", status);
-        
+        return getClientsByStatus(status, null, DEFAULT_STATUS_PAGE_SIZE).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Client> getClientsByStatus(String status, String cursor, int size) {
+        ClientStatus clientStatus = parseStatus(status);
+        int validatedSize = Math.min(max(1, size), MAX_PAGE_SIZE);
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            if (after.getKey() != ClientSortKey.ID || !after.getDirection().isAscending()) {
+                throw new InvalidRequestException("Cursor was not issued for a status listing");
+            }
+            afterId = after.getLastId();
+        }
+        log.debug("Fetching clients with status: {} after id: {}, size: {}", clientStatus, afterId, validatedSize);
+
+        List<Client> rows = clientRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                clientStatus.name(), afterId, Limit.of(validatedSize + 1));
+        if (rows.size() <= validatedSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Client> content = rows.subList(0, validatedSize);
+        Long lastId = content.get(content.size() - 1).getId();
+        return new CursorPage<>(content,
+                new KeysetCursor(ClientSortKey.ID, Sort.Direction.ASC, String.valueOf(lastId), lastId).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportClientsByStatus(String status, RowWriter<? super Client> writer) throws IOException {
+        ClientStatus clientStatus = parseStatus(status);
+        long exported = EntityStreams.drain(clientRepository.streamByStatus(clientStatus.name()), entityManager, writer);
+        log.info("Exported {} clients with status {}", exported, clientStatus);
+        return exported;
+    }
+
+    // Без общей транзакции: каждая порция фиксируется отдельно и не держит блокировки на всю операцию
+    @Audit(entityType = "Client")
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int updateClientStatus(Collection<Long> ids, String status) {
+        ClientStatus clientStatus = parseStatus(status);
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        LocalDateTime now = LocalDateTime.now(clock);
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += STATUS_BATCH_SIZE) {
+            List<Long> batch = distinctIds.subList(from, Math.min(from + STATUS_BATCH_SIZE, distinctIds.size()));
+            updated += clientRepository.updateClientStatus(batch, clientStatus.name(), now);
+        }
+        log.info("Set status {} on {} of {} requested clients", clientStatus, updated, distinctIds.size());
+        return updated;
+    }
+
+    @Audit(entityType = "Client")
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int transitionClientStatus(String fromStatus, String toStatus) {
+        ClientStatus from = parseStatus(fromStatus);
+        ClientStatus to = parseStatus(toStatus);
+        if (from == to) {
+            throw new InvalidRequestException("Source and target status are the same: " + from);
+        }
+        // Неполная порция не значит, что строк не осталось: SKIP LOCKED пропускает занятые строки,
+        // поэтому идём до пустой порции. Строки, занятые всё это время, остаются в прежнем статусе
+        LocalDateTime now = LocalDateTime.now(clock);
+        int total = 0;
+        int updated;
+        do {
+            updated = clientRepository.transitionStatusBatch(from.name(), to.name(), STATUS_BATCH_SIZE, now);
+            total += updated;
+        } while (updated > 0);
+        log.info("Transitioned {} clients from {} to {}", total, from, to);
+        return total;
+    }
+
+    @Override
+    public ClientStatus parseStatus(String status) {
         if (status == null || status.trim().isEmpty()) {
-            throw new IllegalArgumentException("Status cannot be null or empty");
+            throw new InvalidRequestException("Status cannot be null or empty");
         }
-        
         try {
-            ClientStatus clientStatus = ClientStatus.valueOf(status.toUpperCase());
-            
-            // Validate and adjust pagination parameters
-            int size    = 10;
-            int validatedPage = 0;
-
-            Pageable pageable = PageRequest.of(validatedPage, size);
-            Page<Client> clientPage = clientRepository.findByStatus(clientStatus, pageable);
-            
-            return clientPage.getContent();
+            return ClientStatus.valueOf(status.trim().toUpperCase());
         } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid client status: " + status + ". Valid statuses are: " + 
+            throw new InvalidRequestException("Invalid client status: " + status + ". Valid statuses are: " + 
                 Arrays.stream(ClientStatus.values())
                     .map(ClientStatus::name)
                     .collect(Collectors.joining(", ")));
         }
     }
     
+    @Audit(entityType = "Client")
     @Override
     @Transactional
     public Client updateClient(Long id, CreateClientRequest request) {
@@ -146,26 +283,49 @@ public class ClientServiceImpl implements ClientService {
         
         Client existingClient = findClientOrThrow(id);
         
-        // Check if email is being changed and if the new email already exists
-        if (!existingClient.getEmail().equalsIgnoreCase(request.getEmail()) && 
-            clientRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalStateException("Email " + request.getEmail() + " is already in use");
-        }
+        // Check the unique fields that are being changed
+        ensureUnique(ClientUniqueField.EMAIL, request.getEmail(), existingClient.getEmail());
+        ensureUnique(ClientUniqueField.PHONE, request.getPhone(), existingClient.getPhone());
+        ensureUnique(ClientUniqueField.TAX_CODE, request.getTaxCode(), existingClient.getTaxCode());
+        ensureUnique(ClientUniqueField.PASSPORT_NUMBER, request.getPassportNumber(), existingClient.getPassportNumber());
         
         try {
             // Update existing client with new data from request
-            clientMapper.updateFromDto(request, existingClient);
-            existingClient.setUpdatedAt(LocalDateTime.now());
+            clientMapper.updateFromDto(request, existingClient, LocalDateTime.now(clock));
             
-            Client updatedClient = clientRepository.save(existingClient);
+            // Сброс внутри try: иначе нарушение уникальности всплывёт только при коммите, мимо обработки ниже
+            Client updatedClient = clientRepository.saveAndFlush(existingClient);
+            uniquenessFilter.register(updatedClient);
             log.info("Updated client with ID: {}", id);
             return updatedClient;
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Client with the same email, phone, tax code or passport number already exists", e);
         } catch (Exception e) {
             log.error("Error updating client with ID {}: {}", id, e.getMessage(), e);
             throw new RuntimeException("Failed to update client: " + e.getMessage(), e);
         }
     }
     
+    // Заведомо свободные значения отсекаются фильтром без запроса в БД; уникальные ограничения остаются окончательной проверкой
+    private void ensureUnique(ClientUniqueField field, String value, String currentValue) {
+        if (value == null || value.isBlank() || value.equalsIgnoreCase(currentValue)) {
+            return;
+        }
+        if (uniquenessFilter.mightExist(field, value) && existsBy(field, value)) {
+            throw new IllegalStateException("Client with " + field.getProperty() + " " + value + " already exists");
+        }
+    }
+
+    private boolean existsBy(ClientUniqueField field, String value) {
+        return switch (field) {
+            case EMAIL -> clientRepository.existsByEmail(value);
+            case PHONE -> clientRepository.existsByPhone(value);
+            case TAX_CODE -> clientRepository.existsByTaxCode(value);
+            case PASSPORT_NUMBER -> clientRepository.existsByPassportNumber(value);
+        };
+    }
+    
+    @Audit(entityType = "Client")
     @Override
     @Transactional
     public boolean deleteClient(Long id) {
@@ -180,7 +340,7 @@ public class ClientServiceImpl implements ClientService {
         try {
             // Instead of hard delete, we'll mark as INACTIVE
             client.setStatus("INACTIVE");
-            client.setUpdatedAt(LocalDateTime.now());
+            client.setUpdatedAt(LocalDateTime.now(clock));
             clientRepository.save(client);
             
             log.info("Marked client with ID: {} as INACTIVE", id);
@@ -192,35 +352,58 @@ public class ClientServiceImpl implements ClientService {
     }
     
     /**
-     * Helper method to parse sort parameters into a Sort object
+     * Helper method to parse sort parameters into a Sort object.
+     * Only indexed keys from {@link ClientSortKey} are accepted; id is always appended as a tie-breaker.
      */
     private Sort parseSortParameters(String[] sort) {
         if (sort == null || sort.length == 0) {
             return Sort.by(Sort.Order.asc(DEFAULT_SORT_FIELD));
         }
         
-        try {
-            List<Sort.Order> orders = Arrays.stream(sort)
-                    .filter(s -> s != null && !s.trim().isEmpty())
-                    .map(s -> s.split(SORT_DELIMITER))
-                    .filter(parts -> parts.length == 2)
-                    .map(parts -> new Sort.Order(
-                            parts[1].trim().equalsIgnoreCase("desc") ? 
-                                Sort.Direction.DESC : Sort.Direction.ASC,
-                            parts[0].trim()
-                    ))
-                    .collect(Collectors.toList());
-            
-            if (orders.isEmpty()) {
-                return Sort.by(Sort.Order.asc(DEFAULT_SORT_FIELD));
+        // Spring разбивает "id,asc" из query string на два элемента массива — склеиваем обратно
+        List<String> tokens = Arrays.stream(sort)
+                .filter(s -> s != null && !s.trim().isEmpty())
+                .flatMap(s -> Arrays.stream(s.split(SORT_DELIMITER)))
+                .map(String::trim)
+                .toList();
+        
+        List<Sort.Order> orders = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            ClientSortKey key = ClientSortKey.fromProperty(tokens.get(i));
+            Sort.Direction direction = Sort.Direction.ASC;
+            if (i + 1 < tokens.size() && Sort.Direction.fromOptionalString(tokens.get(i + 1)).isPresent()) {
+                direction = Sort.Direction.fromString(tokens.get(++i));
             }
-            
-            return Sort.by(orders);
-        } catch (Exception e) {
-            log.warn("Invalid sort parameters: {}. Using default sorting by {}", 
-                    Arrays.toString(sort), DEFAULT_SORT_FIELD, e);
+            orders.add(new Sort.Order(direction, key.getProperty()));
+        }
+        
+        if (orders.isEmpty()) {
             return Sort.by(Sort.Order.asc(DEFAULT_SORT_FIELD));
         }
+        if (orders.stream().noneMatch(o -> o.getProperty().equals(DEFAULT_SORT_FIELD))) {
+            orders.add(new Sort.Order(orders.get(orders.size() - 1).getDirection(), DEFAULT_SORT_FIELD));
+        }
+        return Sort.by(orders);
+    }
+
+    /**
+     * Keyset predicate: rows strictly after the cursor position in (sort key, id) order
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Specification<Client> keysetAfter(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            ClientSortKey key = cursor.getKey();
+            boolean ascending = cursor.getDirection().isAscending();
+            Path<Long> id = root.get(DEFAULT_SORT_FIELD);
+            Predicate idAfter = ascending ? cb.greaterThan(id, cursor.getLastId()) : cb.lessThan(id, cursor.getLastId());
+            if (key == ClientSortKey.ID) {
+                return idAfter;
+            }
+            Path<Comparable> path = root.get(key.getProperty());
+            Comparable value = key.parse(cursor.getLastValue());
+            Predicate beyond = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            return cb.or(beyond, cb.and(cb.equal(path, value), idAfter));
+        };
     }
     
     /**
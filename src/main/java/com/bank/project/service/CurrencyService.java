@@ -1,14 +1,32 @@
 package com.bank.project.service;
 
+import com.bank.project.dto.BulkConversionRequest;
+import com.bank.project.dto.BulkConversionResponse;
 import com.bank.project.entity.Currency;
+import com.bank.project.entity.CurrencyRateHistory;
+import com.bank.project.exception.InvalidRequestException;
+import com.bank.project.exception.ResourceNotFoundException;
+import com.bank.project.repository.CurrencyRateHistoryRepository;
 import com.bank.project.repository.CurrencyRepository;
+import com.bank.project.service.cache.ReferenceDataCache;
+import com.bank.project.service.cache.ReferenceDataChangedEvent;
+import com.bank.project.service.currency.BulkCurrencyConverter;
+import com.bank.project.service.currency.CurrencyRateTable;
+import com.bank.project.service.currency.RateHistoryIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class CurrencyService {
@@ -16,17 +34,33 @@ public class CurrencyService {
     private static final Logger logger = LoggerFactory.getLogger(CurrencyService.class);
 
     private final CurrencyRepository currencyRepository;
+    private final CurrencyRateHistoryRepository rateHistoryRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    // Снимок курсов публикуется атомарно; читатели никогда не блокируются и не ходят в БД
+    private final AtomicReference<CurrencyRateTable> rateTable = new AtomicReference<>();
+    private final AtomicLong rateTableLoads = new AtomicLong();
+    // История курсов в памяти; дополняется при каждой смене курса без перечитывания всей таблицы
+    private final AtomicReference<RateHistoryIndex> rateHistory = new AtomicReference<>();
 
     @Autowired
-    public CurrencyService(CurrencyRepository currencyRepository) {
+    public CurrencyService(CurrencyRepository currencyRepository,
+                           CurrencyRateHistoryRepository rateHistoryRepository,
+                           ReferenceDataCache referenceDataCache) {
         this.currencyRepository = currencyRepository;
+        this.rateHistoryRepository = rateHistoryRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     // Create new currency
     public Currency createCurrency(Currency currency) {
         currency.setCreatedAt(java.time.LocalDateTime.now());
         logger.info("Creating new currency with code: {}", currency.getCode());
-        return currencyRepository.save(currency);
+        Currency savedCurrency = currencyRepository.save(currency);
+        recordRate(savedCurrency.getCode(), savedCurrency.getExchangeRate(), savedCurrency.getCreatedAt());
+        referenceDataCache.evict(Currency.class, savedCurrency.getId(), ReferenceDataCache.CURRENCY_QUERY_REGION);
+        reloadRates();
+        return savedCurrency;
     }
 
     // Get currency by ID
@@ -51,13 +85,23 @@ public class CurrencyService {
     public Currency updateCurrency(Long id, Currency currencyDetails) {
         logger.info("Updating currency with ID: {}", id);
         Currency existingCurrency = getCurrencyById(id);
+        String previousCode = existingCurrency.getCode();
+        Double previousRate = existingCurrency.getExchangeRate();
         existingCurrency.setCode(currencyDetails.getCode());
         existingCurrency.setName(currencyDetails.getName());
         existingCurrency.setSymbol(currencyDetails.getSymbol());
         existingCurrency.setExchangeRate(currencyDetails.getExchangeRate());
         existingCurrency.setUpdatedAt(java.time.LocalDateTime.now());
         logger.info("Currency with ID: {} updated to new code: {}", id, existingCurrency.getCode());
-        return currencyRepository.save(existingCurrency);
+        Currency savedCurrency = currencyRepository.save(existingCurrency);
+        // Старый курс не теряется: каждое изменение добавляет точку в историю
+        if (!Objects.equals(previousRate, savedCurrency.getExchangeRate())
+                || !Objects.equals(previousCode, savedCurrency.getCode())) {
+            recordRate(savedCurrency.getCode(), savedCurrency.getExchangeRate(), savedCurrency.getUpdatedAt());
+        }
+        referenceDataCache.evict(Currency.class, id, ReferenceDataCache.CURRENCY_QUERY_REGION);
+        reloadRates();
+        return savedCurrency;
     }
 
     // Delete currency
@@ -65,19 +109,21 @@ public class CurrencyService {
         logger.info("Deleting currency with ID: {}", id);
         Currency currency = getCurrencyById(id);
         currencyRepository.delete(currency);
+        referenceDataCache.evict(Currency.class, id, ReferenceDataCache.CURRENCY_QUERY_REGION);
+        reloadRates();
         logger.info("Currency with ID: {} deleted successfully", id);
             return false;
     }
 
     // Get currency by code
     public Currency getCurrencyByCode(String code) {
-        logger.info("Searching for currency with code: {}", code);
+        logger.debug("Searching for currency with code: {}", code);
         Currency currency = currencyRepository.findByCode(code);
         if (currency == null) {
             logger.warn("Currency not found with code: {}", code);
             throw new RuntimeException("Currency not found with code: " + code);
         }
-        logger.info("Currency found with code: {}", code);
+        logger.debug("Currency found with code: {}", code);
         return currency;
     }
 
@@ -116,4 +162,130 @@ public class CurrencyService {
         logger.info("Currency found with exchange rate: {}", exchangeRate);
         return currency;
     }
+
+    // Convert an amount between two currencies using the in-memory rate table
+    public BigDecimal convert(BigDecimal amount, String fromCode, String toCode) {
+        CurrencyRateTable table = getRateTable();
+        int from = requireRateIndex(table, fromCode);
+        int to = requireRateIndex(table, toCode);
+        if (from == to) {
+            return amount;
+        }
+        return amount.multiply(table.decimalRate(to))
+                .divide(table.decimalRate(from), MathContext.DECIMAL64);
+    }
+
+    // Convert an amount at the rates that were in effect at the given moment
+    public BigDecimal convertAsOf(BigDecimal amount, String fromCode, String toCode, LocalDateTime asOf) {
+        if (asOf == null) {
+            return convert(amount, fromCode, toCode);
+        }
+        double fromRate = rateAsOf(fromCode, asOf);
+        double toRate = rateAsOf(toCode, asOf);
+        return amount.multiply(BigDecimal.valueOf(toRate))
+                .divide(BigDecimal.valueOf(fromRate), MathContext.DECIMAL64);
+    }
+
+    // Rate in effect at the given moment; currencies without recorded history fall back to the current rate
+    public double rateAsOf(String code, LocalDateTime asOf) {
+        double rate = getRateHistory().rateAt(code, asOf);
+        if (Double.isNaN(rate)) {
+            CurrencyRateTable table = getRateTable();
+            return table.rate(requireRateIndex(table, code));
+        }
+        return rate;
+    }
+
+    // Convert many amounts into one target currency against a single rate snapshot
+    public BulkConversionResponse convertBulk(BulkConversionRequest request) {
+        double[] amounts = request.getAmounts();
+        String[] codes = request.getCurrencyCodes();
+        if (amounts.length != codes.length) {
+            throw new InvalidRequestException("Amounts and currency codes must have the same length");
+        }
+
+        CurrencyRateTable table = getRateTable();
+        int target = requireRateIndex(table, request.getTargetCurrency());
+        int[] sourceIndexes = new int[codes.length];
+        String previousCode = null;
+        int previousIndex = -1;
+        for (int i = 0; i < codes.length; i++) {
+            // Портфели обычно отсортированы по валюте — повторный код не ищем заново
+            if (previousCode == null || !previousCode.equals(codes[i])) {
+                previousCode = codes[i];
+                previousIndex = requireRateIndex(table, codes[i]);
+            }
+            sourceIndexes[i] = previousIndex;
+        }
+
+        logger.debug("Converting {} amounts to {}", amounts.length, request.getTargetCurrency());
+        double[] converted = BulkCurrencyConverter.convert(table, amounts, sourceIndexes, target);
+        return new BulkConversionResponse(table.code(target), table.version(), converted);
+    }
+
+    // Current rate snapshot; loaded lazily on first use, afterwards replaced on currency writes and version changes
+    public CurrencyRateTable getRateTable() {
+        CurrencyRateTable table = rateTable.get();
+        return table != null ? table : reloadRates();
+    }
+
+    // Rebuild the rate snapshot from the database and publish it
+    public CurrencyRateTable reloadRates() {
+        long version = rateTableLoads.incrementAndGet();
+        CurrencyRateTable loaded = CurrencyRateTable.of(version, currencyRepository.findAll());
+        // Публикуем только если никто не успел опубликовать снимок из более поздней загрузки
+        CurrencyRateTable published = rateTable.accumulateAndGet(loaded,
+                (current, candidate) -> current == null || current.version() < candidate.version() ? candidate : current);
+        logger.info("Currency rate table reloaded: version {}, {} currencies", published.version(), published.size());
+        return published;
+    }
+
+    // Currencies changed on any instance: rebuild the loaded snapshots before the new version becomes an ETag
+    @EventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (!ReferenceDataCache.CURRENCY_REGION.equals(event.getTable())) {
+            return;
+        }
+        // Ещё не загруженный снимок прочитает свежие данные при первом обращении
+        if (rateTable.get() != null) {
+            reloadRates();
+        }
+        if (rateHistory.get() != null) {
+            reloadRateHistory();
+        }
+    }
+
+    // Rate history index; loaded lazily on first as-of lookup
+    public RateHistoryIndex getRateHistory() {
+        RateHistoryIndex index = rateHistory.get();
+        return index != null ? index : reloadRateHistory();
+    }
+
+    // Rebuild the rate history index from the database
+    public RateHistoryIndex reloadRateHistory() {
+        List<CurrencyRateHistory> rows = rateHistoryRepository.findAllByOrderByCurrencyCodeAscValidFromAscIdAsc();
+        RateHistoryIndex loaded = RateHistoryIndex.of(rows);
+        rateHistory.set(loaded);
+        logger.info("Currency rate history loaded: {} points", rows.size());
+        return loaded;
+    }
+
+    private void recordRate(String code, Double rate, LocalDateTime validFrom) {
+        if (code == null || rate == null || rate <= 0) {
+            return;
+        }
+        LocalDateTime effective = validFrom != null ? validFrom : LocalDateTime.now();
+        rateHistoryRepository.save(new CurrencyRateHistory(code, rate, effective));
+        // Если индекс ещё не загружен, точка попадёт в него при первой загрузке
+        rateHistory.updateAndGet(index -> index == null ? null : index.withRate(code, effective, rate));
+        logger.debug("Recorded rate {} for {} effective from {}", rate, code, effective);
+    }
+
+    private int requireRateIndex(CurrencyRateTable table, String code) {
+        int index = table.indexOf(code);
+        if (index < 0) {
+            throw new ResourceNotFoundException("Currency", "code", code);
+        }
+        return index;
+    }
 }
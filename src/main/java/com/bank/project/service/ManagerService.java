@@ -3,6 +3,7 @@ package com.bank.project.service;
 import com.bank.project.entity.Manager;
 import com.bank.project.entity.enums.ManagerStatus;
 import com.bank.project.repository.ManagerRepository;
+import com.bank.project.service.cache.ReferenceDataCache;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -23,10 +24,13 @@ public class ManagerService implements UserDetailsService {
 
     private final ManagerRepository managerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataCache referenceDataCache;
 
-    public ManagerService(ManagerRepository managerRepository, PasswordEncoder passwordEncoder) {
+    public ManagerService(ManagerRepository managerRepository, PasswordEncoder passwordEncoder,
+                          ReferenceDataCache referenceDataCache) {
         this.managerRepository = managerRepository;
         this.passwordEncoder = passwordEncoder;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -53,6 +57,7 @@ public class ManagerService implements UserDetailsService {
         manager.setPassword(passwordEncoder.encode(manager.getPassword())); // Encrypt the password
         manager.setCreatedAt(LocalDateTime.now());
         Manager savedManager = managerRepository.save(manager);
+        referenceDataCache.evict(Manager.class, savedManager.getId(), ReferenceDataCache.MANAGER_QUERY_REGION);
         logger.info("Manager created successfully: {}", savedManager.getUsername());
         return savedManager;
     }
@@ -77,6 +82,7 @@ public class ManagerService implements UserDetailsService {
         }
 
         Manager updatedManager = managerRepository.save(existingManager);
+        referenceDataCache.evict(Manager.class, id, ReferenceDataCache.MANAGER_QUERY_REGION);
         logger.info("Manager with ID: {} updated successfully", id);
         return updatedManager;
     }
@@ -85,6 +91,7 @@ public class ManagerService implements UserDetailsService {
         logger.info("Deleting manager with ID: {}", id);
         Manager manager = getManagerById(id);
         managerRepository.delete(manager);
+        referenceDataCache.evict(Manager.class, id, ReferenceDataCache.MANAGER_QUERY_REGION);
         logger.info("Manager with ID: {} deleted successfully", id);
         return false;
     }
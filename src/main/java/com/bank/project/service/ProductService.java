@@ -3,11 +3,19 @@ package com.bank.project.service;
 import com.bank.project.entity.Product;
 import com.bank.project.entity.enums.ProductStatus;
 import com.bank.project.repository.ProductRepository;
+import com.bank.project.service.cache.ReferenceDataCache;
+import com.bank.project.service.streaming.EntityStreams;
+import com.bank.project.service.streaming.RowWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,24 +27,32 @@ public class ProductService {
     private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
 
     private final ProductRepository productRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, ReferenceDataCache referenceDataCache) {
         this.productRepository = productRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
+    @Transactional
     public Product createProduct(Product product) {
         logger.info("Creating new product with name: {}", product.getName());
         // createdAt and updatedAt will be set by @PrePersist
         Product savedProduct = productRepository.save(product);
+        referenceDataCache.evict(Product.class, savedProduct.getId(), ReferenceDataCache.PRODUCT_QUERY_REGION);
         logger.info("Product created successfully with ID: {}", savedProduct.getId());
-        return savedProduct;
+        return withManager(savedProduct);
     }
 
+    @Transactional(readOnly = true)
     public Product getProductById(Long id) {
         logger.info("Fetching product with ID: {}", id);
         Optional<Product> product = productRepository.findById(id);
-        return product.orElseThrow(() -> {
+        return product.map(ProductService::withManager).orElseThrow(() -> {
             logger.error("Product not found with ID: {}", id);
             return new RuntimeException("Product not found with ID: " + id);
         });
@@ -47,6 +63,16 @@ public class ProductService {
         return productRepository.findAll();
     }
 
+    /**
+     * Hands every product to {@code writer} straight from a database cursor, without loading them all.
+     */
+    @Transactional(readOnly = true)
+    public long streamAllProducts(RowWriter<? super Product> writer) throws IOException {
+        logger.debug("Streaming all products from the database");
+        return EntityStreams.drain(productRepository.streamAll(), entityManager, writer);
+    }
+
+    @Transactional
     public Product updateProduct(Long id, Product productDetails) {
         logger.info("Updating product with ID: {}", id);
         Product existingProduct = getProductById(id);
@@ -82,22 +108,25 @@ public class ProductService {
         
         // updatedAt will be set by @PreUpdate
         Product updatedProduct = productRepository.save(existingProduct);
+        referenceDataCache.evict(Product.class, id, ReferenceDataCache.PRODUCT_QUERY_REGION);
         logger.info("Product with ID: {} updated successfully", id);
-        return updatedProduct;
+        return withManager(updatedProduct);
     }
 
     public boolean deleteProduct(Long id) {
         logger.info("Deleting product with ID: {}", id);
         Product product = getProductById(id);
         productRepository.delete(product);
+        referenceDataCache.evict(Product.class, id, ReferenceDataCache.PRODUCT_QUERY_REGION);
         logger.info("Product with ID: {} deleted successfully", id);
         return false;
     }
 
+    @Transactional(readOnly = true)
     public Product findProductByName(String name) {
         logger.info("Searching for product with name: {}", name);
         Optional<Product> product = productRepository.findByName(name);
-        return product.orElseThrow(() -> {
+        return product.map(ProductService::withManager).orElseThrow(() -> {
             logger.error("Product not found with name: {}", name);
             return new RuntimeException("Product not found with name: " + name);
         });
@@ -142,4 +171,14 @@ public class ProductService {
         logger.info("Finding products with status: {} and interest rate: {}", status, interestRate);
         return productRepository.findByStatusAndInterestRate(ProductStatus.valueOf(status), BigDecimal.valueOf(interestRate));
     }
+
+    /**
+     * The product is mapped after the transaction has ended, so its lazy manager has to be loaded here.
+     * The entity graph on the repository is not enough: a product served from the second-level cache
+     * comes back with an uninitialized manager proxy regardless of the graph.
+     */
+    private static Product withManager(Product product) {
+        Hibernate.initialize(product.getManager());
+        return product;
+    }
 }
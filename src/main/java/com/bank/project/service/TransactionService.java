@@ -1,7 +1,12 @@
 package com.bank.project.service;
 
+import com.bank.project.aop.Audit;
+import com.bank.project.aop.Bulkhead;
+import com.bank.project.config.Workload;
 import com.bank.project.entity.Transaction;
 import com.bank.project.repository.TransactionRepository;
+import com.bank.project.service.mapper.TransactionMapper;
+import com.bank.project.service.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,8 +22,11 @@ public class TransactionService {
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionService.class);
     private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final OutboxService outboxService;
 
     // Creating a transaction
+    @Audit(entityType = "Transaction")
     @Transactional
     public Transaction createTransaction(Transaction transaction) {
         if (transaction.getAmount() <= 0) {
@@ -26,6 +34,8 @@ public class TransactionService {
         }
         transaction.setCreatedAt(null); // Transaction timestamp is set automatically
         Transaction savedTransaction = transactionRepository.save(transaction);
+        outboxService.record(OutboxService.TRANSACTION, savedTransaction.getId(), "TransactionCreated",
+                transactionMapper.toResponse(savedTransaction));
 
         logger.info("Transaction {} created: debit account {}, credit account {}, amount {}",
                 savedTransaction.getId(), transaction.getDebitAccountId(),
@@ -40,6 +50,7 @@ public class TransactionService {
     }
 
     // Getting all transactions
+    @Bulkhead(Workload.REPORTING)
     public List<Transaction> getAllTransactions() {
         return transactionRepository.findAll();
     }
@@ -65,11 +76,13 @@ public class TransactionService {
     }
 
     // Getting transactions by date range
+    @Bulkhead(Workload.REPORTING)
     public List<Transaction> getTransactionsByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return transactionRepository.findByCreatedAtBetween(startDate, endDate);
     }
 
     // Deleting a transaction
+    @Audit(entityType = "Transaction")
     @Transactional
     public void deleteTransaction(Long id) {
         Transaction transaction = getTransactionById(id);
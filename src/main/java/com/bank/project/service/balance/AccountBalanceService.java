@@ -0,0 +1,95 @@
+package com.bank.project.service.balance;
+
+import com.bank.project.dto.AccountBalanceResponse;
+import com.bank.project.entity.AccountBalanceSnapshot;
+import com.bank.project.exception.InvalidRequestException;
+import com.bank.project.exception.ResourceNotFoundException;
+import com.bank.project.repository.AccountAmountTotal;
+import com.bank.project.repository.AccountBalanceSnapshotRepository;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Ledger balances as of a point in time.
+ * <p>
+ * Credits add to an account and debits subtract from it. Instead of replaying the whole ledger, a balance
+ * is the nearest end-of-day snapshot written by {@link BalanceSnapshotJob} plus the transactions booked
+ * after it, so only the tail since the last snapshot is summed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceService {
+
+    // Начало журнала: для счетов без снимков обороты считаются с этой даты
+    static final LocalDateTime LEDGER_START = LocalDate.EPOCH.atStartOfDay();
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final Clock clock;
+
+    @Transactional(readOnly = true)
+    public AccountBalanceResponse getBalanceAsOf(Long accountId, LocalDateTime asOf) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new ResourceNotFoundException("Account", "id", accountId);
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (asOf == null) {
+            asOf = now;
+        } else if (asOf.isAfter(now)) {
+            throw new InvalidRequestException("Balance date must not be in the future: " + asOf);
+        }
+
+        // Снимок за день D покрывает всё до начала дня D + 1
+        Optional<AccountBalanceSnapshot> snapshot = snapshotRepository
+                .findFirstByAccountIdAndBalanceDateLessThanOrderByBalanceDateDesc(accountId, asOf.toLocalDate());
+        LocalDateTime from = snapshot.map(s -> s.getBalanceDate().plusDays(1).atStartOfDay()).orElse(LEDGER_START);
+        BigDecimal change = netChange(List.of(accountId), from, asOf).getOrDefault(accountId, BigDecimal.ZERO);
+        BigDecimal opening = snapshot.map(AccountBalanceSnapshot::getBalance).orElse(BigDecimal.ZERO);
+
+        AccountBalanceResponse response = new AccountBalanceResponse();
+        response.setAccountId(accountId);
+        response.setAsOf(asOf);
+        response.setSnapshotDate(snapshot.map(AccountBalanceSnapshot::getBalanceDate).orElse(null));
+        response.setChangeSinceSnapshot(change);
+        response.setBalance(opening.add(change));
+        log.debug("Balance of account {} as of {}: {} from snapshot {}", accountId, asOf,
+                response.getBalance(), response.getSnapshotDate());
+        return response;
+    }
+
+    /**
+     * Net movement (credits minus debits) of each account over {@code [from, to)}.
+     * Accounts without transactions in the period are absent from the result.
+     */
+    public Map<Long, BigDecimal> netChange(Collection<Long> accountIds, LocalDateTime from, LocalDateTime to) {
+        Map<Long, BigDecimal> result = new HashMap<>();
+        for (AccountAmountTotal credit : transactionRepository.sumCreditsByAccount(accountIds, from, to)) {
+            result.merge(credit.getAccountId(), money(credit.getTotal()), BigDecimal::add);
+        }
+        for (AccountAmountTotal debit : transactionRepository.sumDebitsByAccount(accountIds, from, to)) {
+            result.merge(debit.getAccountId(), money(debit.getTotal()).negate(), BigDecimal::add);
+        }
+        return result;
+    }
+
+    private static BigDecimal money(Double amount) {
+        return amount == null ? BigDecimal.ZERO : BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
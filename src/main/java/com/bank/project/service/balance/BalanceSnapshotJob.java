@@ -0,0 +1,158 @@
+package com.bank.project.service.balance;
+
+import com.bank.project.aop.Bulkhead;
+import com.bank.project.config.BalanceSnapshotProperties;
+import com.bank.project.config.Workload;
+import com.bank.project.entity.AccountBalanceSnapshot;
+import com.bank.project.repository.AccountBalanceSnapshotRepository;
+import com.bank.project.repository.AccountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes end-of-day balance snapshots for every account.
+ * <p>
+ * Snapshots are incremental: the balance at the end of a day is the account's previous snapshot plus
+ * that day's movements, so each run reads one day of transactions rather than the whole ledger.
+ * Accounts are processed in chunks of ascending ids on a small pool; each chunk is one aggregate query
+ * and one write transaction. Re-running a day replaces its snapshots, so a failed chunk is repaired by
+ * running the day again.
+ * <p>
+ * The job runs as {@link Workload#BATCH}, so its connections come from the batch pool and its chunk
+ * queries are not cut off by the OLTP statement timeout.
+ */
+@Slf4j
+@Component
+@Bulkhead(Workload.BATCH)
+public class BalanceSnapshotJob {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final AccountBalanceService accountBalanceService;
+    private final BalanceSnapshotProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final ExecutorService workers;
+
+    public BalanceSnapshotJob(AccountRepository accountRepository,
+                              AccountBalanceSnapshotRepository snapshotRepository,
+                              AccountBalanceService accountBalanceService,
+                              BalanceSnapshotProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              Clock clock) {
+        this.accountRepository = accountRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.accountBalanceService = accountBalanceService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        // Очередь ограничена: при заполнении чанк выполняет читающий поток, и id не копятся в памяти
+        this.workers = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getThreads() * 2),
+                new CustomizableThreadFactory("balance-snapshot-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Scheduled(cron = "${app.balance-snapshot.cron:0 15 0 * * *}")
+    public void snapshotPreviousDay() {
+        if (properties.isEnabled()) {
+            snapshot(LocalDate.now(clock).minusDays(1));
+        }
+    }
+
+    /**
+     * Writes (or rewrites) the end-of-day snapshots for {@code day}.
+     *
+     * @return number of snapshots written
+     */
+    public int snapshot(LocalDate day) {
+        long started = System.currentTimeMillis();
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger failedChunks = new AtomicInteger();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = accountRepository.findIdsAfter(afterId, Limit.of(properties.getChunkSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> chunk = ids;
+            chunks.add(CompletableFuture.runAsync(() -> written.addAndGet(snapshotChunk(chunk, day)), workers)
+                    .exceptionally(e -> {
+                        failedChunks.incrementAndGet();
+                        log.error("Balance snapshot for {} failed for accounts {}..{}: {}", day,
+                                chunk.get(0), chunk.get(chunk.size() - 1), e.getMessage(), e);
+                        return null;
+                    }));
+            afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == properties.getChunkSize());
+
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        log.info("Balance snapshot for {}: {} accounts in {} chunks, {} failed, {} ms", day, written.get(),
+                chunks.size(), failedChunks.get(), System.currentTimeMillis() - started);
+        return written.get();
+    }
+
+    int snapshotChunk(List<Long> accountIds, LocalDate day) {
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now(clock);
+        // Чанк выполняется в рабочем потоке, куда нагрузка вызывающего потока не переходит
+        return Workload.call(Workload.BATCH, () -> transactionTemplate.execute(status -> {
+            Map<Long, AccountBalanceSnapshot> previous = snapshotRepository.findLatestBefore(accountIds, day).stream()
+                    .collect(Collectors.toMap(AccountBalanceSnapshot::getAccountId, Function.identity()));
+
+            // Обороты считаются от последнего снимка каждого счёта; обычно это вчерашний день
+            // и весь чанк укладывается в один запрос, пропуски и новые счета дают отдельные группы
+            Map<LocalDateTime, List<Long>> byStart = new HashMap<>();
+            for (Long accountId : accountIds) {
+                AccountBalanceSnapshot base = previous.get(accountId);
+                LocalDateTime from = base == null ? AccountBalanceService.LEDGER_START
+                        : base.getBalanceDate().plusDays(1).atStartOfDay();
+                byStart.computeIfAbsent(from, k -> new ArrayList<>()).add(accountId);
+            }
+            Map<Long, BigDecimal> changes = new HashMap<>();
+            byStart.forEach((from, ids) -> changes.putAll(accountBalanceService.netChange(ids, from, end)));
+
+            List<AccountBalanceSnapshot> snapshots = new ArrayList<>(accountIds.size());
+            for (Long accountId : accountIds) {
+                AccountBalanceSnapshot base = previous.get(accountId);
+                BigDecimal opening = base == null ? BigDecimal.ZERO : base.getBalance();
+                snapshots.add(new AccountBalanceSnapshot(accountId, day,
+                        opening.add(changes.getOrDefault(accountId, BigDecimal.ZERO)), now));
+            }
+            snapshotRepository.deleteForDate(accountIds, day);
+            snapshotRepository.saveAll(snapshots);
+            return snapshots.size();
+        }));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
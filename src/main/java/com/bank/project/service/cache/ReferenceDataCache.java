@@ -0,0 +1,79 @@
+package com.bank.project.service.cache;
+
+import com.bank.project.entity.Currency;
+import com.bank.project.entity.Manager;
+import com.bank.project.entity.Product;
+import com.bank.project.entity.TaxCode;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Explicit eviction for the Hibernate second-level cache regions that hold reference data
+ * (currencies, tax codes, products and managers).
+ * Services call it after every create/update/delete so that cached entities and
+ * cached findByCode/findByName results never outlive the row they were read from.
+ * The same call bumps the table's {@link ReferenceDataVersions version}, which changes the HTTP ETags
+ * of the reference endpoints.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    public static final String CURRENCY_REGION = "currency";
+    public static final String TAX_CODE_REGION = "tax_codes";
+    public static final String PRODUCT_REGION = "product";
+    public static final String MANAGER_REGION = "manager";
+
+    public static final String CURRENCY_QUERY_REGION = "query.currency";
+    public static final String TAX_CODE_QUERY_REGION = "query.tax_codes";
+    public static final String PRODUCT_QUERY_REGION = "query.product";
+    public static final String MANAGER_QUERY_REGION = "query.manager";
+
+    public static final List<String> ENTITY_REGIONS =
+            List.of(CURRENCY_REGION, TAX_CODE_REGION, PRODUCT_REGION, MANAGER_REGION);
+
+    public static final List<String> QUERY_REGIONS =
+            List.of(CURRENCY_QUERY_REGION, TAX_CODE_QUERY_REGION, PRODUCT_QUERY_REGION, MANAGER_QUERY_REGION);
+
+    // Имена регионов сущностей совпадают с именами таблиц
+    private static final Map<Class<?>, String> TABLE_BY_ENTITY = Map.of(
+            Currency.class, CURRENCY_REGION,
+            TaxCode.class, TAX_CODE_REGION,
+            Product.class, PRODUCT_REGION,
+            Manager.class, MANAGER_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReferenceDataVersions versions;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory, ReferenceDataVersions versions) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.versions = versions;
+    }
+
+    /**
+     * Evicts a single entity and all cached query results of its region, and bumps the table version.
+     *
+     * @param entityType  cached entity class
+     * @param id          entity id, or {@code null} to evict every instance of the type
+     * @param queryRegion query cache region holding lookups for the entity
+     */
+    public void evict(Class<?> entityType, Object id, String queryRegion) {
+        if (id != null) {
+            entityManagerFactory.getCache().evict(entityType, id);
+        } else {
+            entityManagerFactory.getCache().evict(entityType);
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(queryRegion);
+        String table = TABLE_BY_ENTITY.get(entityType);
+        if (table != null) {
+            versions.bump(table);
+        }
+        log.debug("Evicted {}#{} and query region {} from second-level cache",
+                entityType.getSimpleName(), id, queryRegion);
+    }
+}
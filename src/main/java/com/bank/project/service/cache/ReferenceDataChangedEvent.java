@@ -0,0 +1,24 @@
+package com.bank.project.service.cache;
+
+/**
+ * Published by {@link ReferenceDataVersions} when a refresh finds a new version of a reference table,
+ * whichever instance wrote the change. Listeners run before the new version is handed out as an ETag.
+ */
+public final class ReferenceDataChangedEvent {
+
+    private final String table;
+    private final long version;
+
+    public ReferenceDataChangedEvent(String table, long version) {
+        this.table = table;
+        this.version = version;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
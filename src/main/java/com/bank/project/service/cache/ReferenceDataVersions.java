@@ -0,0 +1,112 @@
+package com.bank.project.service.cache;
+
+import com.bank.project.config.HttpCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-table write counters for reference data, kept in {@code reference_data_version}.
+ * <p>
+ * Writers bump the counter in the database after their change is stored. Readers only look at an
+ * in-memory copy that every instance reloads on a short fixed delay, so answering a conditional GET
+ * never needs a query. New versions therefore become visible up to one refresh interval after the
+ * write, which also gives replicas time to catch up before a new tag is handed out; until then
+ * clients keep their cached copy, exactly as with a short {@code max-age}.
+ * <p>
+ * A table without a row is at version 0 on every instance. Until the first successful load, after a
+ * failed one, and once the last load is older than {@code stale-after-refreshes} refresh intervals (the
+ * refresh is not running, e.g. the scheduler is busy), no version is reported at all.
+ * <p>
+ * Every version a refresh finds changed is announced as a {@link ReferenceDataChangedEvent} before it
+ * becomes visible, so in-memory copies of the data (such as the currency rate table) are rebuilt on
+ * every instance before clients see a tag for the new state.
+ */
+@Slf4j
+@Component
+public class ReferenceDataVersions {
+
+    static final String BUMP_SQL = "INSERT INTO reference_data_version (table_name, version) VALUES (?, 1) "
+            + "ON CONFLICT (table_name) DO UPDATE SET version = reference_data_version.version + 1";
+    static final String LOAD_SQL = "SELECT table_name, version FROM reference_data_version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher events;
+    private final Clock clock;
+    private final Duration maxAge;
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    // null, пока номера не загружены или последняя загрузка не удалась
+    private volatile Instant loadedAt;
+
+    public ReferenceDataVersions(JdbcTemplate jdbcTemplate, ApplicationEventPublisher events,
+                                 HttpCacheProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.events = events;
+        this.clock = clock;
+        this.maxAge = properties.getVersionRefresh().multipliedBy(properties.getStaleAfterRefreshes());
+    }
+
+    /**
+     * Records a change to {@code table}. Call after the change itself is written.
+     */
+    public void bump(String table) {
+        try {
+            jdbcTemplate.update(BUMP_SQL, table);
+        } catch (DataAccessException e) {
+            // Данные уже записаны; без нового номера клиенты могут получать 304 до следующего изменения
+            log.error("Failed to bump reference data version of {}: {}", table, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return last loaded version of {@code table}, or empty while versions are unknown
+     */
+    public OptionalLong current(String table) {
+        Instant loaded = loadedAt;
+        if (loaded == null || loaded.plus(maxAge).isBefore(clock.instant())) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(versions.getOrDefault(table, 0L));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.http-cache.version-refresh:PT2S}")
+    public void refresh() {
+        try {
+            Map<String, Long> loaded = new HashMap<>();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                loaded.put(rs.getString("table_name"), rs.getLong("version"));
+            });
+            // Слушатели перестраивают свои снимки до того, как новый номер станет ETag;
+            // если перестройка упала, номер не публикуется и следующее обновление повторит её
+            loaded.forEach((table, version) -> {
+                if (!version.equals(versions.get(table))) {
+                    events.publishEvent(new ReferenceDataChangedEvent(table, version));
+                }
+                versions.put(table, version);
+            });
+            loadedAt = clock.instant();
+        } catch (DataAccessException e) {
+            // Без свежих номеров безопаснее не отвечать 304 вовсе
+            loadedAt = null;
+            log.warn("Failed to load reference data versions: {}", e.getMessage());
+        }
+    }
+}
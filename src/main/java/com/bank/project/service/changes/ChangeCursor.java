@@ -0,0 +1,69 @@
+package com.bank.project.service.changes;
+
+import com.bank.project.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Watermark in a change feed: the change timestamp and id of the last row delivered.
+ * The id breaks ties between rows changed in the same microsecond, so nothing is skipped or repeated.
+ */
+public final class ChangeCursor {
+
+    /** Position before any row; used when a consumer starts without a cursor. */
+    public static final ChangeCursor START = new ChangeCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final LocalDateTime changedAt;
+    private final long id;
+
+    public ChangeCursor(LocalDateTime changedAt, long id) {
+        // PostgreSQL хранит микросекунды — курсор не должен быть точнее колонки
+        this.changedAt = changedAt.truncatedTo(ChronoUnit.MICROS);
+        this.id = id;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(START.changedAt, changedAt);
+        String raw = micros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new ChangeCursor(START.changedAt.plus(micros, ChronoUnit.MICROS), id);
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid change cursor: " + token, e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ChangeCursor other && id == other.id && changedAt.equals(other.changedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return changedAt.hashCode() * 31 + Long.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return changedAt.toInstant(ZoneOffset.UTC) + "/" + id;
+    }
+}
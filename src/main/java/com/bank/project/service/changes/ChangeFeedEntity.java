@@ -0,0 +1,27 @@
+package com.bank.project.service.changes;
+
+import com.bank.project.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Entity types exposed through the change feed.
+ */
+public enum ChangeFeedEntity {
+    ACCOUNTS,
+    AGREEMENTS,
+    CLIENTS,
+    // Проводки неизменяемы, их водяной знак — created_at
+    TRANSACTIONS;
+
+    public static ChangeFeedEntity fromPath(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidRequestException("Unknown change feed: " + value + ". Available feeds: "
+                    + Arrays.stream(values()).map(v -> v.name().toLowerCase(Locale.ROOT)).collect(Collectors.joining(", ")));
+        }
+    }
+}
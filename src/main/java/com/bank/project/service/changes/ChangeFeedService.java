@@ -0,0 +1,136 @@
+package com.bank.project.service.changes;
+
+import com.bank.project.dto.ChangeFeedResponse;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.AgreementRepository;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.repository.TransactionRepository;
+import com.bank.project.service.mapper.AccountMapper;
+import com.bank.project.service.mapper.AgreementMapper;
+import com.bank.project.service.mapper.ClientMapper;
+import com.bank.project.service.mapper.TransactionMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Incremental change feeds for accounts, agreements, clients and transactions.
+ * <p>
+ * Each feed is ordered by {@code (updated_at, id)} ({@code created_at} for immutable transactions) and
+ * read by keyset from the consumer's watermark, so a poller neither skips nor repeats rows.
+ * Rows changed within the last {@link #SETTLE_LAG} are held back: their transactions may still be
+ * committing with an earlier timestamp, and handing out a watermark past them would lose them.
+ * <p>
+ * Long polling re-checks the feed on a small scheduler instead of holding a request thread.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+    public static final Duration MAX_WAIT = Duration.ofSeconds(25);
+    static final Duration SETTLE_LAG = Duration.ofSeconds(2);
+    static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final AccountRepository accountRepository;
+    private final AgreementRepository agreementRepository;
+    private final ClientRepository clientRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountMapper accountMapper;
+    private final AgreementMapper agreementMapper;
+    private final ClientMapper clientMapper;
+    private final TransactionMapper transactionMapper;
+    private final Clock clock;
+
+    private final ScheduledExecutorService poller =
+            Executors.newScheduledThreadPool(2, new CustomizableThreadFactory("change-feed-"));
+
+    /**
+     * Returns the changes after {@code cursor}, possibly none.
+     */
+    public ChangeFeedResponse<?> poll(ChangeFeedEntity feed, String cursor, Integer limit) {
+        ChangeCursor after = cursor == null || cursor.isBlank() ? ChangeCursor.START : ChangeCursor.decode(cursor);
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(1, limit), MAX_LIMIT);
+        LocalDateTime upTo = LocalDateTime.now(clock).minus(SETTLE_LAG);
+
+        // Запрашиваем на одну строку больше, чтобы узнать, есть ли ещё изменения
+        Limit fetch = Limit.of(size + 1);
+        return switch (feed) {
+            case ACCOUNTS -> batch(feed, after, size,
+                    accountRepository.findChangedAfter(after.getChangedAt(), after.getId(), upTo, fetch),
+                    a -> new ChangeCursor(a.getUpdatedAt(), a.getId()), accountMapper::toResponses);
+            case AGREEMENTS -> batch(feed, after, size,
+                    agreementRepository.findChangedAfter(after.getChangedAt(), after.getId(), upTo, fetch),
+                    a -> new ChangeCursor(a.getUpdatedAt(), a.getId()), agreementMapper::toResponses);
+            case CLIENTS -> batch(feed, after, size,
+                    clientRepository.findChangedAfter(after.getChangedAt(), after.getId(), upTo, fetch),
+                    c -> new ChangeCursor(c.getUpdatedAt(), c.getId()), clientMapper::toResponses);
+            case TRANSACTIONS -> batch(feed, after, size,
+                    transactionRepository.findCreatedAfter(after.getChangedAt(), after.getId(), upTo, fetch),
+                    t -> new ChangeCursor(t.getCreatedAt(), t.getId()), transactionMapper::toResponses);
+        };
+    }
+
+    /**
+     * Like {@link #poll}, but when there is nothing new waits up to {@code wait} for changes to appear.
+     */
+    public CompletableFuture<ChangeFeedResponse<?>> awaitChanges(ChangeFeedEntity feed, String cursor,
+                                                                 Integer limit, Duration wait) {
+        if (cursor != null && !cursor.isBlank()) {
+            ChangeCursor.decode(cursor); // неверный курсор — ошибка сразу, а не после ожидания
+        }
+        Duration bounded = wait.compareTo(MAX_WAIT) > 0 ? MAX_WAIT : wait;
+        long deadline = System.nanoTime() + bounded.toNanos();
+        CompletableFuture<ChangeFeedResponse<?>> result = new CompletableFuture<>();
+        schedule(result, feed, cursor, limit, deadline, 0);
+        return result;
+    }
+
+    private void schedule(CompletableFuture<ChangeFeedResponse<?>> result, ChangeFeedEntity feed, String cursor,
+                          Integer limit, long deadline, long delayMillis) {
+        poller.schedule(() -> {
+            try {
+                ChangeFeedResponse<?> batch = poll(feed, cursor, limit);
+                if (!batch.getItems().isEmpty() || System.nanoTime() >= deadline) {
+                    result.complete(batch);
+                } else {
+                    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    schedule(result, feed, cursor, limit, deadline, Math.min(POLL_INTERVAL.toMillis(), Math.max(0, remaining)));
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static <E, D> ChangeFeedResponse<D> batch(ChangeFeedEntity feed, ChangeCursor after, int size, List<E> rows,
+                                                      Function<E, ChangeCursor> watermark,
+                                                      Function<List<E>, List<D>> mapper) {
+        boolean hasMore = rows.size() > size;
+        List<E> page = hasMore ? rows.subList(0, size) : rows;
+        ChangeCursor next = page.isEmpty() ? after : watermark.apply(page.get(page.size() - 1));
+        log.debug("Change feed {} after {} returned {} rows, more: {}", feed, after, page.size(), hasMore);
+        return new ChangeFeedResponse<>(feed.name().toLowerCase(Locale.ROOT), mapper.apply(page), next.encode(), hasMore);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+    }
+}
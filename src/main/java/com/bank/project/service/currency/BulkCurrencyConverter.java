@@ -0,0 +1,45 @@
+package com.bank.project.service.currency;
+
+/**
+ * Converts large batches of amounts into a single target currency.
+ * <p>
+ * Works purely on primitive arrays: source currencies are resolved to table indexes once,
+ * every element's multiplier is gathered from a per-currency factor array, and the final
+ * multiplication is a straight-line loop over two {@code double[]} that HotSpot's superword
+ * optimisation compiles to SIMD instructions.
+ */
+public final class BulkCurrencyConverter {
+
+    private BulkCurrencyConverter() {
+    }
+
+    /**
+     * @param table         rate snapshot to convert with
+     * @param amounts       amounts in their source currencies
+     * @param sourceIndexes index of each amount's currency in {@code table}
+     * @param target        index of the target currency in {@code table}
+     * @return converted amounts, same order as {@code amounts}
+     */
+    public static double[] convert(CurrencyRateTable table, double[] amounts, int[] sourceIndexes, int target) {
+        if (amounts.length != sourceIndexes.length) {
+            throw new IllegalArgumentException("Amounts and currency codes must have the same length");
+        }
+
+        // Один коэффициент на валюту вместо деления на каждый элемент
+        double targetRate = table.rate(target);
+        double[] factors = new double[table.size()];
+        for (int c = 0; c < factors.length; c++) {
+            factors[c] = targetRate / table.rate(c);
+        }
+
+        double[] converted = new double[amounts.length];
+        for (int i = 0; i < converted.length; i++) {
+            converted[i] = factors[sourceIndexes[i]];
+        }
+        // Векторизуемый цикл: без ветвлений и косвенной адресации
+        for (int i = 0; i < converted.length; i++) {
+            converted[i] *= amounts[i];
+        }
+        return converted;
+    }
+}
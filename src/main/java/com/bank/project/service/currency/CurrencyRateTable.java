@@ -0,0 +1,131 @@
+package com.bank.project.service.currency;
+
+import com.bank.project.entity.Currency;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of all exchange rates.
+ * <p>
+ * Rates are stored in primitive arrays indexed by position; a three-letter ISO code is mapped
+ * to its position through a direct-address table of 26^3 slots, so a lookup is a few arithmetic
+ * operations and one array read. Codes that are not three Latin letters fall back to a small map.
+ * Instances are never modified after construction and can be shared between threads freely.
+ */
+public final class CurrencyRateTable {
+
+    private static final int ISO_SLOTS = 26 * 26 * 26;
+
+    public static final CurrencyRateTable EMPTY = new CurrencyRateTable(0, new String[0], new double[0]);
+
+    private final long version;
+    private final String[] codes;
+    private final double[] rates;
+    private final BigDecimal[] decimalRates;
+    // slot -> index + 1, 0 означает отсутствие валюты
+    private final int[] isoSlots;
+    private final Map<String, Integer> otherCodes;
+
+    private CurrencyRateTable(long version, String[] codes, double[] rates) {
+        this.version = version;
+        this.codes = codes;
+        this.rates = rates;
+        this.decimalRates = new BigDecimal[rates.length];
+        this.isoSlots = new int[ISO_SLOTS];
+        Map<String, Integer> other = new HashMap<>();
+        for (int i = 0; i < codes.length; i++) {
+            decimalRates[i] = BigDecimal.valueOf(rates[i]);
+            int slot = isoSlot(codes[i]);
+            if (slot >= 0) {
+                isoSlots[slot] = i + 1;
+            } else {
+                other.put(codes[i], i);
+            }
+        }
+        this.otherCodes = Map.copyOf(other);
+    }
+
+    /**
+     * Builds a snapshot from currency rows. Rows without a code or with a missing or non-positive
+     * exchange rate are skipped, since no conversion through them would be meaningful.
+     */
+    public static CurrencyRateTable of(long version, Collection<Currency> currencies) {
+        String[] codes = new String[currencies.size()];
+        double[] rates = new double[currencies.size()];
+        int size = 0;
+        for (Currency currency : currencies) {
+            Double rate = currency.getExchangeRate();
+            if (currency.getCode() == null || rate == null || !(rate > 0)) {
+                continue;
+            }
+            codes[size] = normalize(currency.getCode());
+            rates[size] = rate;
+            size++;
+        }
+        return new CurrencyRateTable(version, Arrays.copyOf(codes, size), Arrays.copyOf(rates, size));
+    }
+
+    /**
+     * @return position of the currency in this table, or {@code -1} if it is unknown
+     */
+    public int indexOf(String code) {
+        if (code == null) {
+            return -1;
+        }
+        // Коды в таблице нормализованы при построении; запрос приводим так же
+        String normalized = normalize(code);
+        int slot = isoSlot(normalized);
+        if (slot >= 0) {
+            return isoSlots[slot] - 1;
+        }
+        Integer index = otherCodes.get(normalized);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return units of the currency per one unit of the base currency
+     */
+    public double rate(int index) {
+        return rates[index];
+    }
+
+    public BigDecimal decimalRate(int index) {
+        return decimalRates[index];
+    }
+
+    public String code(int index) {
+        return codes[index];
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    private static int isoSlot(String code) {
+        if (code.length() != 3) {
+            return -1;
+        }
+        int slot = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = (code.charAt(i) | 0x20) - 'a';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            slot = slot * 26 + letter;
+        }
+        return slot;
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+}
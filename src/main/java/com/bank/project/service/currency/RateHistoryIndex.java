@@ -0,0 +1,140 @@
+package com.bank.project.service.currency;
+
+import com.bank.project.entity.CurrencyRateHistory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable in-memory index of historical exchange rates.
+ * <p>
+ * Every currency keeps two parallel primitive arrays sorted by time: the instant a rate became
+ * effective and the rate itself. An as-of lookup is a single binary search, so revaluing a
+ * statement costs no database round trips. New points are appended copy-on-write via
+ * {@link #withRate(String, LocalDateTime, double)}.
+ */
+public final class RateHistoryIndex {
+
+    public static final RateHistoryIndex EMPTY = new RateHistoryIndex(Map.of());
+
+    private final Map<String, Series> series;
+
+    private RateHistoryIndex(Map<String, Series> series) {
+        this.series = series;
+    }
+
+    /**
+     * Builds the index from history rows; rows may come in any order.
+     */
+    public static RateHistoryIndex of(Collection<CurrencyRateHistory> rows) {
+        Map<String, List<CurrencyRateHistory>> grouped = new HashMap<>();
+        for (CurrencyRateHistory row : rows) {
+            if (row.getCurrencyCode() == null || row.getValidFrom() == null
+                    || row.getExchangeRate() == null || row.getExchangeRate() <= 0) {
+                continue;
+            }
+            grouped.computeIfAbsent(normalize(row.getCurrencyCode()), k -> new ArrayList<>()).add(row);
+        }
+
+        Map<String, Series> series = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((code, points) -> {
+            // Стабильная сортировка: при равном времени побеждает более поздняя запись
+            points.sort((a, b) -> a.getValidFrom().compareTo(b.getValidFrom()));
+            long[] times = new long[points.size()];
+            double[] rates = new double[points.size()];
+            for (int i = 0; i < times.length; i++) {
+                times[i] = key(points.get(i).getValidFrom());
+                rates[i] = points.get(i).getExchangeRate();
+            }
+            series.put(code, new Series(times, rates));
+        });
+        return new RateHistoryIndex(Map.copyOf(series));
+    }
+
+    /**
+     * Rate in effect for {@code code} at {@code at}, or {@link Double#NaN} if the currency has no history.
+     * Moments before the first recorded point resolve to the earliest known rate.
+     */
+    public double rateAt(String code, LocalDateTime at) {
+        if (code == null || at == null) {
+            return Double.NaN;
+        }
+        Series s = series.get(normalize(code));
+        return s == null ? Double.NaN : s.rateAt(key(at));
+    }
+
+    /**
+     * Returns a copy of this index with one more point for {@code code}.
+     */
+    public RateHistoryIndex withRate(String code, LocalDateTime validFrom, double rate) {
+        String normalized = normalize(code);
+        Map<String, Series> copy = new HashMap<>(series);
+        Series existing = copy.get(normalized);
+        copy.put(normalized, existing == null
+                ? new Series(new long[]{key(validFrom)}, new double[]{rate})
+                : existing.with(key(validFrom), rate));
+        return new RateHistoryIndex(Map.copyOf(copy));
+    }
+
+    public int pointCount(String code) {
+        Series s = code == null ? null : series.get(normalize(code));
+        return s == null ? 0 : s.times.length;
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // Микросекунды от эпохи в UTC — достаточно для упорядочивания и не теряет порядок внутри секунды
+    private static long key(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static final class Series {
+        private final long[] times;
+        private final double[] rates;
+
+        private Series(long[] times, double[] rates) {
+            this.times = times;
+            this.rates = rates;
+        }
+
+        private double rateAt(long time) {
+            int pos = Arrays.binarySearch(times, time);
+            if (pos >= 0) {
+                // Несколько точек с одинаковым временем — берём последнюю
+                return rates[lastIndexOf(pos, time)];
+            }
+            int insertion = -pos - 1;
+            return rates[insertion == 0 ? 0 : insertion - 1];
+        }
+
+        private Series with(long time, double rate) {
+            int insertion = Arrays.binarySearch(times, time);
+            insertion = insertion >= 0 ? lastIndexOf(insertion, time) + 1 : -insertion - 1;
+            long[] newTimes = new long[times.length + 1];
+            double[] newRates = new double[rates.length + 1];
+            System.arraycopy(times, 0, newTimes, 0, insertion);
+            System.arraycopy(rates, 0, newRates, 0, insertion);
+            newTimes[insertion] = time;
+            newRates[insertion] = rate;
+            System.arraycopy(times, insertion, newTimes, insertion + 1, times.length - insertion);
+            System.arraycopy(rates, insertion, newRates, insertion + 1, rates.length - insertion);
+            return new Series(newTimes, newRates);
+        }
+
+        private int lastIndexOf(int pos, long time) {
+            while (pos + 1 < times.length && times[pos + 1] == time) {
+                pos++;
+            }
+            return pos;
+        }
+    }
+}
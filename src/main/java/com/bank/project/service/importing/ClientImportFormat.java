@@ -0,0 +1,36 @@
+package com.bank.project.service.importing;
+
+import com.bank.project.exception.InvalidRequestException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Supported upload formats for bulk client onboarding.
+ */
+public enum ClientImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    public static ClientImportFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            throw new InvalidRequestException("Content-Type is required: " + TEXT_CSV + " or " + APPLICATION_NDJSON);
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new InvalidRequestException("Invalid Content-Type: " + contentType, e);
+        }
+        String subtype = mediaType.getSubtype().toLowerCase();
+        if (subtype.equals("csv")) {
+            return CSV;
+        }
+        if (subtype.equals("x-ndjson") || subtype.equals("ndjson") || subtype.equals("jsonl")) {
+            return NDJSON;
+        }
+        throw new InvalidRequestException("Unsupported import format: " + contentType);
+    }
+}
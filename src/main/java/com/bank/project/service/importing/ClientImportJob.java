@@ -0,0 +1,96 @@
+package com.bank.project.service.importing;
+
+import com.bank.project.dto.ClientImportError;
+import com.bank.project.dto.ClientImportReport;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one bulk import. Counters are updated by the importing thread and read concurrently
+ * by progress requests, so everything readers see is either atomic or guarded by {@code this}.
+ */
+public class ClientImportJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final String id;
+    private final ClientImportFormat format;
+    private final Clock clock;
+    private final LocalDateTime startedAt;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<ClientImportError> errors = new ArrayList<>();
+    private volatile Status status = Status.RUNNING;
+    private volatile String failureMessage;
+    private volatile LocalDateTime finishedAt;
+
+    ClientImportJob(String id, ClientImportFormat format, Clock clock) {
+        this.id = id;
+        this.format = format;
+        this.clock = clock;
+        this.startedAt = LocalDateTime.now(clock);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    void addProcessed(long count) {
+        processed.addAndGet(count);
+    }
+
+    void addImported(long count) {
+        imported.addAndGet(count);
+    }
+
+    synchronized void reject(long line, String field, String message) {
+        rejected.incrementAndGet();
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ClientImportError(line, field, message));
+        }
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now(clock);
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now(clock);
+        status = Status.FAILED;
+    }
+
+    public synchronized ClientImportReport toReport() {
+        ClientImportReport report = new ClientImportReport();
+        report.setJobId(id);
+        report.setStatus(status.name());
+        report.setFormat(format.name());
+        report.setProcessed(processed.get());
+        report.setImported(imported.get());
+        report.setRejected(rejected.get());
+        report.setErrors(List.copyOf(errors));
+        report.setErrorsTruncated(rejected.get() > errors.size());
+        report.setFailureMessage(failureMessage);
+        report.setStartedAt(startedAt);
+        report.setFinishedAt(finishedAt);
+        return report;
+    }
+}
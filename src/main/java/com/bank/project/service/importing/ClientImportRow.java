@@ -0,0 +1,30 @@
+package com.bank.project.service.importing;
+
+import com.bank.project.dto.CreateClientRequest;
+import com.bank.project.entity.Client;
+
+/**
+ * One record read from an upload: either a parsed request or the reason it could not be parsed.
+ */
+final class ClientImportRow {
+
+    final long line;
+    final CreateClientRequest request;
+    final String parseError;
+    // Заполняется после валидации; проверки уникальности и вставка работают уже с сущностью
+    Client client;
+
+    private ClientImportRow(long line, CreateClientRequest request, String parseError) {
+        this.line = line;
+        this.request = request;
+        this.parseError = parseError;
+    }
+
+    static ClientImportRow parsed(long line, CreateClientRequest request) {
+        return new ClientImportRow(line, request, null);
+    }
+
+    static ClientImportRow failed(long line, String parseError) {
+        return new ClientImportRow(line, null, parseError);
+    }
+}
@@ -0,0 +1,318 @@
+package com.bank.project.service.importing;
+
+import com.bank.project.dto.ClientImportReport;
+import com.bank.project.dto.CreateClientRequest;
+import com.bank.project.entity.Client;
+import com.bank.project.exception.InvalidRequestException;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.service.mapper.ClientMapper;
+import com.bank.project.service.outbox.OutboxService;
+import com.bank.project.service.uniqueness.ClientUniqueField;
+import com.bank.project.service.uniqueness.ClientUniquenessFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk client onboarding from a streamed CSV or NDJSON upload.
+ * <p>
+ * The upload is consumed chunk by chunk as it arrives, so memory stays bounded by the chunk size
+ * regardless of file size. Each chunk is validated in parallel, checked for email / phone /
+ * tax code / passport uniqueness with one set-based query per field, and inserted with a single
+ * JDBC batch in its own transaction. Progress and row-level errors are kept per job id.
+ * <p>
+ * Imported clients are announced like clients created one by one: the chunk transaction records a
+ * {@code ClientCreated} outbox event per inserted row, and once it commits the rows are registered
+ * with the {@link ClientUniquenessFilter}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClientImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+    private static final Pattern JOB_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private static final String INSERT_SQL = "INSERT INTO client (first_name, middle_name, last_name, birth_date, "
+            + "email, phone, passport_series, passport_number, department_code, issued_by, issue_date, "
+            + "registration_address, residential_address, tax_code, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final ClientRepository clientRepository;
+    private final ClientMapper clientMapper;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final ClientUniquenessFilter uniquenessFilter;
+    private final OutboxService outboxService;
+
+    private final Map<String, ClientImportJob> jobs = new ConcurrentHashMap<>();
+    // Отдельный пул, чтобы валидация импорта не занимала общий ForkJoinPool
+    private final ForkJoinPool validationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Imports clients from {@code body}. The job is registered before reading starts, so its progress
+     * can be polled with {@link #getReport(String)} while the upload is still streaming.
+     *
+     * @param requestedJobId optional caller-chosen job id, generated when {@code null}
+     */
+    public ClientImportReport importClients(InputStream body, ClientImportFormat format, String requestedJobId) {
+        ClientImportJob job = registerJob(format, requestedJobId);
+        log.info("Client import {} started, format {}", job.getId(), format);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try (ClientRowReader rows = format == ClientImportFormat.CSV
+                ? new CsvClientRowReader(reader, objectMapper)
+                : new NdjsonClientRowReader(reader, objectMapper.reader())) {
+            List<ClientImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            ClientImportRow row;
+            while ((row = rows.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(job, chunk);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk);
+            }
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("Client import {} failed: {}", job.getId(), e.getMessage(), e);
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to read import upload: " + e.getMessage(), e);
+        }
+
+        ClientImportReport report = job.toReport();
+        log.info("Client import {} completed: {} processed, {} imported, {} rejected",
+                job.getId(), report.getProcessed(), report.getImported(), report.getRejected());
+        return report;
+    }
+
+    public Optional<ClientImportReport> getReport(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ClientImportJob::toReport);
+    }
+
+    private ClientImportJob registerJob(ClientImportFormat format, String requestedJobId) {
+        purgeFinishedJobs();
+        String jobId = requestedJobId == null || requestedJobId.isBlank() ? UUID.randomUUID().toString() : requestedJobId;
+        if (!JOB_ID.matcher(jobId).matches()) {
+            throw new InvalidRequestException("Invalid import job id: " + jobId);
+        }
+        ClientImportJob job = new ClientImportJob(jobId, format, clock);
+        if (jobs.putIfAbsent(jobId, job) != null) {
+            throw new InvalidRequestException("Import job already exists: " + jobId);
+        }
+        return job;
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now(clock).minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private void processChunk(ClientImportJob job, List<ClientImportRow> chunk) {
+        List<ClientImportRow> parsed = new ArrayList<>(chunk.size());
+        for (ClientImportRow row : chunk) {
+            if (row.parseError != null) {
+                job.reject(row.line, null, row.parseError);
+            } else {
+                parsed.add(row);
+            }
+        }
+
+        List<ClientImportRow> valid = validate(job, parsed, LocalDateTime.now(clock));
+        List<ClientImportRow> unique = rejectDuplicates(job, valid);
+        insert(job, unique);
+        job.addProcessed(chunk.size());
+    }
+
+    // Bean Validation потокобезопасна, поэтому чанк проверяется параллельно
+    private List<ClientImportRow> validate(ClientImportJob job, List<ClientImportRow> rows, LocalDateTime now) {
+        List<Set<ConstraintViolation<CreateClientRequest>>> violations = validationPool
+                .submit(() -> rows.parallelStream().map(row -> validator.validate(row.request)).toList())
+                .join();
+
+        List<ClientImportRow> valid = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Set<ConstraintViolation<CreateClientRequest>> rowViolations = violations.get(i);
+            if (rowViolations.isEmpty()) {
+                ClientImportRow row = rows.get(i);
+                row.client = clientMapper.toEntity(row.request, now);
+                valid.add(row);
+                continue;
+            }
+            String field = rowViolations.iterator().next().getPropertyPath().toString();
+            String message = rowViolations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            job.reject(rows.get(i).line, field, message);
+        }
+        return valid;
+    }
+
+    private List<ClientImportRow> rejectDuplicates(ClientImportJob job, List<ClientImportRow> rows) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> existingEmails = existing(rows, ClientUniqueField.EMAIL, clientRepository::findExistingEmails);
+        Set<String> existingPhones = existing(rows, ClientUniqueField.PHONE, clientRepository::findExistingPhones);
+        Set<String> existingTaxCodes = existing(rows, ClientUniqueField.TAX_CODE, clientRepository::findExistingTaxCodes);
+        Set<String> existingPassports = existing(rows, ClientUniqueField.PASSPORT_NUMBER, clientRepository::findExistingPassportNumbers);
+
+        // Дубликаты внутри самой загрузки отсекаются так же, как уже существующие в БД
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenPhones = new HashSet<>();
+        Set<String> seenTaxCodes = new HashSet<>();
+        Set<String> seenPassports = new HashSet<>();
+
+        List<ClientImportRow> unique = new ArrayList<>(rows.size());
+        for (ClientImportRow row : rows) {
+            Client client = row.client;
+            String duplicate = duplicateField("email", client.getEmail(), existingEmails, seenEmails);
+            if (duplicate == null) {
+                duplicate = duplicateField("phone", client.getPhone(), existingPhones, seenPhones);
+            }
+            if (duplicate == null) {
+                duplicate = duplicateField("taxCode", client.getTaxCode(), existingTaxCodes, seenTaxCodes);
+            }
+            if (duplicate == null) {
+                duplicate = duplicateField("passportNumber", client.getPassportNumber(), existingPassports, seenPassports);
+            }
+            if (duplicate != null) {
+                job.reject(row.line, duplicate, "Client with this " + duplicate + " already exists");
+                continue;
+            }
+            remember(client.getEmail(), seenEmails);
+            remember(client.getPhone(), seenPhones);
+            remember(client.getTaxCode(), seenTaxCodes);
+            remember(client.getPassportNumber(), seenPassports);
+            unique.add(row);
+        }
+        return unique;
+    }
+
+    // В БД уходят только значения, которые фильтр уникальности не смог отсечь как заведомо новые
+    private Set<String> existing(List<ClientImportRow> rows, ClientUniqueField field,
+                                 Function<Collection<String>, List<String>> lookup) {
+        Set<String> values = rows.stream()
+                .map(row -> field.valueOf(row.client))
+                .filter(value -> uniquenessFilter.mightExist(field, value))
+                .collect(Collectors.toSet());
+        return values.isEmpty() ? Set.of() : new HashSet<>(lookup.apply(values));
+    }
+
+    private static String duplicateField(String field, String value, Set<String> existing, Set<String> seen) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return existing.contains(value) || seen.contains(value) ? field : null;
+    }
+
+    private static void remember(String value, Set<String> seen) {
+        if (value != null && !value.isBlank()) {
+            seen.add(value);
+        }
+    }
+
+    private void insert(ClientImportJob job, List<ClientImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (ClientImportRow row : rows) {
+            Client client = row.client;
+            batch.add(new Object[]{
+                    client.getFirstName(), client.getMiddleName(), client.getLastName(), client.getBirthDate(),
+                    client.getEmail(), client.getPhone(), client.getPassportSeries(), client.getPassportNumber(),
+                    client.getDepartmentCode(), client.getIssuedBy(), client.getIssueDate(),
+                    client.getRegistrationAddress(), client.getResidentialAddress(), client.getTaxCode(),
+                    client.getStatus(), client.getCreatedAt(), client.getUpdatedAt()
+            });
+        }
+
+        List<Client> inserted = transactionTemplate.execute(status -> {
+            KeyHolder keys = new GeneratedKeyHolder();
+            int[] counts = jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            new ArgumentPreparedStatementSetter(batch.get(i)).setValues(ps);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    }, keys);
+
+            // Ключи возвращаются только для вставленных строк, по порядку
+            List<Map<String, Object>> ids = keys.getKeyList();
+            List<Client> written = new ArrayList<>(rows.size());
+            int key = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                // 0 — строку вставил параллельный запрос между проверкой и вставкой (ON CONFLICT DO NOTHING)
+                if (counts[i] == 0) {
+                    job.reject(rows.get(i).line, null, "Client already exists");
+                    continue;
+                }
+                Client client = rows.get(i).client;
+                client.setId(((Number) ids.get(key++).get("id")).longValue());
+                outboxService.record(OutboxService.CLIENT, client.getId(), "ClientCreated",
+                        clientMapper.toResponse(client));
+                written.add(client);
+            }
+            return written;
+        });
+        // Только после коммита: откаченный чанк не должен попасть в фильтр
+        inserted.forEach(uniquenessFilter::register);
+        job.addImported(inserted.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationPool.shutdown();
+    }
+}
@@ -0,0 +1,12 @@
+package com.bank.project.service.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull-based reader over an upload; returns {@code null} once the stream is exhausted.
+ */
+interface ClientRowReader extends Closeable {
+
+    ClientImportRow next() throws IOException;
+}
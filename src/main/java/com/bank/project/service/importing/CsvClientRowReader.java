@@ -0,0 +1,144 @@
+package com.bank.project.service.importing;
+
+import com.bank.project.dto.CreateClientRequest;
+import com.bank.project.exception.InvalidRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader for client uploads. The first record is a header naming
+ * {@link CreateClientRequest} fields, in camelCase or snake_case; unknown columns are ignored.
+ * Quoted fields may contain commas, doubled quotes and line breaks. Each record is bound to the
+ * request through Jackson, so dates and field types are handled exactly as for NDJSON uploads.
+ */
+final class CsvClientRowReader implements ClientRowReader {
+
+    private static final List<String> FIELDS = List.of("firstName", "lastName", "middleName", "birthDate", "email",
+            "phone", "passportSeries", "passportNumber", "departmentCode", "issuedBy", "issueDate",
+            "registrationAddress", "taxCode");
+    private static final Map<String, String> COLUMNS = new HashMap<>();
+
+    static {
+        for (String field : FIELDS) {
+            COLUMNS.put(field.toLowerCase(Locale.ROOT), field);
+        }
+    }
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private List<String> columns;
+    private long line;
+
+    CsvClientRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ClientImportRow next() throws IOException {
+        if (columns == null && !readHeader()) {
+            return null;
+        }
+        List<String> fields;
+        long startLine;
+        do {
+            startLine = line + 1;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        if (fields.size() != columns.size()) {
+            return ClientImportRow.failed(startLine,
+                    "Expected " + columns.size() + " columns but found " + fields.size());
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String value = fields.get(i).trim();
+            if (columns.get(i) != null && !value.isEmpty()) {
+                values.put(columns.get(i), value);
+            }
+        }
+        try {
+            return ClientImportRow.parsed(startLine, objectMapper.convertValue(values, CreateClientRequest.class));
+        } catch (IllegalArgumentException e) {
+            return ClientImportRow.failed(startLine, "Invalid value: " + e.getMessage());
+        }
+    }
+
+    private boolean readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            return false;
+        }
+        columns = new ArrayList<>(header.size());
+        for (String name : header) {
+            // Колонки, которых нет в запросе, просто пропускаются
+            columns.add(COLUMNS.get(name.trim().replace("_", "").toLowerCase(Locale.ROOT)));
+        }
+        if (columns.stream().allMatch(c -> c == null)) {
+            throw new InvalidRequestException("CSV header does not contain any client fields: " + header);
+        }
+        return true;
+    }
+
+    // Читает одну запись; кавычки могут переносить поле на следующие строки
+    private List<String> readRecord() throws IOException {
+        String text = reader.readLine();
+        if (text == null) {
+            return null;
+        }
+        line++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            text = reader.readLine();
+            if (text == null) {
+                break;
+            }
+            line++;
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
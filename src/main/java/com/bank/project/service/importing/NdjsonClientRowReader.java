@@ -0,0 +1,47 @@
+package com.bank.project.service.importing;
+
+import com.bank.project.dto.CreateClientRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads one {@link CreateClientRequest} per line. A malformed line is reported and skipped
+ * without aborting the rest of the upload.
+ */
+final class NdjsonClientRowReader implements ClientRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long line;
+
+    NdjsonClientRowReader(BufferedReader reader, ObjectReader objectReader) {
+        this.reader = reader;
+        this.objectReader = objectReader.forType(CreateClientRequest.class);
+    }
+
+    @Override
+    public ClientImportRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            return ClientImportRow.parsed(line, objectReader.readValue(text));
+        } catch (JsonProcessingException e) {
+            return ClientImportRow.failed(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,197 @@
+package com.bank.project.service.interest;
+
+import com.bank.project.aop.Bulkhead;
+import com.bank.project.config.InterestAccrualProperties;
+import com.bank.project.config.Workload;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Daily interest accrual over all active agreements.
+ * <p>
+ * The agreement id space is cut into fixed, aligned ranges of {@code partitionSize} ids, processed in
+ * parallel on a dedicated fork-join pool. A partition reads its agreements, computes the day's interest
+ * with {@link InterestCalculator} and inserts the results in JDBC batches; its checkpoint row is written
+ * in the same transaction. Ranges are aligned to multiples of the partition size, so a restarted run
+ * for the same day sees the same ranges and skips every one that has a checkpoint. The accrual
+ * inserts ignore conflicts as well, so even a double run cannot accrue an agreement twice.
+ * <p>
+ * The rate is the agreement's own, falling back to its product's.
+ * <p>
+ * The engine runs as {@link Workload#BATCH}: partition transactions use the batch pool and its
+ * statement timeout rather than the OLTP one.
+ */
+@Slf4j
+@Component
+@Bulkhead(Workload.BATCH)
+public class InterestAccrualEngine {
+
+    private static final String BOUNDS_SQL = "SELECT MIN(id), MAX(id) FROM agreement";
+
+    private static final String CHECKPOINTS_SQL =
+            "SELECT range_start FROM interest_accrual_checkpoint WHERE accrual_date = ?";
+
+    private static final String AGREEMENTS_SQL = "SELECT a.id, a.sum, COALESCE(a.interest_rate, p.interest_rate) "
+            + "FROM agreement a LEFT JOIN product p ON p.id = a.product_id "
+            + "WHERE a.id >= ? AND a.id < ? AND UPPER(a.status) = 'ACTIVE' ORDER BY a.id";
+
+    private static final String INSERT_SQL = "INSERT INTO interest_accrual "
+            + "(agreement_id, accrual_date, principal, annual_rate, amount, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (agreement_id, accrual_date) DO NOTHING";
+
+    private static final String CHECKPOINT_SQL = "INSERT INTO interest_accrual_checkpoint "
+            + "(accrual_date, range_start, range_end, agreements, completed_at) VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT (accrual_date, range_start) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InterestAccrualProperties properties;
+    private final Clock clock;
+    private final ForkJoinPool pool;
+
+    public InterestAccrualEngine(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 InterestAccrualProperties properties,
+                                 Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+        this.pool = new ForkJoinPool(properties.getParallelism());
+    }
+
+    @Scheduled(cron = "${app.interest-accrual.cron:0 30 0 * * *}")
+    public void accruePreviousDay() {
+        if (properties.isEnabled()) {
+            accrue(LocalDate.now(clock).minusDays(1));
+        }
+    }
+
+    /**
+     * Accrues interest for {@code day}, continuing from the checkpoints of an earlier interrupted run.
+     */
+    public InterestAccrualSummary accrue(LocalDate day) {
+        long started = System.currentTimeMillis();
+        List<long[]> partitions = jdbcTemplate.query(BOUNDS_SQL, rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? List.of() : partitions(min, rs.getLong(2), properties.getPartitionSize());
+        });
+        Set<Long> done = new HashSet<>(jdbcTemplate.queryForList(CHECKPOINTS_SQL, Long.class, day));
+
+        AtomicLong agreements = new AtomicLong();
+        AtomicReference<BigDecimal> total = new AtomicReference<>(BigDecimal.ZERO);
+        AtomicInteger failed = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (long[] range : partitions) {
+            if (done.contains(range[0])) {
+                continue;
+            }
+            tasks.add(() -> {
+                try {
+                    PartitionResult result = accruePartition(day, range[0], range[1]);
+                    agreements.addAndGet(result.count);
+                    total.accumulateAndGet(result.interest, BigDecimal::add);
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    log.error("Interest accrual for {} failed for agreements [{}, {}): {}",
+                            day, range[0], range[1], e.getMessage(), e);
+                }
+                return null;
+            });
+        }
+        awaitAll(pool.invokeAll(tasks));
+
+        InterestAccrualSummary summary = new InterestAccrualSummary(day, partitions.size(),
+                partitions.size() - tasks.size(), failed.get(), agreements.get(), total.get());
+        log.info("Interest accrual for {}: {} agreements, {} interest, {} partitions ({} skipped, {} failed), {} ms",
+                day, summary.getAgreements(), summary.getTotalInterest(), summary.getPartitions(),
+                summary.getSkippedPartitions(), summary.getFailedPartitions(), System.currentTimeMillis() - started);
+        return summary;
+    }
+
+    PartitionResult accruePartition(LocalDate day, long from, long to) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        // Раздел выполняется в потоке fork-join пула, куда нагрузка вызывающего потока не переходит
+        return Workload.call(Workload.BATCH, () -> transactionTemplate.execute(status -> {
+            PartitionResult result = new PartitionResult();
+            List<Object[]> batch = new ArrayList<>(properties.getBatchSize());
+            jdbcTemplate.query(AGREEMENTS_SQL, rs -> {
+                BigDecimal principal = rs.getBigDecimal(2);
+                BigDecimal rate = rs.getBigDecimal(3);
+                if (principal == null || rate == null || principal.signum() <= 0 || rate.signum() <= 0) {
+                    return;
+                }
+                BigDecimal interest = InterestCalculator.dailyInterest(principal, rate, day);
+                batch.add(new Object[]{rs.getLong(1), day, principal, rate, interest, now});
+                result.count++;
+                result.interest = result.interest.add(interest);
+                if (batch.size() == properties.getBatchSize()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                    batch.clear();
+                }
+            }, from, to);
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            }
+            jdbcTemplate.update(CHECKPOINT_SQL, day, from, to, result.count, now);
+            return result;
+        }));
+    }
+
+    /**
+     * Aligned half-open id ranges {@code [start, start + size)} covering {@code [min, max]}.
+     */
+    static List<long[]> partitions(long min, long max, long size) {
+        List<long[]> ranges = new ArrayList<>();
+        for (long start = Math.floorDiv(min, size) * size; start <= max; start += size) {
+            ranges.add(new long[]{start, start + size});
+        }
+        return ranges;
+    }
+
+    private static void awaitAll(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interest accrual interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Interest accrual partition failed", e.getCause());
+            }
+        }
+    }
+
+    static final class PartitionResult {
+        int count;
+        BigDecimal interest = BigDecimal.ZERO;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
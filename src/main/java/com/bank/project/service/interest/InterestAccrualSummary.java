@@ -0,0 +1,20 @@
+package com.bank.project.service.interest;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Outcome of one accrual run. Failed partitions have no checkpoint and are picked up by the next run
+ * for the same day.
+ */
+@Value
+public class InterestAccrualSummary {
+    LocalDate accrualDate;
+    int partitions;
+    int skippedPartitions;
+    int failedPartitions;
+    long agreements;
+    BigDecimal totalInterest;
+}
@@ -0,0 +1,24 @@
+package com.bank.project.service.interest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Simple daily interest on the actual/actual day count: {@code principal * rate / 100 / daysInYear}.
+ * Computed in {@link BigDecimal} and rounded once, half-even, to {@link #SCALE} places.
+ */
+public final class InterestCalculator {
+
+    public static final int SCALE = 6;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private InterestCalculator() {
+    }
+
+    public static BigDecimal dailyInterest(BigDecimal principal, BigDecimal annualRatePercent, LocalDate day) {
+        BigDecimal divisor = HUNDRED.multiply(BigDecimal.valueOf(day.lengthOfYear()));
+        // Произведение точное, округление одно — при делении
+        return principal.multiply(annualRatePercent).divide(divisor, SCALE, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.project.service.mapper;
+
+import com.bank.project.dto.AccountResponse;
+import com.bank.project.entity.Account;
+import com.bank.project.entity.Client;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.List;
+
+/**
+ * Account read-model mappings generated at compile time.
+ * Expects the client to be fetched with the account, so no lazy load happens during mapping.
+ */
+@Mapper(componentModel = "spring")
+public interface AccountMapper {
+
+    // getClientId() у сущности возвращает не id, поэтому берём его из связи
+    @Mapping(target = "clientId", source = "client.id")
+    @Mapping(target = "clientFullName", source = "client", qualifiedByName = "clientFullName")
+    AccountResponse toResponse(Account account);
+
+    List<AccountResponse> toResponses(List<Account> accounts);
+
+    @Named("clientFullName")
+    default String clientFullName(Client client) {
+        return client == null ? null : client.getFirstName() + " " + client.getLastName();
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.project.service.mapper;
+
+import com.bank.project.dto.AgreementResponse;
+import com.bank.project.entity.Agreement;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Agreement read-model mappings generated at compile time.
+ * The account and product references are flattened into ids and display fields.
+ */
+@Mapper(componentModel = "spring")
+public interface AgreementMapper {
+
+    // getAccountId()/getProductId() у сущности — заглушки, поэтому берём id из связей
+    @Mapping(target = "accountId", source = "account.id")
+    @Mapping(target = "accountNumber", source = "account.accountNumber")
+    @Mapping(target = "clientId", source = "account.client.id")
+    @Mapping(target = "productId", source = "product.id")
+    @Mapping(target = "productName", source = "product.name")
+    AgreementResponse toResponse(Agreement agreement);
+
+    List<AgreementResponse> toResponses(List<Agreement> agreements);
+}
@@ -0,0 +1,29 @@
+package com.bank.project.service.mapper;
+
+import com.bank.project.dto.ProductResponse;
+import com.bank.project.entity.Manager;
+import com.bank.project.entity.Product;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.List;
+
+/**
+ * Product read-model mappings generated at compile time.
+ * The owning manager is flattened to plain fields instead of exposing the lazy proxy.
+ */
+@Mapper(componentModel = "spring")
+public interface ProductMapper {
+
+    @Mapping(target = "managerId", source = "manager.id")
+    @Mapping(target = "managerFullName", source = "manager", qualifiedByName = "managerFullName")
+    ProductResponse toResponse(Product product);
+
+    List<ProductResponse> toResponses(List<Product> products);
+
+    @Named("managerFullName")
+    default String managerFullName(Manager manager) {
+        return manager == null ? null : manager.getFirstName() + " " + manager.getLastName();
+    }
+}
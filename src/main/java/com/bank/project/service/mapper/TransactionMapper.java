@@ -0,0 +1,18 @@
+package com.bank.project.service.mapper;
+
+import com.bank.project.dto.TransactionResponse;
+import com.bank.project.entity.Transaction;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Transaction read-model mappings generated at compile time.
+ */
+@Mapper(componentModel = "spring")
+public interface TransactionMapper {
+
+    TransactionResponse toResponse(Transaction transaction);
+
+    List<TransactionResponse> toResponses(List<Transaction> transactions);
+}
@@ -0,0 +1,22 @@
+package com.bank.project.service.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes every event as one line to the {@code outbox} logger, which logback can route to its own file.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger outbox = LoggerFactory.getLogger("outbox");
+
+    @Override
+    public void publish(OutboxMessage message) {
+        outbox.info("{} {} {}:{} {}", message.getId(), message.getEventType(),
+                message.getAggregateType(), message.getAggregateId(), message.getPayload());
+    }
+}
@@ -0,0 +1,19 @@
+package com.bank.project.service.outbox;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event handed to an {@link OutboxSink}. The id is unique and increasing per event, so sinks
+ * and their consumers can use it to drop redeliveries.
+ */
+@Value
+public class OutboxMessage {
+    long id;
+    String aggregateType;
+    String aggregateId;
+    String eventType;
+    String payload;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,162 @@
+package com.bank.project.service.outbox;
+
+import com.bank.project.aop.Bulkhead;
+import com.bank.project.config.OutboxProperties;
+import com.bank.project.config.Workload;
+import com.bank.project.entity.OutboxEvent;
+import com.bank.project.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox into the configured {@link OutboxSink}.
+ * <p>
+ * Every node runs the relay. A batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so concurrent
+ * relays take disjoint batches instead of waiting on each other, and the row locks are held until the
+ * batch is marked published.
+ * <p>
+ * Events of one aggregate are delivered in id order even across nodes: a batch claims only the oldest
+ * pending event of each aggregate, so the next one cannot be claimed anywhere until it is published.
+ * A failed event is retried on the next run and holds back its own aggregate only; the rest of the
+ * batch goes on. After {@code max-attempts} failures the event is dead-lettered: it stays in the table
+ * with its last error for manual handling, and later events of its aggregate are released.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // Длинные сообщения об ошибках обрезаются под размер колонки
+    static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final Counter published;
+    private final Counter failed;
+    private final Counter deadLettered;
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink sink,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.published = meterRegistry.counter("outbox.events.published");
+        this.failed = meterRegistry.counter("outbox.events.failed");
+        this.deadLettered = meterRegistry.counter("outbox.events.dead-lettered");
+        this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+        // Задержка доставки: от записи события до его публикации
+        this.lagTimer = meterRegistry.timer("outbox.relay.lag");
+        meterRegistry.gauge("outbox.events.pending", pending);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void relay() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        try {
+            int total = 0;
+            for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+                int count = relayBatch();
+                total += count;
+                if (count < properties.getBatchSize()) {
+                    break;
+                }
+            }
+            pending.set(outboxEventRepository.countUnpublished());
+            if (total > 0) {
+                log.debug("Outbox relay published {} events, {} pending", total, pending.get());
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox relay run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Claims and publishes one batch.
+     *
+     * @return number of events published; fewer than the batch size means the outbox is drained or an
+     *         event failed, and either way the run stops so a failed event is tried once per run
+     */
+    int relayBatch() {
+        return batchTimer.record(() -> transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockUnpublishedBatch(properties.getBatchSize());
+            List<Long> done = new ArrayList<>(batch.size());
+            LocalDateTime now = LocalDateTime.now(clock);
+            for (OutboxEvent event : batch) {
+                try {
+                    sink.publish(toMessage(event));
+                } catch (Exception e) {
+                    // В пачке нет других событий этого агрегата, поэтому остальные публикуются дальше
+                    recordFailure(event, e, now);
+                    continue;
+                }
+                done.add(event.getId());
+                lagTimer.record(Duration.between(event.getCreatedAt(), now));
+            }
+            if (!done.isEmpty()) {
+                outboxEventRepository.markPublished(done, now);
+                published.increment(done.size());
+            }
+            return done.size();
+        }));
+    }
+
+    private void recordFailure(OutboxEvent event, Exception e, LocalDateTime now) {
+        failed.increment();
+        int attempt = event.getAttempts() + 1;
+        String error = truncate(e.toString());
+        if (attempt >= properties.getMaxAttempts()) {
+            deadLettered.increment();
+            log.error("Outbox event {} ({} {} {}) dead-lettered after {} attempts: {}", event.getId(),
+                    event.getAggregateType(), event.getAggregateId(), event.getEventType(), attempt, e.getMessage());
+            outboxEventRepository.markDeadLettered(event.getId(), error, now);
+        } else {
+            log.warn("Failed to publish outbox event {} (attempt {}): {}", event.getId(), attempt, e.getMessage());
+            outboxEventRepository.markFailed(event.getId(), error);
+        }
+    }
+
+    // Удаление за всю неделю хранения может идти дольше тайм-аута OLTP-запросов
+    @Bulkhead(Workload.BATCH)
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgePublished() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(properties.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        log.info("Purged {} outbox events published before {}", deleted, before);
+    }
+
+    private static OutboxMessage toMessage(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
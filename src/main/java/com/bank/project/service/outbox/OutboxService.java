@@ -0,0 +1,48 @@
+package com.bank.project.service.outbox;
+
+import com.bank.project.entity.OutboxEvent;
+import com.bank.project.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Records domain events in the outbox table.
+ * <p>
+ * Must be called inside the transaction that makes the change: the event then commits or rolls back
+ * together with it, and {@link OutboxRelay} delivers it afterwards.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String CLIENT = "Client";
+    public static final String ACCOUNT = "Account";
+    public static final String TRANSACTION = "Transaction";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent record(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + eventType + " event: " + e.getMessage(), e);
+        }
+        OutboxEvent event = outboxEventRepository.save(new OutboxEvent(aggregateType, String.valueOf(aggregateId),
+                eventType, json, LocalDateTime.now(clock)));
+        log.debug("Recorded outbox event {} {} for {}:{}", event.getId(), eventType, aggregateType, aggregateId);
+        return event;
+    }
+}
@@ -0,0 +1,13 @@
+package com.bank.project.service.outbox;
+
+/**
+ * Destination of relayed outbox events. Delivery is at-least-once: a message may be published
+ * again if the relay stops after publishing but before recording it, so consumers deduplicate by id.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes one event; throwing leaves it in the outbox to be retried.
+     */
+    void publish(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,166 @@
+package com.bank.project.service.overview;
+
+import com.bank.project.config.ClientOverviewProperties;
+import com.bank.project.dto.ClientOverviewResponse;
+import com.bank.project.entity.Account;
+import com.bank.project.entity.Agreement;
+import com.bank.project.entity.Client;
+import com.bank.project.entity.Transaction;
+import com.bank.project.exception.InvalidRequestException;
+import com.bank.project.exception.ResourceNotFoundException;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.AgreementRepository;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.repository.TransactionRepository;
+import com.bank.project.service.mapper.AccountMapper;
+import com.bank.project.service.mapper.AgreementMapper;
+import com.bank.project.service.mapper.ClientMapper;
+import com.bank.project.service.mapper.TransactionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Assembles the client overview from independent lookups run concurrently.
+ * <p>
+ * Every lookup gets the same deadline measured from the start of the request, so the whole
+ * overview takes at most about one piece timeout. A lookup that times out, fails or cannot be
+ * scheduled leaves its section empty and is reported in {@code unavailableSections}; only a
+ * missing client fails the request.
+ * <p>
+ * Giving up on a lookup does not stop it, so each one runs in its own read-only transaction whose
+ * timeout is the piece timeout; Hibernate turns it into the JDBC query timeout and the database cancels
+ * the statement instead of letting it hold a pooled connection. JDBC counts that timeout in whole
+ * seconds, so the piece timeout is rounded up.
+ */
+@Slf4j
+@Service
+public class ClientOverviewService {
+
+    static final String CLIENT = "client";
+    static final String ACCOUNTS = "accounts";
+    static final String AGREEMENTS = "agreements";
+    static final String RECENT_TRANSACTIONS = "recentTransactions";
+
+    private final ClientRepository clientRepository;
+    private final AccountRepository accountRepository;
+    private final AgreementRepository agreementRepository;
+    private final TransactionRepository transactionRepository;
+    private final ClientMapper clientMapper;
+    private final AccountMapper accountMapper;
+    private final AgreementMapper agreementMapper;
+    private final TransactionMapper transactionMapper;
+    private final ClientOverviewProperties properties;
+    private final TransactionTemplate lookupTransaction;
+    private final ExecutorService executor;
+
+    public ClientOverviewService(ClientRepository clientRepository,
+                                 AccountRepository accountRepository,
+                                 AgreementRepository agreementRepository,
+                                 TransactionRepository transactionRepository,
+                                 ClientMapper clientMapper,
+                                 AccountMapper accountMapper,
+                                 AgreementMapper agreementMapper,
+                                 TransactionMapper transactionMapper,
+                                 ClientOverviewProperties properties,
+                                 PlatformTransactionManager transactionManager,
+                                 @Qualifier("clientOverviewExecutor") ExecutorService executor) {
+        this.clientRepository = clientRepository;
+        this.accountRepository = accountRepository;
+        this.agreementRepository = agreementRepository;
+        this.transactionRepository = transactionRepository;
+        this.clientMapper = clientMapper;
+        this.accountMapper = accountMapper;
+        this.agreementMapper = agreementMapper;
+        this.transactionMapper = transactionMapper;
+        this.properties = properties;
+        this.lookupTransaction = new TransactionTemplate(transactionManager);
+        this.lookupTransaction.setReadOnly(true);
+        this.lookupTransaction.setTimeout(timeoutSeconds(properties.getPieceTimeout()));
+        this.executor = executor;
+    }
+
+    public ClientOverviewResponse getOverview(Long clientId) {
+        if (clientId == null || clientId <= 0) {
+            throw new InvalidRequestException("Invalid client ID: " + clientId);
+        }
+        Limit recent = Limit.of(properties.getRecentTransactions());
+
+        // Все части запускаются сразу; каждая сущность с ассоциациями грузится своим entity graph
+        CompletableFuture<Optional<Client>> client = fetch(() -> clientRepository.findById(clientId));
+        CompletableFuture<List<Account>> accounts = fetch(() -> accountRepository.findAllByClientId(clientId));
+        CompletableFuture<List<Agreement>> agreements = fetch(() -> agreementRepository.findByAccountClientId(clientId));
+        CompletableFuture<List<Transaction>> transactions =
+                fetch(() -> transactionRepository.findRecentByClientId(clientId, recent));
+
+        ClientOverviewResponse response = new ClientOverviewResponse();
+        Optional<Client> found = await(CLIENT, client, response);
+        if (found != null && found.isEmpty()) {
+            throw new ResourceNotFoundException("Client", "id", clientId);
+        }
+        if (found != null) {
+            response.setClient(clientMapper.toResponse(found.get()));
+        }
+
+        List<Account> accountList = await(ACCOUNTS, accounts, response);
+        if (accountList != null) {
+            response.setAccounts(accountMapper.toResponses(accountList));
+        }
+        List<Agreement> agreementList = await(AGREEMENTS, agreements, response);
+        if (agreementList != null) {
+            response.setAgreements(agreementMapper.toResponses(agreementList));
+        }
+        List<Transaction> transactionList = await(RECENT_TRANSACTIONS, transactions, response);
+        if (transactionList != null) {
+            response.setRecentTransactions(transactionMapper.toResponses(transactionList));
+        }
+
+        if (!response.getUnavailableSections().isEmpty()) {
+            log.warn("Client {} overview is partial, unavailable: {}", clientId, response.getUnavailableSections());
+        }
+        return response;
+    }
+
+    private <T> CompletableFuture<T> fetch(Supplier<T> lookup) {
+        try {
+            return CompletableFuture.supplyAsync(() -> lookupTransaction.execute(status -> lookup.get()), executor)
+                    .orTimeout(properties.getPieceTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Пул переполнен: часть сразу считается недоступной, запрос не ждёт в очереди
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    static int timeoutSeconds(Duration pieceTimeout) {
+        return (int) Math.max(1, (pieceTimeout.toMillis() + 999) / 1000);
+    }
+
+    private <T> T await(String section, CompletableFuture<T> future, ClientOverviewResponse response) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                log.warn("Client overview section '{}' timed out after {}", section, properties.getPieceTimeout());
+            } else {
+                log.warn("Client overview section '{}' failed: {}", section, cause.toString());
+            }
+            response.getUnavailableSections().add(section);
+            return null;
+        }
+    }
+}
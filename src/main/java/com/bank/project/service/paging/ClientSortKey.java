@@ -0,0 +1,63 @@
+package com.bank.project.service.paging;
+
+import com.bank.project.entity.Client;
+import com.bank.project.exception.InvalidRequestException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sort keys that client listings accept. Each one is a NOT NULL column backed by an index that ends in
+ * {@code id}, so both offset and keyset pages are served by an index range scan instead of a sort, and
+ * the keyset predicate never skips a row.
+ */
+public enum ClientSortKey {
+    ID("id", Client::getId, Long::valueOf),
+    CREATED_AT("createdAt", Client::getCreatedAt, LocalDateTime::parse),
+    LAST_NAME("lastName", Client::getLastName, Function.identity()),
+    EMAIL("email", Client::getEmail, Function.identity());
+
+    private final String property;
+    private final Function<Client, ? extends Comparable<?>> extractor;
+    private final Function<String, ? extends Comparable<?>> parser;
+
+    ClientSortKey(String property, Function<Client, ? extends Comparable<?>> extractor,
+                  Function<String, ? extends Comparable<?>> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Comparable<?> valueOf(Client client) {
+        return extractor.apply(client);
+    }
+
+    public Comparable<?> parse(String value) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid " + property + " value in page cursor: " + value, e);
+        }
+    }
+
+    public static ClientSortKey fromProperty(String property) {
+        String normalized = property.trim().replace("_", "").toLowerCase(Locale.ROOT);
+        for (ClientSortKey key : values()) {
+            if (key.property.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return key;
+            }
+        }
+        throw new InvalidRequestException("Unsupported sort field: " + property + ". Allowed: " + allowed());
+    }
+
+    public static String allowed() {
+        return Arrays.stream(values()).map(ClientSortKey::getProperty).collect(Collectors.joining(", "));
+    }
+}
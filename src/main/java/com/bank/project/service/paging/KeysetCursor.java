@@ -0,0 +1,62 @@
+package com.bank.project.service.paging;
+
+import com.bank.project.exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for client keyset paging: the sort it was issued for and the
+ * (sort value, id) of the last row returned. Tokens are URL-safe Base64 and are not meant to be
+ * built by callers.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private final ClientSortKey key;
+    private final Sort.Direction direction;
+    private final String lastValue;
+    private final long lastId;
+
+    public KeysetCursor(ClientSortKey key, Sort.Direction direction, String lastValue, long lastId) {
+        this.key = key;
+        this.direction = direction;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    public ClientSortKey getKey() {
+        return key;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public String getLastValue() {
+        return lastValue;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public String encode() {
+        String raw = key.name() + SEPARATOR + direction.name() + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // Значение идёт последним — внутри него разделитель не ищем
+            String[] parts = raw.split(SEPARATOR, 4);
+            return new KeysetCursor(ClientSortKey.valueOf(parts[0]), Sort.Direction.valueOf(parts[1]),
+                    parts[3], Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid page cursor: " + token, e);
+        }
+    }
+}
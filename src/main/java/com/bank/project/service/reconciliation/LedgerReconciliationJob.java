@@ -0,0 +1,212 @@
+package com.bank.project.service.reconciliation;
+
+import com.bank.project.aop.Bulkhead;
+import com.bank.project.config.ReconciliationProperties;
+import com.bank.project.config.Workload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-of-day check that every account balance equals its ledger: credits minus debits in {@code transaction}.
+ * <p>
+ * Both sides are read in account id order through server-side cursors and compared in a single merge
+ * pass, so memory use does not depend on the number of accounts or transactions. The two queries run in
+ * one read-only repeatable-read transaction and therefore see the same snapshot. Discrepancies are
+ * written to a CSV file as they are found and counted in the {@code reconciliation.discrepancies} metric.
+ * The scan runs on the reporting pool so it cannot take connections from transfers.
+ */
+@Slf4j
+@Component
+@Bulkhead(Workload.REPORTING)
+public class LedgerReconciliationJob {
+
+    public enum DiscrepancyKind {
+        // Остаток не совпадает с журналом
+        MISMATCH,
+        // Проводки ссылаются на несуществующий счёт
+        ORPHAN_LEDGER
+    }
+
+    private static final String ACCOUNTS_SQL = "SELECT id, balance FROM account ORDER BY id";
+
+    // Журнал сворачивается в базе: по одной строке на счёт, в порядке id
+    private static final String LEDGER_SQL = "SELECT account_id, SUM(delta) FROM ("
+            + "SELECT credit_account_id AS account_id, amount AS delta FROM transaction "
+            + "UNION ALL SELECT debit_account_id, -amount FROM transaction) ledger "
+            + "GROUP BY account_id ORDER BY account_id";
+
+    static final String HEADER = "account_id,kind,balance,ledger_balance,difference";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReconciliationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Timer runTimer;
+    private final AtomicLong lastDiscrepancies = new AtomicLong();
+
+    public LedgerReconciliationJob(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ReconciliationProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.runTimer = meterRegistry.timer("reconciliation.run");
+        meterRegistry.gauge("reconciliation.last.discrepancies", lastDiscrepancies);
+    }
+
+    @Scheduled(cron = "${app.reconciliation.cron:0 0 1 * * *}")
+    public void reconcileScheduled() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Ledger reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    public ReconciliationSummary reconcile() {
+        LocalDate businessDate = LocalDate.now(clock);
+        Path dir = Paths.get(properties.getReportDir());
+        Path report = dir.resolve("reconciliation-" + businessDate + ".csv");
+        Path partial = dir.resolve(report.getFileName() + ".partial");
+
+        ReconciliationSummary summary = runTimer.record(() -> {
+            try {
+                Files.createDirectories(dir);
+                try (BufferedWriter out = Files.newBufferedWriter(partial, StandardCharsets.UTF_8)) {
+                    out.write(HEADER);
+                    out.newLine();
+                    return transactionTemplate.execute(status -> jdbcTemplate.execute(
+                            (ConnectionCallback<ReconciliationSummary>) connection -> {
+                                try (PreparedStatement accounts = cursor(connection.prepareStatement(ACCOUNTS_SQL));
+                                     PreparedStatement ledger = cursor(connection.prepareStatement(LEDGER_SQL));
+                                     ResultSet accountRows = accounts.executeQuery();
+                                     ResultSet ledgerRows = ledger.executeQuery()) {
+                                    return merge(businessDate, accountRows, ledgerRows, out, report);
+                                }
+                            }));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write reconciliation report " + report, e);
+            }
+        });
+        try {
+            // Отчёт появляется под своим именем только целиком
+            Files.move(partial, report, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to publish reconciliation report " + report, e);
+        }
+
+        lastDiscrepancies.set(summary.getDiscrepancies());
+        if (summary.getDiscrepancies() > 0) {
+            log.warn("Ledger reconciliation for {}: {} of {} accounts differ by {} in total, see {}", businessDate,
+                    summary.getDiscrepancies(), summary.getAccountsChecked(), summary.getAbsoluteDifference(), report);
+        } else {
+            log.info("Ledger reconciliation for {}: {} accounts match", businessDate, summary.getAccountsChecked());
+        }
+        return summary;
+    }
+
+    /**
+     * Merges two result sets ordered by account id: {@code (id, balance)} and {@code (account_id, ledger sum)}.
+     */
+    ReconciliationSummary merge(LocalDate businessDate, ResultSet accounts, ResultSet ledger,
+                                BufferedWriter out, Path report) throws SQLException {
+        long checked = 0;
+        long discrepancies = 0;
+        BigDecimal absolute = BigDecimal.ZERO;
+        try {
+            boolean hasAccount = accounts.next();
+            boolean hasLedger = ledger.next();
+            while (hasAccount || hasLedger) {
+                long accountId = hasAccount ? accounts.getLong(1) : Long.MAX_VALUE;
+                long ledgerId = hasLedger ? ledger.getLong(1) : Long.MAX_VALUE;
+                BigDecimal balance = null;
+                BigDecimal ledgerBalance = BigDecimal.ZERO.setScale(2);
+                if (hasAccount && accountId <= ledgerId) {
+                    balance = money(accounts.getBigDecimal(2));
+                }
+                if (hasLedger && ledgerId <= accountId) {
+                    ledgerBalance = money(ledger.getBigDecimal(2));
+                }
+
+                BigDecimal difference = (balance == null ? BigDecimal.ZERO : balance).subtract(ledgerBalance);
+                if (balance == null) {
+                    discrepancies++;
+                    absolute = absolute.add(difference.abs());
+                    report(out, ledgerId, DiscrepancyKind.ORPHAN_LEDGER, null, ledgerBalance, difference);
+                } else {
+                    checked++;
+                    if (difference.abs().compareTo(properties.getTolerance()) > 0) {
+                        discrepancies++;
+                        absolute = absolute.add(difference.abs());
+                        report(out, accountId, DiscrepancyKind.MISMATCH, balance, ledgerBalance, difference);
+                    }
+                }
+
+                if (hasAccount && accountId <= ledgerId) {
+                    hasAccount = accounts.next();
+                }
+                if (hasLedger && ledgerId <= accountId) {
+                    hasLedger = ledger.next();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ReconciliationSummary(businessDate, checked, discrepancies, absolute, report);
+    }
+
+    private void report(BufferedWriter out, long accountId, DiscrepancyKind kind, BigDecimal balance,
+                        BigDecimal ledgerBalance, BigDecimal difference) throws IOException {
+        meterRegistry.counter("reconciliation.discrepancies", "kind", kind.name()).increment();
+        out.write(accountId + "," + kind + "," + (balance == null ? "" : balance.toPlainString()) + ","
+                + ledgerBalance.toPlainString() + "," + difference.toPlainString());
+        out.newLine();
+    }
+
+    private PreparedStatement cursor(PreparedStatement statement) throws SQLException {
+        // Драйвер PostgreSQL читает порциями только внутри транзакции и с заданным fetch size
+        statement.setFetchSize(properties.getFetchSize());
+        return statement;
+    }
+
+    private static BigDecimal money(BigDecimal amount) {
+        return amount == null ? BigDecimal.ZERO.setScale(2) : amount.setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
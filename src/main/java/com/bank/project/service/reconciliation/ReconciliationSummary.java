@@ -0,0 +1,17 @@
+package com.bank.project.service.reconciliation;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+@Value
+public class ReconciliationSummary {
+    LocalDate businessDate;
+    long accountsChecked;
+    long discrepancies;
+    // Сумма модулей расхождений
+    BigDecimal absoluteDifference;
+    Path reportFile;
+}
@@ -0,0 +1,71 @@
+package com.bank.project.service.search;
+
+import com.bank.project.dto.ClientSearchResponse;
+import com.bank.project.dto.ClientSearchResult;
+import com.bank.project.exception.InvalidRequestException;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.repository.ClientSearchHit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+import static com.bank.project.service.ClientServiceImpl.MAX_PAGE_SIZE;
+
+/**
+ * Ranked fuzzy client search over name, email, phone and address.
+ * <p>
+ * Matching and ranking run in PostgreSQL against the {@code pg_trgm} GIN index on the combined
+ * search document, so a lookup touches only candidate rows instead of scanning the client table.
+ * Pages are fetched by keyset (score, id) rather than offset, so deep pages cost the same as the first.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClientSearchService {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+    public static final int DEFAULT_LIMIT = 20;
+
+    private final ClientRepository clientRepository;
+
+    public ClientSearchResponse search(String query, Integer limit, String cursor) {
+        String normalized = normalize(query);
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            throw new InvalidRequestException("Search query must contain at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        SearchCursor after = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor);
+
+        // Запрашиваем на одну строку больше, чтобы узнать, есть ли следующая страница
+        List<ClientSearchHit> hits = clientRepository.searchRanked(
+                normalized,
+                "%" + escapeLike(normalized) + "%",
+                after == null ? null : after.getScore(),
+                after == null ? null : after.getId(),
+                pageSize + 1);
+
+        boolean hasMore = hits.size() > pageSize;
+        List<ClientSearchHit> page = hasMore ? hits.subList(0, pageSize) : hits;
+        String nextCursor = null;
+        if (hasMore) {
+            ClientSearchHit last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(last.getScore(), last.getId()).encode();
+        }
+
+        log.debug("Client search '{}' returned {} hits, more: {}", normalized, page.size(), hasMore);
+        return new ClientSearchResponse(page.stream().map(ClientSearchResult::fromHit).toList(), nextCursor);
+    }
+
+    static String normalize(String query) {
+        return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,47 @@
+package com.bank.project.service.search;
+
+import com.bank.project.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in a ranked search result: the score and id of the last row returned.
+ * Encoded as URL-safe Base64 so clients treat it as a token rather than something to construct.
+ */
+public final class SearchCursor {
+
+    private final float score;
+    private final long id;
+
+    public SearchCursor(float score, long id) {
+        this.score = score;
+        this.id = id;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        // Побитовое представление float — чтобы значение вернулось в запрос без потери точности
+        String raw = Integer.toHexString(Float.floatToIntBits(score)) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            float score = Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, separator), 16));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new SearchCursor(score, id);
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid search cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.bank.project.service.streaming;
+
+import jakarta.persistence.EntityManager;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Drains a repository {@link Stream} into a {@link RowWriter} without letting the persistence
+ * context grow with the result: entities already written are cleared every {@link #CLEAR_EVERY} rows.
+ * Must be called inside the transaction that opened the stream.
+ */
+public final class EntityStreams {
+
+    static final int CLEAR_EVERY = 500;
+
+    private EntityStreams() {
+    }
+
+    /**
+     * @return number of rows written
+     */
+    public static <E> long drain(Stream<E> rows, EntityManager entityManager, RowWriter<? super E> writer)
+            throws IOException {
+        long written = 0;
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++written % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return written;
+    }
+}
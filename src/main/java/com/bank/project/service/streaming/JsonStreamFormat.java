@@ -0,0 +1,99 @@
+package com.bank.project.service.streaming;
+
+import com.bank.project.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Wire format of a streamed list: a single JSON array, one JSON object per line, or a single array in
+ * one of the binary Jackson formats for service-to-service callers.
+ * <p>
+ * The binary formats are offered only while their Jackson dataformat module is on the classpath.
+ */
+public enum JsonStreamFormat {
+
+    JSON_ARRAY(MediaType.APPLICATION_JSON, null),
+    NDJSON(MediaType.APPLICATION_NDJSON, null),
+    CBOR(MediaType.APPLICATION_CBOR, "com.fasterxml.jackson.dataformat.cbor.CBORFactory"),
+    SMILE(MediaType.parseMediaType(JsonStreamFormat.APPLICATION_SMILE_VALUE),
+            "com.fasterxml.jackson.dataformat.smile.SmileFactory");
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private final MediaType mediaType;
+    private final String factoryClassName;
+    private final boolean available;
+
+    JsonStreamFormat(MediaType mediaType, String factoryClassName) {
+        this.mediaType = mediaType;
+        this.factoryClassName = factoryClassName;
+        this.available = factoryClassName == null
+                || ClassUtils.isPresent(factoryClassName, JsonStreamFormat.class.getClassLoader());
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Whether the whole response is one array value; only NDJSON writes bare values line by line.
+     */
+    public boolean isArray() {
+        return this != NDJSON;
+    }
+
+    /**
+     * @return {@code json} itself for the text formats, otherwise a copy of it with the same modules and
+     * features writing this binary format
+     */
+    public ObjectMapper mapperFrom(ObjectMapper json) {
+        if (factoryClassName == null) {
+            return json;
+        }
+        if (!available) {
+            throw new IllegalStateException(factoryClassName + " is not on the classpath");
+        }
+        JsonFactory factory = (JsonFactory) BeanUtils.instantiateClass(
+                ClassUtils.resolveClassName(factoryClassName, JsonStreamFormat.class.getClassLoader()));
+        return json.copyWith(factory);
+    }
+
+    /**
+     * NDJSON or a binary format only when the client asks for it explicitly; anything else gets the usual
+     * JSON array.
+     */
+    public static JsonStreamFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON_ARRAY;
+        }
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            throw new InvalidRequestException("Invalid Accept header: " + accept, e);
+        }
+        // Первый конкретный тип в порядке, заданном клиентом
+        for (MediaType type : types) {
+            if (type.isWildcardType() || type.isWildcardSubtype()) {
+                continue;
+            }
+            for (JsonStreamFormat format : values()) {
+                if (format != JSON_ARRAY && format.available && format.mediaType.isCompatibleWith(type)) {
+                    return format;
+                }
+            }
+            return JSON_ARRAY;
+        }
+        return JSON_ARRAY;
+    }
+}
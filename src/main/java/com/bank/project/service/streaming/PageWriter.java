@@ -0,0 +1,13 @@
+package com.bank.project.service.streaming;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives one page of a streamed read; blocking here holds back the next database read.
+ */
+@FunctionalInterface
+public interface PageWriter<T> {
+
+    void write(List<? extends T> page) throws IOException;
+}
@@ -0,0 +1,12 @@
+package com.bank.project.service.streaming;
+
+import java.io.IOException;
+
+/**
+ * Receives rows of a repository stream one at a time, while the stream's transaction is still open.
+ */
+@FunctionalInterface
+public interface RowWriter<T> {
+
+    void write(T row) throws IOException;
+}
@@ -0,0 +1,136 @@
+package com.bank.project.service.streaming;
+
+import com.bank.project.config.StreamingReadProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Writes large list responses incrementally instead of materialising them.
+ * <p>
+ * The source pushes items into a {@link Sink}, which serialises each one straight into the response
+ * through a single {@link JsonGenerator}, so peak memory is one item plus the generator's buffer no
+ * matter how many rows there are. Output is either a JSON array, wire-compatible with the
+ * {@code List} responses it replaces, NDJSON, or an array in CBOR or Smile. The binary formats use a
+ * copy of the application {@link ObjectMapper}, so they carry the same modules and settings.
+ * <p>
+ * The body is written on the MVC async executor, outside the request thread, with
+ * {@code app.streaming-read.timeout} in place of the shared async timeout.
+ */
+@Slf4j
+@Component
+public class StreamingJsonWriter {
+
+    private final Map<JsonStreamFormat, ObjectWriter> itemWriters = new EnumMap<>(JsonStreamFormat.class);
+    private final StreamingReadProperties properties;
+
+    public StreamingJsonWriter(ObjectMapper objectMapper, StreamingReadProperties properties) {
+        for (JsonStreamFormat format : JsonStreamFormat.values()) {
+            if (format.isAvailable()) {
+                // Сброс в сокет — по решению источника, а не после каждого объекта
+                itemWriters.put(format, format.mapperFrom(objectMapper).writer()
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+            }
+        }
+        this.properties = properties;
+    }
+
+    public ResponseEntity<StreamingResponseBody> response(JsonStreamFormat format, Source source) {
+        extendAsyncTimeout();
+        StreamingResponseBody body = out -> write(out, format, source);
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
+    /**
+     * @return number of items written
+     */
+    public long write(OutputStream out, JsonStreamFormat format, Source source) throws IOException {
+        ObjectWriter itemWriter = itemWriters.get(format);
+        if (itemWriter == null) {
+            throw new IllegalArgumentException("Format " + format + " is not available");
+        }
+        // Поток ответа закрывает контейнер, а не генератор
+        try (JsonGenerator generator = itemWriter.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (format == JsonStreamFormat.NDJSON) {
+                // Строки NDJSON разделяет только перевод строки, без пробела Jackson между корневыми значениями
+                generator.setRootValueSeparator(null);
+            }
+            Sink sink = new Sink(generator, itemWriter, format);
+            if (format.isArray()) {
+                generator.writeStartArray();
+            }
+            source.writeTo(sink);
+            if (format.isArray()) {
+                generator.writeEndArray();
+            }
+            log.debug("Streamed {} items as {}", sink.count, format);
+            return sink.count;
+        }
+    }
+
+    private void extendAsyncTimeout() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(servletAttributes.getRequest()).getAsyncWebRequest();
+            if (asyncRequest != null) {
+                asyncRequest.setTimeout(properties.getTimeout().toMillis());
+            }
+        }
+    }
+
+    /**
+     * Produces the items of one response.
+     */
+    @FunctionalInterface
+    public interface Source {
+        void writeTo(Sink sink) throws IOException;
+    }
+
+    /**
+     * Target for the items of one response; not thread-safe.
+     */
+    public final class Sink {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter itemWriter;
+        private final JsonStreamFormat format;
+        private long count;
+
+        private Sink(JsonGenerator generator, ObjectWriter itemWriter, JsonStreamFormat format) {
+            this.generator = generator;
+            this.itemWriter = itemWriter;
+            this.format = format;
+        }
+
+        public void write(Object item) throws IOException {
+            itemWriter.writeValue(generator, item);
+            if (format == JsonStreamFormat.NDJSON) {
+                generator.writeRaw('\n');
+            }
+            count++;
+        }
+
+        /**
+         * Pushes what has been written so far to the client.
+         */
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.bank.project.service.streaming;
+
+import com.bank.project.config.StreamingReadProperties;
+import com.bank.project.dto.AccountResponse;
+import com.bank.project.dto.TransactionResponse;
+import com.bank.project.entity.Account;
+import com.bank.project.entity.Transaction;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.TransactionRepository;
+import com.bank.project.service.mapper.AccountMapper;
+import com.bank.project.service.mapper.TransactionMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Pull-based read path for large date-range queries.
+ * <p>
+ * Rows are read in keyset pages on {@code (created_at, id)}, each page in its own short read-only
+ * transaction (served by the replica when routing is enabled), and handed to a {@link PageWriter}
+ * before the next page is fetched. A slow client therefore blocks only the writer: no connection is
+ * held while the response is written, and the next page is not read until the previous one is out.
+ * <p>
+ * The persistence context is cleared after every page, as {@link EntityStreams} does for streams: when
+ * an EntityManager outlives the page transaction (an outer transaction, or one bound to the request),
+ * the pages written so far would otherwise stay managed until the export ends.
+ */
+@Slf4j
+@Service
+public class StreamingReadService {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionMapper transactionMapper;
+    private final AccountMapper accountMapper;
+    private final StreamingReadProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    public StreamingReadService(TransactionRepository transactionRepository,
+                                AccountRepository accountRepository,
+                                TransactionMapper transactionMapper,
+                                AccountMapper accountMapper,
+                                StreamingReadProperties properties,
+                                PlatformTransactionManager transactionManager,
+                                EntityManager entityManager) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.transactionMapper = transactionMapper;
+        this.accountMapper = accountMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Writes the transactions created in {@code [from, to]} in creation order.
+     *
+     * @return number of rows written
+     */
+    public long streamTransactionsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                                 PageWriter<? super TransactionResponse> writer) throws IOException {
+        return stream(from, (createdAt, id, limit) ->
+                        transactionRepository.findPageCreatedBetween(from, to, createdAt, id, limit),
+                Transaction::getCreatedAt, Transaction::getId, transactionMapper::toResponses, writer);
+    }
+
+    /**
+     * Writes the accounts opened in {@code [from, to]} in creation order.
+     *
+     * @return number of rows written
+     */
+    public long streamAccountsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                             PageWriter<? super AccountResponse> writer) throws IOException {
+        return stream(from, (createdAt, id, limit) ->
+                        accountRepository.findPageCreatedBetween(from, to, createdAt, id, limit),
+                Account::getCreatedAt, Account::getId, accountMapper::toResponses, writer);
+    }
+
+    private <E, D> long stream(LocalDateTime from, PageQuery<E> query,
+                               Function<E, LocalDateTime> createdAt, Function<E, Long> id,
+                               Function<List<E>, List<D>> mapper, PageWriter<? super D> writer) throws IOException {
+        int size = properties.getPageSize();
+        Limit limit = Limit.of(size);
+        // Первая страница: всё, что создано не раньше from (идентификаторы положительные)
+        LocalDateTime afterCreatedAt = from;
+        long afterId = 0;
+        long written = 0;
+        while (true) {
+            LocalDateTime pageCreatedAt = afterCreatedAt;
+            long pageId = afterId;
+            List<E> page = transactionTemplate.execute(status -> {
+                List<E> rows = query.fetch(pageCreatedAt, pageId, limit);
+                // Строки страницы дальше нужны только как значения
+                entityManager.clear();
+                return rows;
+            });
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            writer.write(mapper.apply(page));
+            written += page.size();
+            E last = page.get(page.size() - 1);
+            afterCreatedAt = createdAt.apply(last);
+            afterId = id.apply(last);
+            if (page.size() < size) {
+                break;
+            }
+        }
+        log.debug("Streamed {} rows created since {}", written, from);
+        return written;
+    }
+
+    @FunctionalInterface
+    private interface PageQuery<E> {
+        List<E> fetch(LocalDateTime createdAt, Long id, Limit limit);
+    }
+}
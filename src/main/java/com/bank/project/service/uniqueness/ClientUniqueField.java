@@ -0,0 +1,38 @@
+package com.bank.project.service.uniqueness;
+
+import com.bank.project.entity.Client;
+import com.bank.project.repository.ClientUniqueKeys;
+
+import java.util.function.Function;
+
+/**
+ * Client columns backed by a unique constraint.
+ */
+public enum ClientUniqueField {
+    EMAIL("email", Client::getEmail, ClientUniqueKeys::getEmail),
+    PHONE("phone", Client::getPhone, ClientUniqueKeys::getPhone),
+    TAX_CODE("taxCode", Client::getTaxCode, ClientUniqueKeys::getTaxCode),
+    PASSPORT_NUMBER("passportNumber", Client::getPassportNumber, ClientUniqueKeys::getPassportNumber);
+
+    private final String property;
+    private final Function<Client, String> clientValue;
+    private final Function<ClientUniqueKeys, String> keysValue;
+
+    ClientUniqueField(String property, Function<Client, String> clientValue, Function<ClientUniqueKeys, String> keysValue) {
+        this.property = property;
+        this.clientValue = clientValue;
+        this.keysValue = keysValue;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String valueOf(Client client) {
+        return clientValue.apply(client);
+    }
+
+    String valueOf(ClientUniqueKeys keys) {
+        return keysValue.apply(keys);
+    }
+}
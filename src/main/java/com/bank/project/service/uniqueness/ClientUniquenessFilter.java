@@ -0,0 +1,175 @@
+package com.bank.project.service.uniqueness;
+
+import com.bank.project.config.ClientUniquenessProperties;
+import com.bank.project.entity.Client;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.repository.ClientUniqueKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * In-memory pre-check for client uniqueness: one Bloom filter per uniquely constrained column.
+ * <p>
+ * A negative answer from {@link #mightExist} is definite, so the caller can skip the existence query;
+ * a positive answer still has to be confirmed in the database. The unique constraints stay the source
+ * of truth: until the filters are warmed every value is reported as possibly existing, and a write
+ * that slips past the pre-check is still rejected by the constraint.
+ * <p>
+ * Every node keeps its own filters and {@link #register} only sees local writes, so each node also
+ * catches up on clients written since its last pass (by {@code updated_at}, with an overlap for
+ * in-flight transactions and clock skew). A client written on another node can be reported absent
+ * for at most one catch-up interval; the unique constraint rejects it in that window.
+ * <p>
+ * Bloom filters cannot forget values, so changed or deleted keys only add false positives until the
+ * periodic rebuild.
+ */
+@Slf4j
+@Component
+public class ClientUniquenessFilter {
+
+    static final double FALSE_POSITIVE_RATE = 0.01;
+    // Запас на рост таблицы между перестроениями
+    static final long MIN_EXPECTED_CLIENTS = 100_000;
+
+    private final ClientRepository clientRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ClientUniquenessProperties properties;
+    private final Clock clock;
+
+    // null, пока фильтр не прогрет: тогда любое значение считается возможно занятым
+    private volatile Map<ClientUniqueField, BloomFilter> filters;
+    // Фильтры, которые сейчас строятся; новые записи попадают и в них
+    private volatile Map<ClientUniqueField, BloomFilter> building;
+    // С этого updated_at следующий проход дочитывает клиентов, записанных другими узлами
+    private volatile LocalDateTime caughtUpTo;
+
+    public ClientUniquenessFilter(ClientRepository clientRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  ClientUniquenessProperties properties,
+                                  Clock clock) {
+        this.clientRepository = clientRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * @return {@code false} if no client can have this value, {@code true} if the database must be asked
+     */
+    public boolean mightExist(ClientUniqueField field, String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        Map<ClientUniqueField, BloomFilter> current = filters;
+        boolean maybe = current == null || current.get(field).mightContain(value);
+        meterRegistry.counter("client.uniqueness.precheck",
+                "field", field.getProperty(), "result", maybe ? "maybe" : "absent").increment();
+        return maybe;
+    }
+
+    /**
+     * Records the keys of a client that was just written.
+     */
+    public void register(Client client) {
+        if (client == null) {
+            return;
+        }
+        for (ClientUniqueField field : ClientUniqueField.values()) {
+            put(filters, field, field.valueOf(client));
+            put(building, field, field.valueOf(client));
+        }
+    }
+
+    public boolean isReady() {
+        return filters != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "PT6H", initialDelayString = "PT6H")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        // Строки, закоммиченные во время чтения, поток может не увидеть — их дочитает catchUp
+        LocalDateTime since = LocalDateTime.now(clock).minus(properties.getCatchUpOverlap());
+        try {
+            long expected = Math.max(MIN_EXPECTED_CLIENTS, clientRepository.count() * 2);
+            Map<ClientUniqueField, BloomFilter> next = new EnumMap<>(ClientUniqueField.class);
+            for (ClientUniqueField field : ClientUniqueField.values()) {
+                next.put(field, new BloomFilter(expected, FALSE_POSITIVE_RATE));
+            }
+            building = next;
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ClientUniqueKeys> keys = clientRepository.streamUniqueKeys()) {
+                    keys.forEach(row -> {
+                        for (ClientUniqueField field : ClientUniqueField.values()) {
+                            put(next, field, field.valueOf(row));
+                        }
+                    });
+                }
+            });
+            filters = next;
+            caughtUpTo = since;
+            log.info("Client uniqueness filter built for {} expected clients in {} ms",
+                    expected, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            // Без фильтра сервис продолжает работать, просто каждый раз спрашивая БД
+            log.error("Failed to build client uniqueness filter: {}", e.getMessage(), e);
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Adds the keys of clients written since the previous pass, including those written on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${app.client-uniqueness.catch-up-interval:PT10S}",
+            initialDelayString = "${app.client-uniqueness.catch-up-interval:PT10S}")
+    public synchronized void catchUp() {
+        Map<ClientUniqueField, BloomFilter> current = filters;
+        LocalDateTime since = caughtUpTo;
+        if (current == null || since == null) {
+            return;
+        }
+        LocalDateTime next = LocalDateTime.now(clock).minus(properties.getCatchUpOverlap());
+        try {
+            List<ClientUniqueKeys> rows = transactionTemplate.execute(
+                    status -> clientRepository.findUniqueKeysUpdatedSince(since));
+            for (ClientUniqueKeys row : rows) {
+                for (ClientUniqueField field : ClientUniqueField.values()) {
+                    put(current, field, field.valueOf(row));
+                }
+            }
+            caughtUpTo = next;
+            meterRegistry.counter("client.uniqueness.catch-up.rows").increment(rows.size());
+        } catch (RuntimeException e) {
+            // Окно не сдвигаем: следующий проход перечитает его целиком
+            log.warn("Client uniqueness filter catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    private static void put(Map<ClientUniqueField, BloomFilter> target, ClientUniqueField field, String value) {
+        if (target != null && value != null && !value.isBlank()) {
+            target.get(field).put(value);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.bank.project.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Latency comparison of the legacy {@code LOWER(address) LIKE '%x%'} lookup against the trigram-indexed
+ * ranked search, run directly over JDBC against a PostgreSQL database that has the Liquibase
+ * {@code pg_trgm} indexes applied.
+ * <p>
+ * Run after {@code mvn test-compile}:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *   -Dbench.url=jdbc:postgresql://localhost:5432/bank -Dbench.user=postgres -Dbench.password=postgres \
+ *   -Dbench.seed=1000000 com.bank.project.benchmark.ClientSearchLatencyBenchmark
+ * </pre>
+ * {@code bench.seed} inserts that many synthetic clients first (0 to use existing data).
+ */
+public class ClientSearchLatencyBenchmark {
+
+    private static final String LEGACY_QUERY =
+            "SELECT c.id FROM client c WHERE LOWER(c.address) LIKE LOWER(concat('%', ?, '%')) LIMIT 20";
+
+    private static final String DOCUMENT = "lower(coalesce(c.first_name, '') || ' ' || coalesce(c.last_name, '') || ' ' "
+            + "|| coalesce(c.email, '') || ' ' || coalesce(c.phone, '') || ' ' || coalesce(c.address, ''))";
+
+    private static final String RANKED_QUERY = "SELECT c.id, word_similarity(?, " + DOCUMENT + ") AS score "
+            + "FROM client c WHERE " + DOCUMENT + " LIKE ? OR ? <% " + DOCUMENT
+            + " ORDER BY score DESC, c.id LIMIT 20";
+
+    private static final String[] STREETS = {"Lenina", "Pushkina", "Gagarina", "Mira", "Sadovaya", "Tverskaya"};
+    private static final String[] NAMES = {"Ivan", "Petr", "Anna", "Maria", "Sergey", "Olga", "Dmitry", "Elena"};
+
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty("bench.url", "jdbc:postgresql://localhost:5432/bank");
+        int seed = Integer.getInteger("bench.seed", 0);
+        int iterations = Integer.getInteger("bench.iterations", 200);
+
+        try (Connection connection = DriverManager.getConnection(url,
+                System.getProperty("bench.user", "postgres"), System.getProperty("bench.password", "postgres"))) {
+            if (seed > 0) {
+                seed(connection, seed);
+            }
+            String[] terms = {"lenin", "pushk", "sadov", "tversk", "gagar"};
+            report("legacy LIKE", measure(connection, iterations, terms, false));
+            report("trigram ranked", measure(connection, iterations, terms, true));
+        }
+    }
+
+    private static long[] measure(Connection connection, int iterations, String[] terms, boolean ranked) throws SQLException {
+        long[] samples = new long[iterations];
+        try (PreparedStatement statement = connection.prepareStatement(ranked ? RANKED_QUERY : LEGACY_QUERY)) {
+            for (int i = -iterations / 10; i < iterations; i++) {
+                String term = terms[Math.floorMod(i, terms.length)];
+                if (ranked) {
+                    statement.setString(1, term);
+                    statement.setString(2, "%" + term + "%");
+                    statement.setString(3, term);
+                } else {
+                    statement.setString(1, term);
+                }
+                long start = System.nanoTime();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+                // Первые итерации — прогрев, в статистику не идут
+                if (i >= 0) {
+                    samples[i] = System.nanoTime() - start;
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static void report(String name, long[] samples) {
+        Arrays.sort(samples);
+        System.out.printf("%-16s p50=%.2f ms  p95=%.2f ms  p99=%.2f ms%n", name,
+                samples[samples.length / 2] / 1e6,
+                samples[(int) (samples.length * 0.95)] / 1e6,
+                samples[(int) (samples.length * 0.99)] / 1e6);
+    }
+
+    private static void seed(Connection connection, int rows) throws SQLException {
+        SplittableRandom random = new SplittableRandom(7);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO client (first_name, last_name, email, phone, status, department_code, address, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, 'ACTIVE', '000-000', ?, now(), now())")) {
+            String run = Long.toString(System.currentTimeMillis(), 36);
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, NAMES[random.nextInt(NAMES.length)]);
+                insert.setString(2, NAMES[random.nextInt(NAMES.length)] + "ov");
+                insert.setString(3, "bench" + run + "_" + i + "@example.com");
+                insert.setString(4, "+7" + run + i);
+                insert.setString(5, "ul. " + STREETS[random.nextInt(STREETS.length)] + ", d. " + random.nextInt(1, 200));
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE client");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.bank.project.benchmark;
+
+import com.bank.project.entity.Currency;
+import com.bank.project.service.currency.BulkCurrencyConverter;
+import com.bank.project.service.currency.CurrencyRateTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk conversion throughput: vectorizable array kernel vs. a per-element scalar loop.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) org.openjdk.jmh.Main CurrencyBulkConversionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyBulkConversionBenchmark {
+
+    private static final String[] CODES = {"USD", "EUR", "GBP", "JPY", "CHF", "CNY", "RUB", "KZT"};
+
+    @Param({"1000000"})
+    private int size;
+
+    private CurrencyRateTable table;
+    private double[] amounts;
+    private int[] sourceIndexes;
+    private int target;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Currency> currencies = new ArrayList<>();
+        for (String code : CODES) {
+            Currency currency = new Currency();
+            currency.setCode(code);
+            currency.setExchangeRate(0.5 + random.nextDouble() * 100);
+            currencies.add(currency);
+        }
+        table = CurrencyRateTable.of(1, currencies);
+        target = table.indexOf("EUR");
+
+        amounts = new double[size];
+        sourceIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            amounts[i] = random.nextDouble() * 10_000;
+            sourceIndexes[i] = random.nextInt(CODES.length);
+        }
+    }
+
+    @Benchmark
+    public double[] vectorizedKernel() {
+        return BulkCurrencyConverter.convert(table, amounts, sourceIndexes, target);
+    }
+
+    @Benchmark
+    public double[] scalarPerElement() {
+        double[] converted = new double[size];
+        double targetRate = table.rate(target);
+        for (int i = 0; i < size; i++) {
+            converted[i] = amounts[i] * targetRate / table.rate(sourceIndexes[i]);
+        }
+        return converted;
+    }
+}
@@ -0,0 +1,105 @@
+package com.bank.project.benchmark;
+
+import com.bank.project.service.interest.InterestCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compute-only microbenchmark: {@link InterestCalculator#dailyInterest} over 10M in-memory agreements,
+ * split into the engine's id-range partitions on a fork-join pool vs. one thread.
+ * <p>
+ * No database is involved, so this is not a measurement of {@code InterestAccrualEngine.accrue} or
+ * {@code accruePartition}: a real run also scans the agreements and writes the accruals in JDBC batches,
+ * and that I/O usually dominates its time. Use the result only to check that the arithmetic and the
+ * partitioning are not the bottleneck.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -Xmx4g -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) org.openjdk.jmh.Main InterestAccrualBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InterestAccrualBenchmark {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 18);
+
+    @Param({"10000000"})
+    private int agreements;
+
+    @Param({"10000"})
+    private int partitionSize;
+
+    // Суммы в копейках и ставки в сотых процента, чтобы 10M договоров помещались в памяти
+    private long[] principalCents;
+    private int[] rateHundredths;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        principalCents = new long[agreements];
+        rateHundredths = new int[agreements];
+        for (int i = 0; i < agreements; i++) {
+            principalCents[i] = 10_000 + random.nextLong(100_000_000);
+            rateHundredths[i] = 50 + random.nextInt(2500);
+        }
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public BigDecimal singleThread() {
+        return accrue(0, agreements);
+    }
+
+    @Benchmark
+    public BigDecimal forkJoinPartitions() throws Exception {
+        List<Callable<BigDecimal>> tasks = new ArrayList<>();
+        for (int start = 0; start < agreements; start += partitionSize) {
+            int from = start;
+            int to = Math.min(agreements, start + partitionSize);
+            tasks.add(() -> accrue(from, to));
+        }
+        BigDecimal total = BigDecimal.ZERO;
+        for (Future<BigDecimal> partition : pool.invokeAll(tasks)) {
+            total = total.add(partition.get());
+        }
+        return total;
+    }
+
+    private BigDecimal accrue(int from, int to) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = from; i < to; i++) {
+            total = total.add(InterestCalculator.dailyInterest(BigDecimal.valueOf(principalCents[i], 2),
+                    BigDecimal.valueOf(rateHundredths[i], 2), DAY));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,114 @@
+package com.bank.project.benchmark;
+
+import com.bank.project.config.StreamingReadProperties;
+import com.bank.project.dto.TransactionResponse;
+import com.bank.project.service.streaming.JsonStreamFormat;
+import com.bank.project.service.streaming.StreamingJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bytes on the wire and serialization CPU of a bulk transaction list per response format, with and
+ * without gzip at Tomcat's default level.
+ * <p>
+ * The byte count of every combination is printed once per trial; the score is the time to write the
+ * whole list. CBOR and Smile need their Jackson dataformat modules on the classpath.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) org.openjdk.jmh.Main ResponseFormatBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    private static final String[] TYPES = {"TRANSFER", "DEPOSIT", "WITHDRAWAL", "PAYMENT"};
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"JSON_ARRAY", "NDJSON", "CBOR", "SMILE"})
+    private JsonStreamFormat format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private StreamingJsonWriter writer;
+    private List<TransactionResponse> transactions;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (!format.isAvailable()) {
+            throw new IllegalStateException(format + " needs its Jackson dataformat module on the classpath");
+        }
+        writer = new StreamingJsonWriter(Jackson2ObjectMapperBuilder.json().build(), new StreamingReadProperties());
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
+        transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TransactionResponse transaction = new TransactionResponse();
+            transaction.setId((long) i + 1);
+            transaction.setDebitAccountId(1 + random.nextLong(50_000));
+            transaction.setCreditAccountId(1 + random.nextLong(50_000));
+            transaction.setType(TYPES[random.nextInt(TYPES.length)]);
+            transaction.setAmount(Math.round(random.nextDouble() * 1_000_000) / 100.0);
+            transaction.setDescription("Payment #" + random.nextInt(1_000_000));
+            transaction.setCreatedAt(start.plusSeconds(random.nextLong(365L * 24 * 3600)));
+            transactions.add(transaction);
+        }
+
+        System.out.printf("%n%s gzip=%s: %d bytes for %d transactions%n", format, gzip, write(), size);
+    }
+
+    @Benchmark
+    public long write() throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        // Как Tomcat: уровень сжатия по умолчанию
+        OutputStream out = gzip ? new GZIPOutputStream(counter, 8192) : counter;
+        writer.write(out, format, sink -> {
+            for (TransactionResponse transaction : transactions) {
+                sink.write(transaction);
+            }
+        });
+        out.close();
+        return counter.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.bank.project.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing the platform-thread and virtual-thread modes.
+ * {@code bench.concurrency} clients each send the next request as soon as the previous one returns,
+ * for {@code bench.duration} after a warm-up; throughput, p50/p99 latency and the count of 503s
+ * from the concurrency limiter are printed.
+ * <p>
+ * Start the application once per mode against the same database, e.g.
+ * <pre>
+ * java -jar target/project-1.0-SNAPSHOT.jar
+ * java -jar target/project-1.0-SNAPSHOT.jar --spring.profiles.active=virtual-threads
+ * </pre>
+ * and run, after {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/test-classes -Dbench.url=http://localhost:8080/api/accounts/1/balance \
+ *   -Dbench.token=$JWT -Dbench.concurrency=2000 -Dbench.duration=PT60S \
+ *   com.bank.project.benchmark.ThreadingModeLoadBenchmark
+ * </pre>
+ * Load the server from a separate machine when possible; on one host the generator competes for the
+ * same cores.
+ */
+public class ThreadingModeLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(System.getProperty("bench.url", "http://localhost:8080/api/accounts/1/balance"));
+        String token = System.getProperty("bench.token");
+        int concurrency = Integer.getInteger("bench.concurrency", 1000);
+        Duration warmUp = Duration.parse(System.getProperty("bench.warmup", "PT15S"));
+        Duration duration = Duration.parse(System.getProperty("bench.duration", "PT60S"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = builder.build();
+
+        long measureFrom = System.nanoTime() + warmUp.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+        long[][] latencies = new long[concurrency][];
+        AtomicLong ok = new AtomicLong();
+        AtomicLong busy = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+
+        // Клиенты на платформенных потоках, чтобы генератор работал и на Java 17
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            int worker = w;
+            workers.execute(() -> {
+                int count = 0;
+                long[] buffer = new long[1 << 12];
+                try {
+                    while (System.nanoTime() < stopAt) {
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        long end = System.nanoTime();
+                        if (start < measureFrom) {
+                            continue;
+                        }
+                        if (status >= 200 && status < 400) {
+                            ok.incrementAndGet();
+                        } else if (status == 503) {
+                            busy.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                        if (count == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, count * 2);
+                        }
+                        buffer[count++] = end - start;
+                    }
+                } finally {
+                    latencies[worker] = Arrays.copyOf(buffer, count);
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("%s concurrency=%d%n", uri, concurrency);
+        System.out.printf("requests=%d  ok=%d  503=%d  errors=%d  throughput=%.1f req/s%n",
+                all.length, ok.get(), busy.get(), failed.get(), ok.get() / seconds);
+        if (all.length > 0) {
+            System.out.printf("p50=%.2f ms  p99=%.2f ms  max=%.2f ms%n",
+                    all[all.length / 2] / 1e6,
+                    all[(int) (all.length * 0.99)] / 1e6,
+                    all[all.length - 1] / 1e6);
+        }
+    }
+}
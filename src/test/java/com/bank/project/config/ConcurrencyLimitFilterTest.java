@@ -0,0 +1,99 @@
+package com.bank.project.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(100), meterRegistry);
+    }
+
+    @Test
+    void doFilter_WithFreePermit_ShouldPassThroughAndRelease() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/accounts"), new MockHttpServletResponse(), chain);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/accounts"), new MockHttpServletResponse(), chain);
+
+        verify(chain, times(2)).doFilter(any(), any());
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    void doFilter_WhenSaturated_ShouldRejectWith503() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/accounts"), new MockHttpServletResponse(),
+                        (request, response) -> {
+                            entered.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        assertTrue(entered.await(2, TimeUnit.SECONDS));
+
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/accounts"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        verifyNoInteractions(chain);
+        assertEquals(1, filter.inFlight());
+        assertEquals(1.0, meterRegistry.get("http.concurrency.limit.rejected").counter().count());
+
+        release.countDown();
+        holder.join(2000);
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    void doFilter_WhenRequestGoesAsync_ShouldHoldPermitUntilAsyncCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/clients/by-status/ACTIVE/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+
+        // Тело ответа ещё пишется в другом потоке
+        assertEquals(1, filter.inFlight());
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        asyncContext.complete();
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    void constructor_WithNonPositiveLimit_ShouldFail() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrencyLimitFilter(0, Duration.ofSeconds(1), meterRegistry));
+    }
+}
@@ -0,0 +1,160 @@
+package com.bank.project.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class DataSourceRoutingConfigTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource reporting;
+    private DataSource batch;
+    private DataSource audit;
+    private DataSource routing;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+        reporting = mock(DataSource.class);
+        batch = mock(DataSource.class);
+        audit = mock(DataSource.class);
+        when(reporting.getConnection()).thenReturn(mock(Connection.class));
+        when(batch.getConnection()).thenReturn(mock(Connection.class));
+        when(audit.getConnection()).thenReturn(mock(Connection.class));
+        routing = new DataSourceRoutingConfig().dataSource(primary, replica, reporting, batch, audit);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routing));
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() throws Exception {
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> query());
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> query());
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void withoutTransaction_ShouldUsePrimary() throws Exception {
+        try (Connection connection = routing.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void reportingWorkload_ShouldUseReportingPoolEvenForReadOnlyTransactions() throws Exception {
+        transactionTemplate.setReadOnly(true);
+
+        Workload.run(Workload.REPORTING, () -> transactionTemplate.executeWithoutResult(status -> query()));
+
+        verify(reporting).getConnection();
+        verifyNoInteractions(primary, replica);
+    }
+
+    @Test
+    void batchWorkload_ShouldUseBatchPoolForWrites() throws Exception {
+        Workload.run(Workload.BATCH, () -> transactionTemplate.executeWithoutResult(status -> query()));
+
+        verify(batch).getConnection();
+        verifyNoInteractions(primary, replica, reporting);
+    }
+
+    @Test
+    void auditWorkload_ShouldUseAuditPoolAndRestorePreviousWorkload() throws Exception {
+        Workload.run(Workload.REPORTING,
+                () -> Workload.run(Workload.AUDIT, () -> transactionTemplate.executeWithoutResult(status -> query())));
+
+        verify(audit).getConnection();
+        verifyNoInteractions(primary, reporting);
+        assertEquals(Workload.OLTP, Workload.current());
+    }
+
+    @Test
+    void jpaWriteAfterReadInOneRequest_ShouldMoveFromReplicaToPrimary() throws Exception {
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactory();
+        try {
+            EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+            TransactionTemplate jpaTransaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+            // Без open-in-view у каждой транзакции свой EntityManager, и соединение выбирается заново
+            jpaTransaction.setReadOnly(true);
+            jpaTransaction.executeWithoutResult(status -> jpaQuery(entityManagerFactory));
+            jpaTransaction.setReadOnly(false);
+            jpaTransaction.executeWithoutResult(status -> jpaQuery(entityManagerFactory));
+
+            verify(replica).getConnection();
+            verify(primary).getConnection();
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    @Test
+    void openInView_ShouldBeDisabled() throws Exception {
+        // Иначе EntityManager запроса держит соединение первой транзакции, и запись после чтения идёт на реплику
+        assertEquals("false", PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"))
+                .getProperty("spring.jpa.open-in-view"));
+    }
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(routing);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(DataSourceRoutingConfigTest.class.getPackageName());
+        // Без обращения к БД при старте: соединения здесь — заглушки
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                "hibernate.boot.allow_jdbc_metadata_access", "false"));
+        factoryBean.afterPropertiesSet();
+        return factoryBean;
+    }
+
+    private static void jpaQuery(EntityManagerFactory entityManagerFactory) {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        entityManager.unwrap(Session.class).doWork(Connection::createStatement);
+    }
+
+    // Реальное соединение берётся только при первом запросе
+    private void query() {
+        try {
+            DataSourceUtils.getConnection(routing).createStatement();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
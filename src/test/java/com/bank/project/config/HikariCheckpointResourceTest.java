@@ -0,0 +1,69 @@
+package com.bank.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HikariCheckpointResourceTest {
+
+    private HikariDataSource pool;
+    private HikariPoolMXBean mxBean;
+    private HikariCheckpointResource resource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = mock(HikariDataSource.class);
+        mxBean = mock(HikariPoolMXBean.class);
+        when(pool.getHikariPoolMXBean()).thenReturn(mxBean);
+        when(pool.isAllowPoolSuspension()).thenReturn(true);
+        ObjectProvider<HikariDataSource> pools = mock(ObjectProvider.class);
+        when(pools.orderedStream()).thenAnswer(invocation -> Stream.of(pool));
+        resource = new HikariCheckpointResource(pools, Duration.ofMillis(200));
+    }
+
+    @Test
+    void beforeCheckpoint_ShouldSuspendAndDrainPool() throws Exception {
+        when(mxBean.getTotalConnections()).thenReturn(2, 1, 0);
+
+        resource.beforeCheckpoint(null);
+
+        verify(mxBean).suspendPool();
+        verify(mxBean).softEvictConnections();
+        verify(mxBean, never()).resumePool();
+    }
+
+    @Test
+    void beforeCheckpoint_WhenConnectionsStayBusy_ShouldResumeAndFail() {
+        when(mxBean.getTotalConnections()).thenReturn(1);
+        when(mxBean.getActiveConnections()).thenReturn(1);
+
+        assertThrows(IllegalStateException.class, () -> resource.beforeCheckpoint(null));
+
+        verify(mxBean).resumePool();
+    }
+
+    @Test
+    void afterRestore_ShouldResumePool() {
+        resource.afterRestore(null);
+
+        verify(mxBean).resumePool();
+    }
+
+    @Test
+    void beforeCheckpoint_WithPoolNotStartedYet_ShouldSkipIt() throws Exception {
+        when(pool.getHikariPoolMXBean()).thenReturn(null);
+
+        resource.beforeCheckpoint(null);
+
+        verifyNoInteractions(mxBean);
+    }
+}
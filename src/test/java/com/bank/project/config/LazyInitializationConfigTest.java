@@ -0,0 +1,24 @@
+package com.bank.project.config;
+
+import com.bank.project.service.outbox.OutboxRelay;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyInitializationConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = LazyInitializationConfig.backgroundBeansExcludeFilter();
+
+    @Test
+    void isExcluded_ShouldKeepScheduledJobsAndCracResourcesEager() {
+        assertTrue(filter.isExcluded("outboxRelay", null, OutboxRelay.class));
+        assertTrue(filter.isExcluded("hikariCheckpointResource", null, HikariCheckpointResource.class));
+    }
+
+    @Test
+    void isExcluded_ShouldLeaveOtherBeansLazy() {
+        assertFalse(filter.isExcluded("clockConfig", null, ClockConfig.class));
+        assertFalse(filter.isExcluded("unknown", null, null));
+    }
+}
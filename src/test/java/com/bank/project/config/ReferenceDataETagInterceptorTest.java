@@ -0,0 +1,89 @@
+package com.bank.project.config;
+
+import com.bank.project.service.cache.ReferenceDataVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataETagInterceptorTest {
+
+    private ReferenceDataVersions versions;
+    private HttpCacheProperties properties;
+    private ReferenceDataETagInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        versions = mock(ReferenceDataVersions.class);
+        properties = new HttpCacheProperties();
+        properties.getCacheControl().put("currencies", "private, max-age=60");
+        interceptor = new ReferenceDataETagInterceptor(versions, properties);
+    }
+
+    @Test
+    void preHandle_WithoutIfNoneMatch_ShouldSetETagAndCacheControl() {
+        when(versions.current("currency")).thenReturn(OptionalLong.of(7));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/currencies"), response, new Object()));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"currencies-7\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("private, max-age=60", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void preHandle_WithMatchingIfNoneMatch_ShouldAnswer304() {
+        when(versions.current("currency")).thenReturn(OptionalLong.of(7));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/currencies/code/USD");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"currencies-7\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    void preHandle_WithUnknownVersion_ShouldNotSetETag() {
+        when(versions.current("tax_codes")).thenReturn(OptionalLong.empty());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tax-codes");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"tax-codes-0\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals(properties.getDefaultCacheControl(), response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void preHandle_ForProducts_ShouldDependOnManagerVersion() {
+        when(versions.current("product")).thenReturn(OptionalLong.of(3));
+        when(versions.current("manager")).thenReturn(OptionalLong.of(1), OptionalLong.of(2));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"products-3-1\"");
+
+        assertFalse(interceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        assertEquals("\"products-3-2\"", response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void preHandle_ForWrites_ShouldDoNothing() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("POST", "/api/currencies"), response, new Object()));
+
+        assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+        verifyNoInteractions(versions);
+    }
+}
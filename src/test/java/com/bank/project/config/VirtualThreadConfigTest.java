@@ -0,0 +1,33 @@
+package com.bank.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VirtualThreadConfigTest {
+
+    @Test
+    void connectionPermits_ShouldSumPoolsRequestsUseExceptAudit() {
+        Map<String, HikariDataSource> pools = Map.of(
+                "primaryDataSource", pool(10),
+                "replicaDataSource", pool(10),
+                "reportingDataSource", pool(3),
+                VirtualThreadConfig.AUDIT_POOL, pool(2));
+
+        assertEquals(23, VirtualThreadConfig.connectionPermits(pools));
+    }
+
+    @Test
+    void connectionPermits_WithoutRouting_ShouldUseSinglePool() {
+        assertEquals(10, VirtualThreadConfig.connectionPermits(Map.of("dataSource", pool(10))));
+    }
+
+    private static HikariDataSource pool(int size) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setMaximumPoolSize(size);
+        return pool;
+    }
+}
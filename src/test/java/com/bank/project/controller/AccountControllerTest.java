@@ -1,25 +1,33 @@
 package com.bank.project.controller;
 
+import com.bank.project.config.StreamingReadProperties;
 import com.bank.project.entity.Account;
 import com.bank.project.entity.AccountStatus;
 import com.bank.project.entity.Currency;
 import com.bank.project.service.AccountService;
+import com.bank.project.service.mapper.AccountMapper;
+import com.bank.project.service.mapper.AccountMapperImpl;
+import com.bank.project.service.streaming.RowWriter;
+import com.bank.project.service.streaming.StreamingJsonWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class AccountControllerTest {
@@ -30,6 +38,13 @@ public class AccountControllerTest {
     @Mock
     private AccountService accountService;
 
+    @Spy
+    private AccountMapper accountMapper = new AccountMapperImpl();
+
+    @Spy
+    private StreamingJsonWriter streamingJsonWriter =
+            new StreamingJsonWriter(Jackson2ObjectMapperBuilder.json().build(), new StreamingReadProperties());
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -108,14 +123,22 @@ public class AccountControllerTest {
         account2.setCurrencyCode(Integer.valueOf("EUR"));
         account2.setStatus(AccountStatus.valueOf("ACTIVE"));
 
-        when(accountService.getAllAccounts()).thenReturn(Arrays.asList(account1, account2));
-
-        mockMvc.perform(get("/api/accounts"))
+        when(accountService.streamAllAccounts(any())).thenAnswer(invocation -> {
+            RowWriter<Account> writer = invocation.getArgument(0);
+            writer.write(account1);
+            writer.write(account2);
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/accounts"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[1].id").value(2));
 
-        verify(accountService, times(1)).getAllAccounts();
+        verify(accountService, times(1)).streamAllAccounts(any());
     }
 
     @Test
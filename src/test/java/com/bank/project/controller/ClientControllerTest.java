@@ -17,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -32,7 +33,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class ClientControllerTest {
 
     private MockMvc mockMvc;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
     
     @Mock
     private ClientService clientService;
@@ -63,9 +64,15 @@ class ClientControllerTest {
         createRequest.setFirstName("John");
         createRequest.setLastName("Doe");
         createRequest.setEmail("john.doe@example.com");
-        createRequest.setPhone("+1234567890");
+        createRequest.setPhone("+71234567890");
+        createRequest.setBirthDate(LocalDate.of(1990, 1, 1));
+        createRequest.setPassportSeries("1234");
+        createRequest.setPassportNumber("123456");
+        createRequest.setDepartmentCode("123-456");
+        createRequest.setIssuedBy("Police Department");
+        createRequest.setIssueDate(LocalDate.of(2015, 1, 1));
+        createRequest.setRegistrationAddress("123 Main St");
         createRequest.setTaxCode("1234567890");
-        createRequest.setAddress("123 Main St");
 
         clientResponse = ClientResponse.fromEntity(testClient);
     }
@@ -1,20 +1,33 @@
 package com.bank.project.controller;
 
+import com.bank.project.config.StreamingReadProperties;
+import com.bank.project.entity.Manager;
 import com.bank.project.entity.Product;
 import com.bank.project.service.ProductService;
+import com.bank.project.service.mapper.ProductMapper;
+import com.bank.project.service.mapper.ProductMapperImpl;
+import com.bank.project.service.streaming.RowWriter;
+import com.bank.project.service.streaming.StreamingJsonWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.mockito.stubbing.Answer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -24,9 +37,16 @@ public class ProductControllerTest {
     @Mock
     private ProductService productService;
 
+    @Spy
+    private ProductMapper productMapper = new ProductMapperImpl();
+
     @InjectMocks
     private ProductController productController;
 
+    @Spy
+    private StreamingJsonWriter streamingJsonWriter =
+            new StreamingJsonWriter(Jackson2ObjectMapperBuilder.json().build(), new StreamingReadProperties());
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -81,15 +101,64 @@ public class ProductControllerTest {
 
         List<Product> productList = Arrays.asList(product1, product2);
 
-        when(productService.getAllProducts()).thenReturn(productList);
+        when(productService.streamAllProducts(any())).thenAnswer(writeRows(productList));
 
-        mockMvc.perform(get("/api/products"))
+        MvcResult result = mockMvc.perform(get("/api/products"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].name").value("Product A"))
                 .andExpect(jsonPath("$[1].name").value("Product B"));
 
-        verify(productService, times(1)).getAllProducts();
+        verify(productService, times(1)).streamAllProducts(any());
+    }
+
+    @Test
+    public void testGetAllProductsAsNdjson() throws Exception {
+        Product product1 = new Product();
+        product1.setId(1L);
+        Product product2 = new Product();
+        product2.setId(2L);
+
+        when(productService.streamAllProducts(any())).thenAnswer(writeRows(List.of(product1, product2)));
+
+        MvcResult result = mockMvc.perform(get("/api/products").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+    }
+
+    @Test
+    public void testGetAllProductsFlattensManager() throws Exception {
+        Manager manager = new Manager();
+        manager.setId(7L);
+        manager.setFirstName("Ivan");
+        manager.setLastName("Petrov");
+
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("Product A");
+        product.setManager(manager);
+
+        when(productService.streamAllProducts(any())).thenAnswer(writeRows(List.of(product)));
+
+        MvcResult result = mockMvc.perform(get("/api/products"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].managerId").value(7))
+                .andExpect(jsonPath("$[0].managerFullName").value("Ivan Petrov"))
+                .andExpect(jsonPath("$[0].manager").doesNotExist());
     }
 
     @Test
@@ -129,4 +198,14 @@ public class ProductControllerTest {
 
         verify(productService, times(1)).deleteProduct(1L);
     }
+
+    private static Answer<Long> writeRows(List<Product> products) {
+        return invocation -> {
+            RowWriter<Product> writer = invocation.getArgument(0);
+            for (Product product : products) {
+                writer.write(product);
+            }
+            return (long) products.size();
+        };
+    }
 }
@@ -2,12 +2,15 @@ package com.bank.project.controller;
 
 import com.bank.project.entity.Transaction;
 import com.bank.project.service.TransactionService;
+import com.bank.project.service.mapper.TransactionMapper;
+import com.bank.project.service.mapper.TransactionMapperImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -28,6 +31,9 @@ class TransactionControllerTest {
     @Mock
     private TransactionService transactionService;
 
+    @Spy
+    private TransactionMapper transactionMapper = new TransactionMapperImpl();
+
     @InjectMocks
     private TransactionController transactionController;
 
@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.bank.project.dto.CreateClientRequest.*;
@@ -177,7 +178,7 @@ class ClientControllerIntegrationTest {
         } catch (Exception e) {
             throw new RuntimeException("Failed to update client request fields", e);
         }
-        Client updateRequest = clientMapper.toClient(updateRequestDto);
+        Client updateRequest = clientMapper.toEntity(updateRequestDto, LocalDateTime.now());
 
         // When & Then
         mockMvc.perform(put(API_CLIENTS + "/{id}", testClient.getId())
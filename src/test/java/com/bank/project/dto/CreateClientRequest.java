@@ -1,31 +0,0 @@
-package com.bank.project.dto;
-
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
-import jakarta.validation.constraints.Size;
-import lombok.Data;
-
-@Data
-public class CreateClientRequest {
-    @NotBlank(message = "First name is required")
-    @Size(max = 50, message = "First name must be less than 50 characters")
-    private String firstName;
-
-    @NotBlank(message = "Last name is required")
-    @Size(max = 50, message = "Last name must be less than 50 characters")
-    private String lastName;
-
-    @NotBlank(message = "Email is required")
-    @Email(message = "Email should be valid")
-    private String email;
-
-    @Pattern(regexp = "^\\+?[0-9]{10,15}$", message = "Phone number should be valid")
-    private String phone;
-
-    @Size(max = 20, message = "Tax code must be less than 20 characters")
-    private String taxCode;
-
-    @Size(max = 200, message = "Address must be less than 200 characters")
-    private String address;
-}
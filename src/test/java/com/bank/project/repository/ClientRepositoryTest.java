@@ -175,14 +175,18 @@ class ClientRepositoryTest {
 
     @Test
     void updateClientStatus_ShouldUpdateStatus() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 19, 12, 0);
+
         // When
-        int updated = clientRepository.updateClientStatus(activeClient.getId(), "SUSPENDED");
+        int updated = clientRepository.updateClientStatus(activeClient.getId(), "SUSPENDED", updatedAt);
         Optional<Client> updatedClient = clientRepository.findById(activeClient.getId());
 
         // Then
         assertEquals(1, updated);
         assertTrue(updatedClient.isPresent());
         assertEquals("SUSPENDED", updatedClient.get().getStatus());
+        assertEquals(updatedAt, updatedClient.get().getUpdatedAt());
     }
 
     @Test
@@ -3,11 +3,15 @@ package com.bank.project.service;
 import com.bank.project.entity.Account;
 import com.bank.project.entity.AccountStatus;
 import com.bank.project.repository.AccountRepository;
+import com.bank.project.service.mapper.AccountMapper;
+import com.bank.project.service.mapper.AccountMapperImpl;
+import com.bank.project.service.outbox.OutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.math.BigDecimal;
@@ -24,6 +28,12 @@ public class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Spy
+    private AccountMapper accountMapper = new AccountMapperImpl();
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -85,6 +95,7 @@ public class AccountServiceTest {
         assertNotNull(updatedAccount);
         assertEquals(account.getId(), updatedAccount.getId());
         verify(accountRepository, times(1)).save(any(Account.class));
+        verify(outboxService).record(eq(OutboxService.ACCOUNT), eq(1L), eq("AccountUpdated"), any());
     }
 
     @Test
@@ -95,6 +106,7 @@ public class AccountServiceTest {
 
         assertNull(updatedAccount);
         verify(accountRepository, times(0)).save(any(Account.class));
+        verifyNoInteractions(outboxService);
     }
 
     @Test
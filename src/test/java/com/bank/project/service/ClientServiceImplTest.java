@@ -5,6 +5,12 @@ import com.bank.project.entity.Client;
 import com.bank.project.exception.ResourceNotFoundException;
 import com.bank.project.repository.ClientRepository;
 import com.bank.project.service.mapper.ClientMapper;
+import com.bank.project.service.paging.ClientSortKey;
+import com.bank.project.service.paging.CursorPage;
+import com.bank.project.service.paging.KeysetCursor;
+import com.bank.project.service.outbox.OutboxService;
+import com.bank.project.service.uniqueness.ClientUniqueField;
+import com.bank.project.service.uniqueness.ClientUniquenessFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,13 +18,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,14 +41,28 @@ class ClientServiceImplTest {
     @Mock
     private ClientMapper clientMapper;
 
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private ClientUniquenessFilter uniquenessFilter;
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private ClientServiceImpl clientService;
 
     private Client testClient;
     private CreateClientRequest createRequest;
 
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
     @BeforeEach
     void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW.toInstant(ZoneOffset.UTC));
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+
         testClient = new Client();
         testClient.setId(1L);
         testClient.setFirstName("John");
@@ -75,14 +100,39 @@ class ClientServiceImplTest {
 
     @Test
     void createClient_ShouldReturnCreatedClient() {
-        when(clientMapper.toEntity(any(CreateClientRequest.class))).thenReturn(testClient);
+        when(clientMapper.toEntity(any(CreateClientRequest.class), any(LocalDateTime.class))).thenReturn(testClient);
         when(clientRepository.save(any(Client.class))).thenReturn(testClient);
 
         Client created = clientService.createClient(createRequest);
 
         assertNotNull(created);
         assertEquals("John", created.getFirstName());
+        verify(clientMapper).toEntity(createRequest, NOW);
         verify(clientRepository, times(1)).save(any(Client.class));
+        verify(outboxService).record(eq(OutboxService.CLIENT), eq(testClient.getId()), eq("ClientCreated"), any());
+    }
+
+    @Test
+    void createClient_WhenFilterRulesOutDuplicates_ShouldSkipExistenceQueries() {
+        when(clientMapper.toEntity(any(CreateClientRequest.class), any(LocalDateTime.class))).thenReturn(testClient);
+        when(clientRepository.save(any(Client.class))).thenReturn(testClient);
+
+        clientService.createClient(createRequest);
+
+        verify(uniquenessFilter).mightExist(ClientUniqueField.EMAIL, "john.doe@example.com");
+        verify(clientRepository, never()).existsByEmail(any());
+        verify(uniquenessFilter).register(testClient);
+    }
+
+    @Test
+    void createClient_WhenEmailMayExistAndDoes_ShouldThrowException() {
+        when(clientMapper.toEntity(any(CreateClientRequest.class), any(LocalDateTime.class))).thenReturn(testClient);
+        when(uniquenessFilter.mightExist(ClientUniqueField.EMAIL, "john.doe@example.com")).thenReturn(true);
+        when(clientRepository.existsByEmail("john.doe@example.com")).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> clientService.createClient(createRequest));
+        verify(clientRepository, never()).save(any(Client.class));
+        verifyNoInteractions(outboxService);
     }
 
     @Test
@@ -107,7 +157,14 @@ class ClientServiceImplTest {
     @Test
     void updateClient_WhenClientExists_ShouldReturnUpdatedClient() {
         when(clientRepository.findById(1L)).thenReturn(Optional.of(testClient));
-        when(clientRepository.save(any(Client.class))).thenReturn(testClient);
+        when(clientRepository.saveAndFlush(any(Client.class))).thenReturn(testClient);
+        // Маппер — мок: переносим имя из запроса так же, как это сделал бы сгенерированный код
+        doAnswer(invocation -> {
+            CreateClientRequest request = invocation.getArgument(0);
+            Client target = invocation.getArgument(1);
+            target.setFirstName(request.getFirstName());
+            return null;
+        }).when(clientMapper).updateFromDto(any(CreateClientRequest.class), any(Client.class), any(LocalDateTime.class));
 
         // Обновляем имя клиента
         createRequest.setFirstName("John Updated");
@@ -116,7 +173,8 @@ class ClientServiceImplTest {
 
         assertNotNull(updated);
         assertEquals("John Updated", updated.getFirstName());
-        verify(clientRepository, times(1)).save(any(Client.class));
+        verify(clientMapper).updateFromDto(createRequest, testClient, NOW);
+        verify(clientRepository, times(1)).saveAndFlush(any(Client.class));
     }
 
     @Test
@@ -137,6 +195,7 @@ class ClientServiceImplTest {
         clientService.deleteClient(1L);
 
         assertEquals("INACTIVE", testClient.getStatus());
+        assertEquals(NOW, testClient.getUpdatedAt());
         verify(clientRepository, times(1)).save(testClient);
     }
 
@@ -144,8 +203,8 @@ class ClientServiceImplTest {
     void getAllClients_ShouldReturnPageOfClients() {
         // given
         Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
-        when(clientRepository.findAll(any(Pageable.class)))
-            .thenReturn(new PageImpl<>(List.of(testClient), pageable, 1));
+        when(clientRepository.findAllBy(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(testClient), pageable, false));
 
         // when
         List<Client> clients = clientService.getAllClients(0, 10, new String[]{"id,asc"});
@@ -154,13 +213,61 @@ class ClientServiceImplTest {
         assertFalse(clients.isEmpty());
         assertEquals(1, clients.size());
         assertEquals("John", clients.get(0).getFirstName());
+        verify(clientRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getAllClients_ShouldCapPageSizeAndAddIdTieBreaker() {
+        when(clientRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of()));
+
+        clientService.getAllClients(3, 10_000, new String[]{"lastName", "desc"});
+
+        verify(clientRepository).findAllBy(PageRequest.of(3, ClientServiceImpl.MAX_PAGE_SIZE,
+                Sort.by(Sort.Order.desc("lastName"), Sort.Order.desc("id"))));
+    }
+
+    @Test
+    void getAllClients_ShouldRejectNonWhitelistedSortField() {
+        assertThrows(IllegalArgumentException.class,
+                () -> clientService.getAllClients(0, 10, new String[]{"passportNumber,asc"}));
+        verifyNoInteractions(clientRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void getClientsPage_ShouldReturnCursorForNextPageAndResumeFromIt() {
+        Client second = new Client();
+        second.setId(2L);
+        second.setLastName("Doe");
+        Client third = new Client();
+        third.setId(3L);
+        third.setLastName("Smith");
+        when(clientRepository.findBy(any(Specification.class), any(Function.class)))
+            .thenReturn(List.of(testClient, second, third))
+            .thenReturn(List.of(third));
+
+        CursorPage<Client> first = clientService.getClientsPage(null, 2, "lastName,asc");
+
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.isHasNext());
+        KeysetCursor cursor = KeysetCursor.decode(first.getNextCursor());
+        assertEquals(ClientSortKey.LAST_NAME, cursor.getKey());
+        assertEquals("Doe", cursor.getLastValue());
+        assertEquals(2L, cursor.getLastId());
+
+        CursorPage<Client> next = clientService.getClientsPage(first.getNextCursor(), 2, null);
+
+        assertEquals(List.of(third), next.getContent());
+        assertFalse(next.isHasNext());
+        verify(clientRepository, never()).count();
     }
 
     @Test
     void getClientsByStatus_ShouldReturnFilteredClients() {
         // given
-        when(clientRepository.findByStatus(eq("ACTIVE")))
-            .thenReturn(new PageImpl<>(List.of(testClient)));
+        when(clientRepository.findByStatusAndIdGreaterThanOrderByIdAsc(eq("ACTIVE"), eq(0L),
+                eq(Limit.of(ClientServiceImpl.DEFAULT_STATUS_PAGE_SIZE + 1))))
+            .thenReturn(List.of(testClient));
 
         // when
         List<Client> clients = clientService.getClientsByStatus("ACTIVE");
@@ -169,4 +276,60 @@ class ClientServiceImplTest {
         assertFalse(clients.isEmpty());
         assertEquals("ACTIVE", clients.get(0).getStatus());
     }
+
+    @Test
+    void getClientsByStatus_ShouldPageBeyondFirstTenByCursor() {
+        Client second = new Client();
+        second.setId(2L);
+        second.setStatus("SUSPENDED");
+        testClient.setStatus("SUSPENDED");
+        when(clientRepository.findByStatusAndIdGreaterThanOrderByIdAsc("SUSPENDED", 0L, Limit.of(2)))
+            .thenReturn(List.of(testClient, second));
+        when(clientRepository.findByStatusAndIdGreaterThanOrderByIdAsc("SUSPENDED", 1L, Limit.of(2)))
+            .thenReturn(List.of(second));
+
+        CursorPage<Client> first = clientService.getClientsByStatus("suspended", null, 1);
+        CursorPage<Client> next = clientService.getClientsByStatus("SUSPENDED", first.getNextCursor(), 1);
+
+        assertEquals(List.of(testClient), first.getContent());
+        assertEquals(List.of(second), next.getContent());
+        assertFalse(next.isHasNext());
+    }
+
+    @Test
+    void updateClientStatus_ShouldUpdateInSetBasedBatches() {
+        List<Long> ids = java.util.stream.LongStream.rangeClosed(1, 2500).boxed().toList();
+        when(clientRepository.updateClientStatus(anyCollection(), eq("SUSPENDED"), eq(NOW)))
+            .thenAnswer(invocation -> invocation.<java.util.Collection<Long>>getArgument(0).size());
+
+        int updated = clientService.updateClientStatus(ids, "suspended");
+
+        assertEquals(2500, updated);
+        verify(clientRepository, times(3)).updateClientStatus(anyCollection(), eq("SUSPENDED"), eq(NOW));
+    }
+
+    @Test
+    void transitionClientStatus_ShouldLoopUntilBatchIsEmpty() {
+        when(clientRepository.transitionStatusBatch("ACTIVE", "INACTIVE", ClientServiceImpl.STATUS_BATCH_SIZE, NOW))
+            .thenReturn(ClientServiceImpl.STATUS_BATCH_SIZE, 17, 0);
+
+        int updated = clientService.transitionClientStatus("ACTIVE", "inactive");
+
+        assertEquals(ClientServiceImpl.STATUS_BATCH_SIZE + 17, updated);
+        verify(clientRepository, times(3)).transitionStatusBatch("ACTIVE", "INACTIVE", ClientServiceImpl.STATUS_BATCH_SIZE, NOW);
+        assertThrows(IllegalArgumentException.class, () -> clientService.transitionClientStatus("ACTIVE", "ACTIVE"));
+        assertThrows(IllegalArgumentException.class, () -> clientService.transitionClientStatus("ACTIVE", "UNKNOWN"));
+    }
+
+    @Test
+    void transitionClientStatus_ShouldContinueAfterShortBatch() {
+        // Первая порция короткая из-за строк, пропущенных SKIP LOCKED; после неё строки ещё есть
+        when(clientRepository.transitionStatusBatch("ACTIVE", "SUSPENDED", ClientServiceImpl.STATUS_BATCH_SIZE, NOW))
+            .thenReturn(5, ClientServiceImpl.STATUS_BATCH_SIZE, 3, 0);
+
+        int updated = clientService.transitionClientStatus("ACTIVE", "SUSPENDED");
+
+        assertEquals(5 + ClientServiceImpl.STATUS_BATCH_SIZE + 3, updated);
+        verify(clientRepository, times(4)).transitionStatusBatch("ACTIVE", "SUSPENDED", ClientServiceImpl.STATUS_BATCH_SIZE, NOW);
+    }
 }
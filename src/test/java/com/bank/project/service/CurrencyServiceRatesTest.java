@@ -0,0 +1,175 @@
+package com.bank.project.service;
+
+import com.bank.project.entity.Currency;
+import com.bank.project.entity.CurrencyRateHistory;
+import com.bank.project.exception.ResourceNotFoundException;
+import com.bank.project.repository.CurrencyRateHistoryRepository;
+import com.bank.project.repository.CurrencyRepository;
+import com.bank.project.service.cache.ReferenceDataCache;
+import com.bank.project.service.cache.ReferenceDataChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * In-memory rate table and rate history of {@link CurrencyService}, without a Spring context.
+ */
+class CurrencyServiceRatesTest {
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    @Mock
+    private CurrencyRateHistoryRepository rateHistoryRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    private CurrencyService currencyService;
+    private Currency currency;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        currencyService = new CurrencyService(currencyRepository, rateHistoryRepository, referenceDataCache);
+
+        currency = new Currency();
+        currency.setId(1L);
+        currency.setCode("USD");
+        currency.setName("US Dollar");
+        currency.setSymbol("$");
+        currency.setExchangeRate(1.0);
+        currency.setCreatedAt(LocalDateTime.now());
+        currency.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Test
+    void testConvert_UsesRateTableWithoutPerCallLookups() {
+        Currency euro = new Currency();
+        euro.setId(2L);
+        euro.setCode("EUR");
+        euro.setExchangeRate(0.85);
+        when(currencyRepository.findAll()).thenReturn(List.of(currency, euro));
+
+        BigDecimal first = currencyService.convert(BigDecimal.valueOf(100), "USD", "EUR");
+        BigDecimal second = currencyService.convert(BigDecimal.valueOf(85), "eur", "usd");
+
+        assertEquals(0, BigDecimal.valueOf(85).compareTo(first));
+        assertEquals(0, BigDecimal.valueOf(100).compareTo(second));
+        verify(currencyRepository, times(1)).findAll();
+        verify(currencyRepository, never()).findByCode(anyString());
+    }
+
+    @Test
+    void testConvert_UnknownCurrency() {
+        when(currencyRepository.findAll()).thenReturn(List.of(currency));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> currencyService.convert(BigDecimal.ONE, "USD", "XYZ"));
+    }
+
+    @Test
+    void testUpdateCurrency_ReloadsRateTable() {
+        when(currencyRepository.findAll()).thenReturn(List.of(currency));
+        currencyService.getRateTable();
+
+        Currency updated = new Currency();
+        updated.setCode("USD");
+        updated.setExchangeRate(2.0);
+        when(currencyRepository.findById(1L)).thenReturn(Optional.of(currency));
+        when(currencyRepository.save(any(Currency.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        currencyService.updateCurrency(1L, updated);
+
+        assertEquals(2.0, currencyService.getRateTable().rate(currencyService.getRateTable().indexOf("USD")));
+        verify(currencyRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testUpdateCurrency_AppendsRateHistory() {
+        when(currencyRepository.findById(1L)).thenReturn(Optional.of(currency));
+        when(currencyRepository.save(any(Currency.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Currency details = new Currency();
+        details.setCode("USD");
+        details.setName("US Dollar");
+        details.setSymbol("$");
+        details.setExchangeRate(1.25);
+        currencyService.updateCurrency(1L, details);
+
+        ArgumentCaptor<CurrencyRateHistory> captor = ArgumentCaptor.forClass(CurrencyRateHistory.class);
+        verify(rateHistoryRepository, times(1)).save(captor.capture());
+        assertEquals("USD", captor.getValue().getCurrencyCode());
+        assertEquals(1.25, captor.getValue().getExchangeRate());
+    }
+
+    @Test
+    void testConvertAsOf_UsesRateInEffectAtThatMoment() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(rateHistoryRepository.findAllByOrderByCurrencyCodeAscValidFromAscIdAsc()).thenReturn(List.of(
+                new CurrencyRateHistory("USD", 1.0, start),
+                new CurrencyRateHistory("EUR", 0.8, start),
+                new CurrencyRateHistory("EUR", 0.9, start.plusMonths(6))));
+
+        BigDecimal before = currencyService.convertAsOf(new BigDecimal("100"), "USD", "EUR", start.plusMonths(3));
+        BigDecimal after = currencyService.convertAsOf(new BigDecimal("100"), "USD", "EUR", start.plusMonths(7));
+
+        assertEquals(0, new BigDecimal("80").compareTo(before));
+        assertEquals(0, new BigDecimal("90").compareTo(after));
+        verify(rateHistoryRepository, times(1)).findAllByOrderByCurrencyCodeAscValidFromAscIdAsc();
+        verify(currencyRepository, never()).findAll();
+    }
+
+    @Test
+    void testCurrencyVersionChange_RebuildsLoadedSnapshots() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(currencyRepository.findAll()).thenReturn(List.of(currency));
+        when(rateHistoryRepository.findAllByOrderByCurrencyCodeAscValidFromAscIdAsc())
+                .thenReturn(List.of(new CurrencyRateHistory("USD", 1.0, start)));
+        currencyService.getRateTable();
+        currencyService.getRateHistory();
+
+        // Курс изменили на другом узле: здесь видна только новая версия таблицы currency
+        Currency changed = new Currency();
+        changed.setId(1L);
+        changed.setCode("USD");
+        changed.setExchangeRate(1.5);
+        when(currencyRepository.findAll()).thenReturn(List.of(changed));
+        when(rateHistoryRepository.findAllByOrderByCurrencyCodeAscValidFromAscIdAsc()).thenReturn(List.of(
+                new CurrencyRateHistory("USD", 1.0, start),
+                new CurrencyRateHistory("USD", 1.5, start.plusDays(1))));
+
+        currencyService.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceDataCache.CURRENCY_REGION, 7));
+
+        assertEquals(1.5, currencyService.getRateTable().rate(currencyService.getRateTable().indexOf("USD")));
+        assertEquals(1.5, currencyService.rateAsOf("USD", start.plusDays(2)));
+    }
+
+    @Test
+    void testOtherTableVersionChange_KeepsSnapshots() {
+        when(currencyRepository.findAll()).thenReturn(List.of(currency));
+        currencyService.getRateTable();
+
+        currencyService.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceDataCache.TAX_CODE_REGION, 3));
+
+        verify(currencyRepository, times(1)).findAll();
+        verify(rateHistoryRepository, never()).findAllByOrderByCurrencyCodeAscValidFromAscIdAsc();
+    }
+
+    @Test
+    void testCurrencyVersionChange_BeforeFirstUse_LoadsNothing() {
+        currencyService.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceDataCache.CURRENCY_REGION, 1));
+
+        verifyNoInteractions(currencyRepository, rateHistoryRepository);
+    }
+}
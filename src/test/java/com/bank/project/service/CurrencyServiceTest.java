@@ -1,7 +1,9 @@
 package com.bank.project.service;
 
 import com.bank.project.entity.Currency;
+import com.bank.project.repository.CurrencyRateHistoryRepository;
 import com.bank.project.repository.CurrencyRepository;
+import com.bank.project.service.cache.ReferenceDataCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -19,6 +21,12 @@ class CurrencyServiceTest {
     @Mock
     private CurrencyRepository currencyRepository;
 
+    @Mock
+    private CurrencyRateHistoryRepository rateHistoryRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private CurrencyService currencyService;
 
@@ -3,6 +3,7 @@ package com.bank.project.service;
 import com.bank.project.entity.Manager;
 import com.bank.project.entity.enums.ManagerStatus;
 import com.bank.project.repository.ManagerRepository;
+import com.bank.project.service.cache.ReferenceDataCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -25,6 +26,9 @@ class ManagerServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ManagerService managerService;
 
@@ -0,0 +1,113 @@
+package com.bank.project.service;
+
+import com.bank.project.dto.ProductResponse;
+import com.bank.project.entity.Manager;
+import com.bank.project.entity.Product;
+import com.bank.project.entity.enums.ManagerStatus;
+import com.bank.project.entity.enums.ProductStatus;
+import com.bank.project.entity.enums.ProductType;
+import com.bank.project.repository.ManagerRepository;
+import com.bank.project.repository.ProductRepository;
+import com.bank.project.service.cache.ReferenceDataCache;
+import com.bank.project.service.mapper.ProductMapper;
+import com.bank.project.service.mapper.ProductMapperImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Maps products the way the controller does: after the service call, with no transaction or
+ * persistence context left open.
+ */
+@DataJpaTest
+@Import({ProductService.class, ProductMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductServiceMappingTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
+    private Manager manager;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        manager = new Manager();
+        manager.setFirstName("Anna");
+        manager.setLastName("Petrova");
+        manager.setStatus(ManagerStatus.ACTIVE);
+        manager.setCreatedAt(LocalDateTime.now());
+        manager.setUsername("apetrova");
+        manager.setPassword("secret");
+        manager.setRole("USER");
+        managerRepository.save(manager);
+
+        product = new Product();
+        product.setName("Savings Plus");
+        product.setDescription("Savings account");
+        product.setStatus(ProductStatus.ACTIVE);
+        product.setType(ProductType.SAVINGS);
+        product.setCurrencyCode("USD");
+        product.setManager(manager);
+        productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(product.getId());
+        managerRepository.deleteById(manager.getId());
+    }
+
+    @Test
+    void getProductById_ShouldMapManagerOutsideTransaction() {
+        // Второй вызов берёт продукт из кэша второго уровня, где entity graph не действует
+        for (int i = 0; i < 2; i++) {
+            ProductResponse response = productMapper.toResponse(productService.getProductById(product.getId()));
+
+            assertThat(response.getManagerId()).isEqualTo(manager.getId());
+            assertThat(response.getManagerFullName()).isEqualTo("Anna Petrova");
+        }
+    }
+
+    @Test
+    void findProductByName_ShouldMapManagerOutsideTransaction() {
+        for (int i = 0; i < 2; i++) {
+            ProductResponse response = productMapper.toResponse(productService.findProductByName("Savings Plus"));
+
+            assertThat(response.getManagerFullName()).isEqualTo("Anna Petrova");
+        }
+    }
+
+    @Test
+    void updateProduct_ShouldMapManagerOutsideTransaction() {
+        Product details = new Product();
+        details.setDescription("Savings account with bonus rate");
+
+        ProductResponse response = productMapper.toResponse(productService.updateProduct(product.getId(), details));
+
+        assertThat(response.getDescription()).isEqualTo("Savings account with bonus rate");
+        assertThat(response.getManagerFullName()).isEqualTo("Anna Petrova");
+    }
+}
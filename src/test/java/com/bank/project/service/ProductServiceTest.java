@@ -3,6 +3,7 @@ package com.bank.project.service;
 import com.bank.project.entity.Product;
 import com.bank.project.entity.enums.ProductStatus;
 import com.bank.project.repository.ProductRepository;
+import com.bank.project.service.cache.ReferenceDataCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ProductService productService;
 
@@ -100,6 +104,7 @@ class ProductServiceTest {
         assertEquals(BigDecimal.valueOf(6.0), updatedProduct.getInterestRate());
         assertEquals(BigDecimal.valueOf(15000.0), updatedProduct.getCreditLimit());
         verify(productRepository, times(1)).save(updatedProduct);
+        verify(referenceDataCache).evict(Product.class, 1L, ReferenceDataCache.PRODUCT_QUERY_REGION);
     }
 
     @Test
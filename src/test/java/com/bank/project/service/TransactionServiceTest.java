@@ -2,11 +2,15 @@ package com.bank.project.service;
 
 import com.bank.project.entity.Transaction;
 import com.bank.project.repository.TransactionRepository;
+import com.bank.project.service.mapper.TransactionMapper;
+import com.bank.project.service.mapper.TransactionMapperImpl;
+import com.bank.project.service.outbox.OutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -21,6 +25,12 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Spy
+    private TransactionMapper transactionMapper = new TransactionMapperImpl();
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -50,6 +60,7 @@ class TransactionServiceTest {
         assertEquals(1L, createdTransaction.getId());
         assertEquals(1000.0, createdTransaction.getAmount());
         verify(transactionRepository, times(1)).save(any(Transaction.class));
+        verify(outboxService).record(eq(OutboxService.TRANSACTION), eq(1L), eq("TransactionCreated"), any());
     }
 
     @Test
@@ -0,0 +1,97 @@
+package com.bank.project.service.balance;
+
+import com.bank.project.dto.AccountBalanceResponse;
+import com.bank.project.entity.AccountBalanceSnapshot;
+import com.bank.project.exception.ResourceNotFoundException;
+import com.bank.project.repository.AccountAmountTotal;
+import com.bank.project.repository.AccountBalanceSnapshotRepository;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AccountBalanceServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    private AccountBalanceService accountBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        accountBalanceService = new AccountBalanceService(accountRepository, transactionRepository, snapshotRepository,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        when(accountRepository.existsById(1L)).thenReturn(true);
+    }
+
+    @Test
+    void getBalanceAsOf_ShouldAddIntradayMovementsToNearestSnapshot() {
+        LocalDateTime asOf = LocalDateTime.of(2026, 10, 18, 15, 0);
+        when(snapshotRepository.findFirstByAccountIdAndBalanceDateLessThanOrderByBalanceDateDesc(1L, asOf.toLocalDate()))
+                .thenReturn(Optional.of(snapshot(1L, LocalDate.of(2026, 10, 17), "1000.00")));
+        LocalDateTime from = LocalDate.of(2026, 10, 18).atStartOfDay();
+        when(transactionRepository.sumCreditsByAccount(List.of(1L), from, asOf)).thenReturn(List.of(total(1L, 250.0)));
+        when(transactionRepository.sumDebitsByAccount(List.of(1L), from, asOf)).thenReturn(List.of(total(1L, 100.5)));
+
+        AccountBalanceResponse balance = accountBalanceService.getBalanceAsOf(1L, asOf);
+
+        assertEquals(new BigDecimal("1149.50"), balance.getBalance());
+        assertEquals(new BigDecimal("149.50"), balance.getChangeSinceSnapshot());
+        assertEquals(LocalDate.of(2026, 10, 17), balance.getSnapshotDate());
+    }
+
+    @Test
+    void getBalanceAsOf_WithoutSnapshot_ShouldSumLedgerFromStart() {
+        when(snapshotRepository.findFirstByAccountIdAndBalanceDateLessThanOrderByBalanceDateDesc(any(), any()))
+                .thenReturn(Optional.empty());
+        when(transactionRepository.sumCreditsByAccount(List.of(1L), AccountBalanceService.LEDGER_START, NOW))
+                .thenReturn(List.of(total(1L, 40.0)));
+        when(transactionRepository.sumDebitsByAccount(any(), any(), any())).thenReturn(List.of());
+
+        AccountBalanceResponse balance = accountBalanceService.getBalanceAsOf(1L, null);
+
+        assertEquals(new BigDecimal("40.00"), balance.getBalance());
+        assertNull(balance.getSnapshotDate());
+        assertEquals(NOW, balance.getAsOf());
+    }
+
+    @Test
+    void getBalanceAsOf_ShouldRejectUnknownAccountAndFutureDate() {
+        assertThrows(ResourceNotFoundException.class, () -> accountBalanceService.getBalanceAsOf(2L, NOW));
+        assertThrows(IllegalArgumentException.class, () -> accountBalanceService.getBalanceAsOf(1L, NOW.plusDays(1)));
+    }
+
+    static AccountBalanceSnapshot snapshot(Long accountId, LocalDate day, String balance) {
+        return new AccountBalanceSnapshot(accountId, day, new BigDecimal(balance), NOW);
+    }
+
+    static AccountAmountTotal total(Long accountId, Double total) {
+        return new AccountAmountTotal() {
+            public Long getAccountId() { return accountId; }
+            public Double getTotal() { return total; }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.bank.project.service.balance;
+
+import com.bank.project.config.BalanceSnapshotProperties;
+import com.bank.project.config.Workload;
+import com.bank.project.entity.AccountBalanceSnapshot;
+import com.bank.project.repository.AccountBalanceSnapshotRepository;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.bank.project.service.balance.AccountBalanceServiceTest.snapshot;
+import static com.bank.project.service.balance.AccountBalanceServiceTest.total;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BalanceSnapshotJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 0, 15);
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 18);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BalanceSnapshotJob job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        BalanceSnapshotProperties properties = new BalanceSnapshotProperties();
+        properties.setChunkSize(2);
+        properties.setThreads(2);
+        job = new BalanceSnapshotJob(accountRepository, snapshotRepository,
+                new AccountBalanceService(accountRepository, transactionRepository, snapshotRepository, clock),
+                properties, transactionManager, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    void snapshot_ShouldRollPreviousBalanceForwardByDayMovements() {
+        when(accountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findIdsAfter(2L, Limit.of(2))).thenReturn(List.of(3L));
+        // Счёт 1 со вчерашним снимком, счёт 2 с пропущенными днями, счёт 3 новый
+        when(snapshotRepository.findLatestBefore(List.of(1L, 2L), DAY)).thenReturn(List.of(
+                snapshot(1L, DAY.minusDays(1), "100.00"),
+                snapshot(2L, DAY.minusDays(3), "50.00")));
+        when(snapshotRepository.findLatestBefore(List.of(3L), DAY)).thenReturn(List.of());
+        LocalDateTime end = DAY.plusDays(1).atStartOfDay();
+        when(transactionRepository.sumCreditsByAccount(List.of(1L), DAY.atStartOfDay(), end))
+                .thenReturn(List.of(total(1L, 20.0)));
+        when(transactionRepository.sumDebitsByAccount(List.of(2L), DAY.minusDays(2).atStartOfDay(), end))
+                .thenReturn(List.of(total(2L, 5.0)));
+        when(transactionRepository.sumCreditsByAccount(List.of(3L), AccountBalanceService.LEDGER_START, end))
+                .thenReturn(List.of(total(3L, 7.0)));
+        List<AccountBalanceSnapshot> saved = new ArrayList<>();
+        when(snapshotRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            synchronized (saved) {
+                saved.addAll(invocation.getArgument(0));
+            }
+            return invocation.getArgument(0);
+        });
+
+        int written = job.snapshot(DAY);
+
+        assertEquals(3, written);
+        Map<Long, BigDecimal> balances = saved.stream()
+                .collect(Collectors.toMap(AccountBalanceSnapshot::getAccountId, AccountBalanceSnapshot::getBalance));
+        assertEquals(new BigDecimal("120.00"), balances.get(1L));
+        assertEquals(new BigDecimal("45.00"), balances.get(2L));
+        assertEquals(new BigDecimal("7.00"), balances.get(3L));
+        assertTrue(saved.stream().allMatch(s -> s.getBalanceDate().equals(DAY)));
+        verify(snapshotRepository).deleteForDate(List.of(1L, 2L), DAY);
+        verify(snapshotRepository).deleteForDate(List.of(3L), DAY);
+    }
+
+    @Test
+    void snapshotChunk_ShouldRunAsBatchWorkload() {
+        List<Workload> workloads = new ArrayList<>();
+        when(snapshotRepository.findLatestBefore(anyCollection(), eq(DAY))).thenAnswer(invocation -> {
+            workloads.add(Workload.current());
+            return List.of();
+        });
+
+        job.snapshotChunk(List.of(1L), DAY);
+
+        // Пул batch: длинные чанки не обрываются тайм-аутом OLTP-запросов
+        assertEquals(List.of(Workload.BATCH), workloads);
+        assertEquals(Workload.OLTP, Workload.current());
+    }
+
+    @Test
+    void snapshot_WhenChunkFails_ShouldFinishOtherChunks() {
+        when(accountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findIdsAfter(2L, Limit.of(2))).thenReturn(List.of(3L));
+        when(snapshotRepository.findLatestBefore(anyCollection(), eq(DAY))).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(1L)) {
+                throw new IllegalStateException("db down");
+            }
+            return List.of();
+        });
+        ArgumentCaptor<List<AccountBalanceSnapshot>> saved = ArgumentCaptor.forClass(List.class);
+
+        int written = job.snapshot(DAY);
+
+        assertEquals(1, written);
+        verify(snapshotRepository).saveAll(saved.capture());
+        assertEquals(3L, saved.getValue().get(0).getAccountId());
+    }
+}
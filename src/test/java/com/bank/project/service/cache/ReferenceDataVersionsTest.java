@@ -0,0 +1,122 @@
+package com.bank.project.service.cache;
+
+import com.bank.project.config.HttpCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataVersionsTest {
+
+    private static final Instant LOADED = Instant.parse("2026-10-19T12:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher events;
+    private Clock clock;
+    private ReferenceDataVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        events = mock(ApplicationEventPublisher.class);
+        clock = mock(Clock.class);
+        HttpCacheProperties properties = new HttpCacheProperties();
+        properties.setVersionRefresh(Duration.ofSeconds(2));
+        properties.setStaleAfterRefreshes(5);
+        versions = new ReferenceDataVersions(jdbcTemplate, events, properties, clock);
+        doAnswer(invocation -> {
+            ResultSet row = mock(ResultSet.class);
+            when(row.getString("table_name")).thenReturn("currency");
+            when(row.getLong("version")).thenReturn(7L);
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(eq(ReferenceDataVersions.LOAD_SQL), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void current_AfterRefresh_ShouldReportLoadedVersions() {
+        when(clock.instant()).thenReturn(LOADED, LOADED.plusSeconds(10));
+
+        versions.refresh();
+
+        assertEquals(OptionalLong.of(7), versions.current("currency"));
+        assertEquals(OptionalLong.of(0), versions.current("tax_codes"));
+    }
+
+    @Test
+    void current_WhenRefreshStopsRunning_ShouldTreatVersionsAsUnknown() {
+        // Пять интервалов по 2 с без обновления — номера устарели
+        when(clock.instant()).thenReturn(LOADED, LOADED.plusSeconds(11), LOADED.plusSeconds(11));
+
+        versions.refresh();
+
+        assertEquals(OptionalLong.empty(), versions.current("currency"));
+        versions.refresh();
+        assertEquals(OptionalLong.of(7), versions.current("currency"));
+    }
+
+    @Test
+    void current_BeforeLoadOrAfterFailedRefresh_ShouldBeUnknown() {
+        when(clock.instant()).thenReturn(LOADED);
+        assertEquals(OptionalLong.empty(), versions.current("currency"));
+
+        versions.refresh();
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(jdbcTemplate).query(eq(ReferenceDataVersions.LOAD_SQL), any(RowCallbackHandler.class));
+        versions.refresh();
+
+        assertEquals(OptionalLong.empty(), versions.current("currency"));
+    }
+
+    @Test
+    void refresh_ShouldAnnounceChangedVersionBeforeReportingIt() {
+        when(clock.instant()).thenReturn(LOADED);
+        versions.refresh();
+        doAnswer(invocation -> {
+            ResultSet row = mock(ResultSet.class);
+            when(row.getString("table_name")).thenReturn("currency");
+            when(row.getLong("version")).thenReturn(8L);
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(eq(ReferenceDataVersions.LOAD_SQL), any(RowCallbackHandler.class));
+        // Пока слушатель перестраивает снимок, наружу всё ещё отдаётся старый номер
+        doAnswer(invocation -> {
+            assertEquals(OptionalLong.of(7), versions.current("currency"));
+            return null;
+        }).when(events).publishEvent(any(Object.class));
+
+        versions.refresh();
+
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(events, times(2)).publishEvent(event.capture());
+        ReferenceDataChangedEvent changed = assertInstanceOf(ReferenceDataChangedEvent.class, event.getValue());
+        assertEquals("currency", changed.getTable());
+        assertEquals(8L, changed.getVersion());
+        assertEquals(OptionalLong.of(8), versions.current("currency"));
+    }
+
+    @Test
+    void refresh_WhenVersionUnchanged_ShouldNotAnnounceAgain() {
+        when(clock.instant()).thenReturn(LOADED);
+
+        versions.refresh();
+        versions.refresh();
+
+        verify(events, times(1)).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,147 @@
+package com.bank.project.service.changes;
+
+import com.bank.project.dto.ChangeFeedResponse;
+import com.bank.project.entity.Transaction;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.AgreementRepository;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.repository.TransactionRepository;
+import com.bank.project.service.mapper.AccountMapperImpl;
+import com.bank.project.service.mapper.AgreementMapperImpl;
+import com.bank.project.service.mapper.ClientMapperImpl;
+import com.bank.project.service.mapper.TransactionMapperImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChangeFeedServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AgreementRepository agreementRepository;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        changeFeedService = new ChangeFeedService(accountRepository, agreementRepository, clientRepository,
+                transactionRepository, new AccountMapperImpl(), new AgreementMapperImpl(), new ClientMapperImpl(),
+                new TransactionMapperImpl(),
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeedService.shutdown();
+    }
+
+    @Test
+    void poll_WithoutCursor_ShouldStartFromBeginningAndHoldBackUnsettledRows() {
+        when(transactionRepository.findCreatedAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+
+        changeFeedService.poll(ChangeFeedEntity.TRANSACTIONS, null, 10);
+
+        verify(transactionRepository).findCreatedAfter(ChangeCursor.START.getChangedAt(), 0L,
+                NOW.minus(ChangeFeedService.SETTLE_LAG), Limit.of(11));
+    }
+
+    @Test
+    void poll_ShouldAdvanceCursorToLastDeliveredRow() {
+        List<Transaction> rows = List.of(
+                transaction(1L, NOW.minusMinutes(3)),
+                transaction(2L, NOW.minusMinutes(2)),
+                transaction(3L, NOW.minusMinutes(2)));
+        when(transactionRepository.findCreatedAfter(any(), anyLong(), any(), eq(Limit.of(3)))).thenReturn(rows);
+
+        ChangeFeedResponse<?> batch = changeFeedService.poll(ChangeFeedEntity.TRANSACTIONS, null, 2);
+
+        assertEquals(2, batch.getItems().size());
+        assertTrue(batch.isHasMore());
+        assertEquals(new ChangeCursor(NOW.minusMinutes(2), 2L), ChangeCursor.decode(batch.getNextCursor()));
+    }
+
+    @Test
+    void poll_WhenNothingChanged_ShouldKeepCursor() {
+        ChangeCursor cursor = new ChangeCursor(NOW.minusHours(1), 42L);
+        when(clientRepository.findChangedAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+
+        ChangeFeedResponse<?> batch = changeFeedService.poll(ChangeFeedEntity.CLIENTS, cursor.encode(), null);
+
+        assertTrue(batch.getItems().isEmpty());
+        assertFalse(batch.isHasMore());
+        assertEquals(cursor.encode(), batch.getNextCursor());
+        verify(clientRepository).findChangedAfter(eq(cursor.getChangedAt()), eq(42L), any(),
+                eq(Limit.of(ChangeFeedService.DEFAULT_LIMIT + 1)));
+    }
+
+    @Test
+    void awaitChanges_ShouldCompleteWhenRowsAppear() throws Exception {
+        when(transactionRepository.findCreatedAfter(any(), anyLong(), any(), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(transaction(5L, NOW.minusMinutes(1))));
+
+        ChangeFeedResponse<?> batch = changeFeedService
+                .awaitChanges(ChangeFeedEntity.TRANSACTIONS, null, 10, Duration.ofSeconds(5))
+                .get(3, TimeUnit.SECONDS);
+
+        assertEquals(1, batch.getItems().size());
+        verify(transactionRepository, times(2)).findCreatedAfter(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void awaitChanges_WhenNothingChanges_ShouldReturnEmptyBatchAfterWait() throws Exception {
+        when(accountRepository.findChangedAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+
+        ChangeFeedResponse<?> batch = changeFeedService
+                .awaitChanges(ChangeFeedEntity.ACCOUNTS, null, 10, Duration.ofMillis(700))
+                .get(3, TimeUnit.SECONDS);
+
+        assertTrue(batch.getItems().isEmpty());
+    }
+
+    @Test
+    void cursor_ShouldRoundTripAndRejectGarbage() {
+        ChangeCursor cursor = new ChangeCursor(LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_789), 7L);
+
+        ChangeCursor decoded = ChangeCursor.decode(cursor.encode());
+
+        assertEquals(LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_000), decoded.getChangedAt());
+        assertEquals(7L, decoded.getId());
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> ChangeFeedEntity.fromPath("ledger"));
+    }
+
+    private static Transaction transaction(Long id, LocalDateTime createdAt) {
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setCreatedAt(createdAt);
+        return transaction;
+    }
+}
@@ -0,0 +1,40 @@
+package com.bank.project.service.currency;
+
+import com.bank.project.entity.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkCurrencyConverterTest {
+
+    private static Currency currency(String code, Double rate) {
+        Currency currency = new Currency();
+        currency.setCode(code);
+        currency.setExchangeRate(rate);
+        return currency;
+    }
+
+    private final CurrencyRateTable table = CurrencyRateTable.of(1, List.of(
+            currency("USD", 1.0), currency("EUR", 0.8), currency("JPY", 150.0)));
+
+    @Test
+    void convert_AppliesPerCurrencyFactor() {
+        double[] converted = BulkCurrencyConverter.convert(table,
+                new double[]{100.0, 80.0, 15000.0, 0.0}, new int[]{0, 1, 2, 1}, 1);
+
+        assertArrayEquals(new double[]{80.0, 80.0, 80.0, 0.0}, converted, 1e-9);
+    }
+
+    @Test
+    void convert_EmptyInput() {
+        assertEquals(0, BulkCurrencyConverter.convert(table, new double[0], new int[0], 0).length);
+    }
+
+    @Test
+    void convert_LengthMismatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkCurrencyConverter.convert(table, new double[]{1.0}, new int[0], 0));
+    }
+}
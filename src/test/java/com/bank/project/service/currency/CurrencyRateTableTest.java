@@ -0,0 +1,58 @@
+package com.bank.project.service.currency;
+
+import com.bank.project.entity.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrencyRateTableTest {
+
+    private static Currency currency(String code, Double rate) {
+        Currency currency = new Currency();
+        currency.setCode(code);
+        currency.setExchangeRate(rate);
+        return currency;
+    }
+
+    @Test
+    void indexOf_ResolvesIsoCodesCaseInsensitively() {
+        CurrencyRateTable table = CurrencyRateTable.of(1, List.of(currency("USD", 1.0), currency("eur", 0.85)));
+
+        assertEquals(2, table.size());
+        assertEquals(0, table.indexOf("usd"));
+        assertEquals(1, table.indexOf("EUR"));
+        assertEquals("EUR", table.code(1));
+        assertEquals(0.85, table.rate(table.indexOf("Eur")));
+        assertEquals(-1, table.indexOf("GBP"));
+        assertEquals(-1, table.indexOf(null));
+    }
+
+    @Test
+    void indexOf_IgnoresSurroundingWhitespace() {
+        CurrencyRateTable table = CurrencyRateTable.of(1, List.of(currency("USD", 1.0), currency("USDT", 1.0)));
+
+        assertEquals(0, table.indexOf(" USD"));
+        assertEquals(0, table.indexOf("usd "));
+        assertEquals(1, table.indexOf(" usdt "));
+    }
+
+    @Test
+    void indexOf_SupportsNonIsoCodes() {
+        CurrencyRateTable table = CurrencyRateTable.of(1, List.of(currency("USDT", 1.0), currency("X1", 3.0)));
+
+        assertEquals(0, table.indexOf("usdt"));
+        assertEquals(1, table.indexOf("X1"));
+    }
+
+    @Test
+    void of_SkipsRowsWithoutUsableRate() {
+        CurrencyRateTable table = CurrencyRateTable.of(1, List.of(
+                currency("USD", 1.0), currency("EUR", null), currency("GBP", 0.0), currency(null, 2.0)));
+
+        assertEquals(1, table.size());
+        assertEquals(-1, table.indexOf("EUR"));
+        assertEquals(-1, table.indexOf("GBP"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.project.service.currency;
+
+import com.bank.project.entity.CurrencyRateHistory;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateHistoryIndexTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void rateAt_ReturnsRateInEffect() {
+        RateHistoryIndex index = RateHistoryIndex.of(List.of(
+                new CurrencyRateHistory("EUR", 0.9, T0.plusDays(10)),
+                new CurrencyRateHistory("EUR", 0.8, T0),
+                new CurrencyRateHistory("usd", 1.0, T0)));
+
+        assertEquals(0.8, index.rateAt("EUR", T0));
+        assertEquals(0.8, index.rateAt("eur", T0.plusDays(9)));
+        assertEquals(0.9, index.rateAt("EUR", T0.plusDays(10)));
+        assertEquals(0.9, index.rateAt("EUR", T0.plusYears(1)));
+        assertEquals(1.0, index.rateAt("USD", T0.plusDays(1)));
+    }
+
+    @Test
+    void rateAt_BeforeFirstPointUsesEarliestRate() {
+        RateHistoryIndex index = RateHistoryIndex.of(List.of(new CurrencyRateHistory("EUR", 0.8, T0)));
+
+        assertEquals(0.8, index.rateAt("EUR", T0.minusYears(1)));
+    }
+
+    @Test
+    void rateAt_UnknownCurrencyIsNaN() {
+        assertTrue(Double.isNaN(RateHistoryIndex.EMPTY.rateAt("EUR", T0)));
+        assertTrue(Double.isNaN(RateHistoryIndex.EMPTY.rateAt(null, T0)));
+    }
+
+    @Test
+    void withRate_InsertsInTimeOrderWithoutMutatingOriginal() {
+        RateHistoryIndex original = RateHistoryIndex.of(List.of(
+                new CurrencyRateHistory("EUR", 0.8, T0),
+                new CurrencyRateHistory("EUR", 0.9, T0.plusDays(10))));
+
+        RateHistoryIndex updated = original.withRate("EUR", T0.plusDays(5), 0.85).withRate("EUR", T0.plusDays(10), 0.95);
+
+        assertEquals(2, original.pointCount("EUR"));
+        assertEquals(4, updated.pointCount("EUR"));
+        assertEquals(0.85, updated.rateAt("EUR", T0.plusDays(7)));
+        assertEquals(0.95, updated.rateAt("EUR", T0.plusDays(10)));
+        assertEquals(0.9, original.rateAt("EUR", T0.plusDays(10)));
+    }
+}
@@ -0,0 +1,215 @@
+package com.bank.project.service.importing;
+
+import com.bank.project.config.ClientUniquenessProperties;
+import com.bank.project.dto.ClientImportReport;
+import com.bank.project.dto.CreateClientRequest;
+import com.bank.project.entity.Client;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.service.mapper.ClientMapper;
+import com.bank.project.service.outbox.OutboxService;
+import com.bank.project.service.uniqueness.ClientUniquenessFilter;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ClientImportServiceTest {
+
+    private static final String HEADER = "firstName,lastName,birthDate,email,phone,passportSeries,passportNumber,"
+            + "departmentCode,issuedBy,issueDate,registrationAddress,taxCode\n";
+    private static final Instant NOW = Instant.parse("2026-10-19T09:00:00Z");
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private ClientMapper clientMapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OutboxService outboxService;
+
+    private final List<Client> registered = new ArrayList<>();
+    private int[] insertCounts;
+
+    private ClientImportService clientImportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        clientImportService = new ClientImportService(clientRepository, clientMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), jdbcTemplate,
+                new TransactionTemplate(transactionManager), objectMapper, Clock.fixed(NOW, ZoneOffset.UTC),
+                new ClientUniquenessFilter(clientRepository, transactionManager, new SimpleMeterRegistry(),
+                        new ClientUniquenessProperties(), Clock.systemUTC()) {
+                    @Override
+                    public void register(Client client) {
+                        registered.add(client);
+                    }
+                }, outboxService);
+
+        when(clientMapper.toEntity(any(), any())).thenAnswer(invocation -> {
+            CreateClientRequest request = invocation.getArgument(0);
+            Client client = new Client();
+            client.setEmail(request.getEmail());
+            client.setPhone(request.getPhone());
+            return client;
+        });
+        when(clientRepository.findExistingEmails(any())).thenReturn(List.of());
+        when(clientRepository.findExistingPhones(any())).thenReturn(List.of());
+        when(clientRepository.findExistingTaxCodes(any())).thenReturn(List.of());
+        when(clientRepository.findExistingPassportNumbers(any())).thenReturn(List.of());
+        // Вставленные строки получают id 1, 2, ...; insertCounts задаёт строки, отброшенные ON CONFLICT
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class)))
+                .thenAnswer(invocation -> {
+                    int size = invocation.<BatchPreparedStatementSetter>getArgument(1).getBatchSize();
+                    int[] counts = insertCounts != null ? insertCounts : new int[size];
+                    if (insertCounts == null) {
+                        java.util.Arrays.fill(counts, 1);
+                    }
+                    KeyHolder keys = invocation.getArgument(2);
+                    for (int count : counts) {
+                        if (count > 0) {
+                            keys.getKeyList().add(Map.of("id", (long) keys.getKeyList().size() + 1));
+                        }
+                    }
+                    return counts;
+                });
+    }
+
+    private static String row(String email, String phone, String passport) {
+        return "Ivan,Ivanov,1990-05-01," + email + "," + phone + ",4500," + passport
+                + ",770-001,UFMS,2010-05-01,Moscow,\n";
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void importClients_UsesSetBasedChecksAndSingleBatchPerChunk() {
+        when(clientRepository.findExistingEmails(any())).thenReturn(List.of("taken@example.com"));
+        String csv = HEADER
+                + row("a@example.com", "+79000000001", "100001")
+                + row("taken@example.com", "+79000000002", "100002")
+                + row("a@example.com", "+79000000003", "100003")
+                + row("not-an-email", "+79000000004", "100004")
+                + row("b@example.com", "+79000000005", "100005");
+
+        ClientImportReport report = clientImportService.importClients(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ClientImportFormat.CSV, "job-1");
+
+        assertEquals("COMPLETED", report.getStatus());
+        assertEquals(5, report.getProcessed());
+        assertEquals(2, report.getImported());
+        assertEquals(3, report.getRejected());
+        assertEquals(List.of(3L, 4L, 5L), report.getErrors().stream().map(e -> e.getLine()).sorted().toList());
+
+        ArgumentCaptor<Collection<String>> emails = ArgumentCaptor.forClass(Collection.class);
+        verify(clientRepository, times(1)).findExistingEmails(emails.capture());
+        assertEquals(3, emails.getValue().size());
+        verify(jdbcTemplate, times(1)).batchUpdate(any(PreparedStatementCreator.class),
+                argThat((BatchPreparedStatementSetter batch) -> batch.getBatchSize() == 2), any(KeyHolder.class));
+        verify(clientRepository, never()).existsByEmail(anyString());
+        assertEquals(report, clientImportService.getReport("job-1").orElseThrow());
+    }
+
+    @Test
+    void importClients_RecordsClientCreatedAndRegistersOnlyInsertedRows() {
+        // Вторую строку между проверкой и вставкой успел записать другой запрос
+        insertCounts = new int[]{1, 0, 1};
+        String csv = HEADER
+                + row("a@example.com", "+79000000001", "100001")
+                + row("raced@example.com", "+79000000002", "100002")
+                + row("b@example.com", "+79000000003", "100003");
+
+        ClientImportReport report = clientImportService.importClients(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ClientImportFormat.CSV, "job-events");
+
+        assertEquals(2, report.getImported());
+        assertEquals(List.of(3L), report.getErrors().stream().map(e -> e.getLine()).toList());
+        verify(outboxService).record(eq(OutboxService.CLIENT), eq(1L), eq("ClientCreated"), any());
+        verify(outboxService).record(eq(OutboxService.CLIENT), eq(2L), eq("ClientCreated"), any());
+        verifyNoMoreInteractions(outboxService);
+        assertEquals(List.of("a@example.com", "b@example.com"), registered.stream().map(Client::getEmail).toList());
+        assertEquals(List.of(1L, 2L), registered.stream().map(Client::getId).toList());
+    }
+
+    @Test
+    void importClients_WhenChunkFails_ShouldNotRegisterItsRows() {
+        when(outboxService.record(anyString(), any(), anyString(), any()))
+                .thenThrow(new IllegalStateException("outbox down"));
+        String csv = HEADER + row("a@example.com", "+79000000001", "100001");
+
+        assertThrows(IllegalStateException.class, () -> clientImportService.importClients(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ClientImportFormat.CSV, "job-failed"));
+
+        assertTrue(registered.isEmpty());
+        assertEquals("FAILED", clientImportService.getReport("job-failed").orElseThrow().getStatus());
+    }
+
+    @Test
+    void importClients_ShouldTimeJobsWithInjectedClock() {
+        ClientImportReport report = clientImportService.importClients(
+                new ByteArrayInputStream(new byte[0]), ClientImportFormat.NDJSON, "job-clock");
+
+        assertEquals(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC), report.getStartedAt());
+        assertEquals(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC), report.getFinishedAt());
+    }
+
+    @Test
+    void importClients_ReadsNdjsonAndReportsMalformedLines() {
+        String ndjson = "{\"firstName\":\"Ivan\",\"lastName\":\"Ivanov\",\"birthDate\":\"1990-05-01\","
+                + "\"email\":\"n@example.com\",\"phone\":\"+79000000009\",\"passportSeries\":\"4500\","
+                + "\"passportNumber\":\"100009\",\"departmentCode\":\"770-001\",\"issuedBy\":\"UFMS\","
+                + "\"issueDate\":\"2010-05-01\",\"registrationAddress\":\"Moscow\"}\n"
+                + "{broken\n";
+
+        ClientImportReport report = clientImportService.importClients(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), ClientImportFormat.NDJSON, null);
+
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getRejected());
+        assertEquals(2L, report.getErrors().get(0).getLine());
+        assertNotNull(report.getJobId());
+    }
+
+    @Test
+    void importClients_RejectsDuplicateJobId() {
+        clientImportService.importClients(new ByteArrayInputStream(new byte[0]), ClientImportFormat.NDJSON, "same");
+
+        assertThrows(IllegalArgumentException.class, () -> clientImportService.importClients(
+                new ByteArrayInputStream(new byte[0]), ClientImportFormat.NDJSON, "same"));
+    }
+}
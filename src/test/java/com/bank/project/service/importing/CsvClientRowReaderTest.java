@@ -0,0 +1,53 @@
+package com.bank.project.service.importing;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvClientRowReaderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static CsvClientRowReader reader(String csv) {
+        return new CsvClientRowReader(new BufferedReader(new StringReader(csv)), OBJECT_MAPPER);
+    }
+
+    @Test
+    void next_MapsHeaderColumnsAndQuotedFields() throws IOException {
+        CsvClientRowReader reader = reader("first_name,lastName,EMAIL,ignored\n"
+                + "Ivan,\"Ivanov, \"\"Jr\"\"\",ivan@example.com,x\n"
+                + "\n"
+                + "Anna,\"Petrova\nSmirnova\",anna@example.com,y\n");
+
+        ClientImportRow first = reader.next();
+        assertEquals(2, first.line);
+        assertEquals("Ivan", first.request.getFirstName());
+        assertEquals("Ivanov, \"Jr\"", first.request.getLastName());
+        assertEquals("ivan@example.com", first.request.getEmail());
+
+        ClientImportRow second = reader.next();
+        assertEquals(4, second.line);
+        assertEquals("Petrova\nSmirnova", second.request.getLastName());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ReportsBadRowsWithoutStopping() throws IOException {
+        CsvClientRowReader reader = reader("firstName,email\nIvan\nAnna,anna@example.com\n");
+
+        assertEquals("Expected 2 columns but found 1", reader.next().parseError);
+        assertEquals("Anna", reader.next().request.getFirstName());
+    }
+
+    @Test
+    void next_RejectsHeaderWithoutClientFields() {
+        assertThrows(IllegalArgumentException.class, () -> reader("foo,bar\n1,2\n").next());
+    }
+}
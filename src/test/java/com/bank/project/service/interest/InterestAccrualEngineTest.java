@@ -0,0 +1,139 @@
+package com.bank.project.service.interest;
+
+import com.bank.project.config.InterestAccrualProperties;
+import com.bank.project.config.Workload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InterestAccrualEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 0, 30);
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 18);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InterestAccrualEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        InterestAccrualProperties properties = new InterestAccrualProperties();
+        properties.setPartitionSize(10_000);
+        properties.setBatchSize(2);
+        properties.setParallelism(2);
+        engine = new InterestAccrualEngine(jdbcTemplate, transactionManager, properties,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void dailyInterest_ShouldUseActualDaysInYearAndRoundHalfEven() {
+        assertEquals(new BigDecimal("1.000000"),
+                InterestCalculator.dailyInterest(new BigDecimal("10000.00"), new BigDecimal("3.65"), LocalDate.of(2025, 3, 1)));
+        assertEquals(new BigDecimal("0.997268"),
+                InterestCalculator.dailyInterest(new BigDecimal("10000.00"), new BigDecimal("3.65"), LocalDate.of(2024, 3, 1)));
+    }
+
+    @Test
+    void partitions_ShouldBeAlignedToPartitionSize() {
+        List<long[]> ranges = InterestAccrualEngine.partitions(15, 31_000, 10_000);
+
+        assertEquals(4, ranges.size());
+        assertArrayEquals(new long[]{0, 10_000}, ranges.get(0));
+        assertArrayEquals(new long[]{30_000, 40_000}, ranges.get(3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void accrue_ShouldSkipCheckpointedPartitionsAndWriteInBatches() throws Exception {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class)))
+                .thenReturn(InterestAccrualEngine.partitions(1, 15_000, 10_000));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(DAY))).thenReturn(List.of(0L));
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(10_001L, 10_002L, 10_003L);
+        when(rs.getBigDecimal(2)).thenReturn(new BigDecimal("10000.00"), new BigDecimal("36500.00"), null);
+        when(rs.getBigDecimal(3)).thenReturn(new BigDecimal("3.65"), new BigDecimal("1.00"), new BigDecimal("5"));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(10_000L), eq(20_000L));
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            batchSizes.add(((List<?>) invocation.getArgument(1)).size());
+            return new int[0];
+        });
+
+        InterestAccrualSummary summary = engine.accrue(DAY);
+
+        assertEquals(2, summary.getPartitions());
+        assertEquals(1, summary.getSkippedPartitions());
+        assertEquals(0, summary.getFailedPartitions());
+        // Строка без суммы не начисляется
+        assertEquals(2, summary.getAgreements());
+        assertEquals(new BigDecimal("2.000000"), summary.getTotalInterest());
+        assertEquals(List.of(2), batchSizes);
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class), eq(0L), eq(10_000L));
+        verify(jdbcTemplate).update(contains("interest_accrual_checkpoint"), eq(DAY), eq(10_000L), eq(20_000L),
+                eq(2), any());
+    }
+
+    @Test
+    void accruePartition_ShouldRunAsBatchWorkload() {
+        List<Workload> workloads = new ArrayList<>();
+        doAnswer(invocation -> workloads.add(Workload.current()))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(0L), eq(10_000L));
+
+        engine.accruePartition(DAY, 0, 10_000);
+
+        // Пул batch: раздел не обрывается тайм-аутом OLTP-запросов
+        assertEquals(List.of(Workload.BATCH), workloads);
+        assertEquals(Workload.OLTP, Workload.current());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void accrue_WhenPartitionFails_ShouldLeaveItWithoutCheckpoint() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class)))
+                .thenReturn(InterestAccrualEngine.partitions(1, 5_000, 10_000));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(DAY))).thenReturn(List.of());
+        doThrow(new IllegalStateException("db down"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), anyLong(), anyLong());
+
+        InterestAccrualSummary summary = engine.accrue(DAY);
+
+        assertEquals(1, summary.getFailedPartitions());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
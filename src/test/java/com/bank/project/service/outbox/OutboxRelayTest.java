@@ -0,0 +1,140 @@
+package com.bank.project.service.outbox;
+
+import com.bank.project.config.OutboxProperties;
+import com.bank.project.entity.OutboxEvent;
+import com.bank.project.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryOutboxSink sink;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(5);
+        sink = new InMemoryOutboxSink();
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, sink, properties, transactionManager, meterRegistry,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    void relay_ShouldDrainBatchesInOrderAndMarkThemPublished() {
+        when(outboxEventRepository.lockUnpublishedBatch(2))
+                .thenReturn(List.of(event(1L), event(2L)))
+                .thenReturn(List.of(event(3L)));
+        when(outboxEventRepository.countUnpublished()).thenReturn(0L);
+
+        relay.relay();
+
+        assertEquals(List.of(1L, 2L, 3L), sink.getMessages().stream().map(OutboxMessage::getId).toList());
+        verify(outboxEventRepository).markPublished(List.of(1L, 2L), NOW);
+        verify(outboxEventRepository).markPublished(List.of(3L), NOW);
+        verify(outboxEventRepository, times(2)).lockUnpublishedBatch(2);
+        assertEquals(3.0, meterRegistry.counter("outbox.events.published").count());
+        assertEquals(3, meterRegistry.timer("outbox.relay.lag").count());
+    }
+
+    @Test
+    void relay_WhenSinkFails_ShouldPublishRestOfBatchAndEndRun() {
+        OutboxSink failing = message -> {
+            if (message.getId() == 2L) {
+                throw new IllegalStateException("broker down");
+            }
+            sink.publish(message);
+        };
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(3);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, failing, properties, transactionManager, meterRegistry,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        // В пачке по одному событию на агрегат, поэтому ошибка не держит остальные
+        when(outboxEventRepository.lockUnpublishedBatch(3))
+                .thenReturn(List.of(event(1L, "10"), event(2L, "11"), event(3L, "12")));
+        when(outboxEventRepository.countUnpublished()).thenReturn(1L);
+
+        relay.relay();
+
+        assertEquals(List.of(1L, 3L), sink.getMessages().stream().map(OutboxMessage::getId).toList());
+        verify(outboxEventRepository).markPublished(List.of(1L, 3L), NOW);
+        verify(outboxEventRepository).markFailed(eq(2L), contains("broker down"));
+        verify(outboxEventRepository, never()).markDeadLettered(any(), any(), any());
+        // После ошибки текущий запуск не берёт новую пачку — одна попытка на событие за запуск
+        verify(outboxEventRepository, times(1)).lockUnpublishedBatch(3);
+        assertEquals(1.0, meterRegistry.counter("outbox.events.failed").count());
+        assertEquals(1.0, meterRegistry.get("outbox.events.pending").gauge().value());
+    }
+
+    @Test
+    void relay_WhenMaxAttemptsReached_ShouldDeadLetterEvent() {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        properties.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, message -> {
+            throw new IllegalStateException("rejected");
+        }, properties, transactionManager, meterRegistry, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        OutboxEvent exhausted = event(1L, "10");
+        exhausted.setAttempts(2);
+        OutboxEvent retried = event(2L, "11");
+        retried.setAttempts(1);
+        when(outboxEventRepository.lockUnpublishedBatch(2)).thenReturn(List.of(exhausted, retried));
+
+        relay.relay();
+
+        verify(outboxEventRepository).markDeadLettered(eq(1L), contains("rejected"), eq(NOW));
+        verify(outboxEventRepository).markFailed(eq(2L), contains("rejected"));
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+        assertEquals(1.0, meterRegistry.counter("outbox.events.dead-lettered").count());
+        assertEquals(2.0, meterRegistry.counter("outbox.events.failed").count());
+    }
+
+    @Test
+    void relay_WhenDisabled_ShouldNotTouchOutbox() {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setRelayEnabled(false);
+        relay = new OutboxRelay(outboxEventRepository, sink, properties, transactionManager, meterRegistry,
+                Clock.systemUTC());
+
+        relay.relay();
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    private static OutboxEvent event(Long id) {
+        return event(id, String.valueOf(id));
+    }
+
+    private static OutboxEvent event(Long id, String aggregateId) {
+        OutboxEvent event = new OutboxEvent("Account", aggregateId, "AccountUpdated", "{}", NOW.minusSeconds(5));
+        event.setId(id);
+        return event;
+    }
+}
@@ -0,0 +1,160 @@
+package com.bank.project.service.overview;
+
+import com.bank.project.config.ClientOverviewProperties;
+import com.bank.project.dto.ClientOverviewResponse;
+import com.bank.project.entity.Account;
+import com.bank.project.entity.Agreement;
+import com.bank.project.entity.Client;
+import com.bank.project.entity.Product;
+import com.bank.project.entity.Transaction;
+import com.bank.project.exception.ResourceNotFoundException;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.AgreementRepository;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.repository.TransactionRepository;
+import com.bank.project.service.mapper.AccountMapperImpl;
+import com.bank.project.service.mapper.AgreementMapperImpl;
+import com.bank.project.service.mapper.ClientMapperImpl;
+import com.bank.project.service.mapper.TransactionMapperImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ClientOverviewServiceTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AgreementRepository agreementRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private ClientOverviewService clientOverviewService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ClientOverviewProperties properties = new ClientOverviewProperties();
+        properties.setPieceTimeout(Duration.ofMillis(200));
+        properties.setRecentTransactions(5);
+        executor = Executors.newFixedThreadPool(4);
+        clientOverviewService = new ClientOverviewService(clientRepository, accountRepository, agreementRepository,
+                transactionRepository, new ClientMapperImpl(), new AccountMapperImpl(), new AgreementMapperImpl(),
+                new TransactionMapperImpl(), properties, transactionManager, executor);
+
+        Client client = new Client();
+        client.setId(1L);
+        client.setFirstName("John");
+        client.setLastName("Doe");
+        Account account = new Account();
+        account.setId(10L);
+        account.setAccountNumber("ACC-10");
+        account.setClient(client);
+        Product product = new Product();
+        product.setId(20L);
+        product.setName("Deposit");
+        Agreement agreement = new Agreement();
+        agreement.setId(30L);
+        agreement.setAccount(account);
+        agreement.setProduct(product);
+        Transaction transaction = new Transaction();
+        transaction.setId(100L);
+        transaction.setDebitAccountId(10L);
+        transaction.setType("TRANSFER");
+
+        when(clientRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(accountRepository.findAllByClientId(1L)).thenReturn(List.of(account));
+        when(agreementRepository.findByAccountClientId(1L)).thenReturn(List.of(agreement));
+        when(transactionRepository.findRecentByClientId(1L, Limit.of(5))).thenReturn(List.of(transaction));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getOverview_ShouldComposeAllSections() {
+        ClientOverviewResponse overview = clientOverviewService.getOverview(1L);
+
+        assertEquals("John", overview.getClient().getFirstName());
+        assertEquals(1, overview.getAccounts().size());
+        assertEquals("John Doe", overview.getAccounts().get(0).getClientFullName());
+        assertEquals(1, overview.getAgreements().size());
+        assertEquals(10L, overview.getAgreements().get(0).getAccountId());
+        assertEquals("ACC-10", overview.getAgreements().get(0).getAccountNumber());
+        assertEquals(1L, overview.getAgreements().get(0).getClientId());
+        assertEquals("Deposit", overview.getAgreements().get(0).getProductName());
+        assertEquals(100L, overview.getRecentTransactions().get(0).getId());
+        assertTrue(overview.getUnavailableSections().isEmpty());
+    }
+
+    @Test
+    void getOverview_WhenPieceIsSlow_ShouldReturnPartialWithinTimeout() {
+        when(transactionRepository.findRecentByClientId(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return List.of();
+        });
+
+        long started = System.nanoTime();
+        ClientOverviewResponse overview = clientOverviewService.getOverview(1L);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1000, "overview waited " + elapsedMillis + " ms");
+        assertNull(overview.getRecentTransactions());
+        assertEquals(List.of(ClientOverviewService.RECENT_TRANSACTIONS), overview.getUnavailableSections());
+        assertEquals(1, overview.getAccounts().size());
+    }
+
+    @Test
+    void getOverview_WhenPieceFails_ShouldMarkItUnavailable() {
+        when(agreementRepository.findByAccountClientId(1L)).thenThrow(new IllegalStateException("db down"));
+
+        ClientOverviewResponse overview = clientOverviewService.getOverview(1L);
+
+        assertNull(overview.getAgreements());
+        assertEquals(List.of(ClientOverviewService.AGREEMENTS), overview.getUnavailableSections());
+    }
+
+    @Test
+    void getOverview_WhenClientNotExists_ShouldThrowException() {
+        when(clientRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> clientOverviewService.getOverview(2L));
+    }
+
+    @Test
+    void getOverview_ShouldRunEachLookupWithPieceTimeoutAsQueryTimeout() {
+        clientOverviewService.getOverview(1L);
+
+        // 200 мс округляются вверх до секунды — единицы таймаута JDBC
+        verify(transactionManager, times(4)).getTransaction(argThat((TransactionDefinition definition) ->
+                definition.isReadOnly() && definition.getTimeout() == 1));
+        assertEquals(2, ClientOverviewService.timeoutSeconds(Duration.ofMillis(1500)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.bank.project.service.reconciliation;
+
+import com.bank.project.config.ReconciliationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class LedgerReconciliationJobTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LedgerReconciliationJob job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new LedgerReconciliationJob(jdbcTemplate, transactionManager, new ReconciliationProperties(),
+                meterRegistry, Clock.fixed(DAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    void merge_ShouldReportMismatchesAndOrphansInOnePass() throws Exception {
+        // Счёт 2 без проводок, у счёта 3 расхождение, проводки счёта 4 без самого счёта
+        ResultSet accounts = rows(new Object[][]{{1L, "100.00"}, {2L, "0.00"}, {3L, "50.00"}, {5L, "10.00"}});
+        ResultSet ledger = rows(new Object[][]{{1L, "100.0"}, {3L, "45.5"}, {4L, "7"}, {5L, "10"}});
+        StringWriter report = new StringWriter();
+
+        ReconciliationSummary summary;
+        try (BufferedWriter out = new BufferedWriter(report)) {
+            summary = job.merge(DAY, accounts, ledger, out, Path.of("report.csv"));
+        }
+
+        assertEquals(4, summary.getAccountsChecked());
+        assertEquals(2, summary.getDiscrepancies());
+        assertEquals(new BigDecimal("11.50"), summary.getAbsoluteDifference());
+        assertEquals(List.of("3,MISMATCH,50.00,45.50,4.50", "4,ORPHAN_LEDGER,,7.00,-7.00"),
+                report.toString().lines().toList());
+        assertEquals(1.0, meterRegistry.counter("reconciliation.discrepancies", "kind", "MISMATCH").count());
+        assertEquals(1.0, meterRegistry.counter("reconciliation.discrepancies", "kind", "ORPHAN_LEDGER").count());
+    }
+
+    @Test
+    void merge_WhenAccountHasNoLedgerButBalance_ShouldReportMismatch() throws Exception {
+        ResultSet accounts = rows(new Object[][]{{7L, "25.00"}});
+        ResultSet ledger = rows(new Object[][]{});
+        StringWriter report = new StringWriter();
+
+        ReconciliationSummary summary;
+        try (BufferedWriter out = new BufferedWriter(report)) {
+            summary = job.merge(DAY, accounts, ledger, out, Path.of("report.csv"));
+        }
+
+        assertEquals(1, summary.getDiscrepancies());
+        assertEquals("7,MISMATCH,25.00,0.00,25.00", report.toString().trim());
+    }
+
+    // Курсор по строкам (id, сумма) в заданном порядке
+    private static ResultSet rows(Object[][] data) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        AtomicInteger position = new AtomicInteger(-1);
+        when(rs.next()).thenAnswer(invocation -> position.incrementAndGet() < data.length);
+        when(rs.getLong(1)).thenAnswer(invocation -> data[position.get()][0]);
+        when(rs.getBigDecimal(anyInt())).thenAnswer(invocation -> new BigDecimal((String) data[position.get()][1]));
+        return rs;
+    }
+}
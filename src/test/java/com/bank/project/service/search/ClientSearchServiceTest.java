@@ -0,0 +1,77 @@
+package com.bank.project.service.search;
+
+import com.bank.project.dto.ClientSearchResponse;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.repository.ClientSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ClientSearchServiceTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @InjectMocks
+    private ClientSearchService clientSearchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private static ClientSearchHit hit(long id, float score) {
+        ClientSearchHit hit = mock(ClientSearchHit.class);
+        when(hit.getId()).thenReturn(id);
+        when(hit.getScore()).thenReturn(score);
+        return hit;
+    }
+
+    @Test
+    void search_ReturnsCursorWhenMoreRowsExist() {
+        List<ClientSearchHit> hits = List.of(hit(1, 0.9f), hit(2, 0.5f), hit(3, 0.5f));
+        when(clientRepository.searchRanked(eq("ivan"), eq("%ivan%"), isNull(), isNull(), eq(3))).thenReturn(hits);
+
+        ClientSearchResponse response = clientSearchService.search("  Ivan ", 2, null);
+
+        assertEquals(2, response.getItems().size());
+        SearchCursor cursor = SearchCursor.decode(response.getNextCursor());
+        assertEquals(0.5f, cursor.getScore());
+        assertEquals(2L, cursor.getId());
+    }
+
+    @Test
+    void search_PassesCursorPositionAsKeyset() {
+        String token = new SearchCursor(0.42f, 17L).encode();
+        when(clientRepository.searchRanked(anyString(), anyString(), any(), any(), anyInt())).thenReturn(List.of());
+
+        ClientSearchResponse response = clientSearchService.search("ivan", null, token);
+
+        verify(clientRepository).searchRanked("ivan", "%ivan%", 0.42f, 17L, ClientSearchService.DEFAULT_LIMIT + 1);
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void search_EscapesLikeWildcards() {
+        when(clientRepository.searchRanked(anyString(), anyString(), any(), any(), anyInt())).thenReturn(List.of());
+
+        clientSearchService.search("50%_off", 500, null);
+
+        verify(clientRepository).searchRanked("50%_off", "%50\\%\\_off%", null, null, 101);
+    }
+
+    @Test
+    void search_RejectsShortQueryAndBadCursor() {
+        assertThrows(IllegalArgumentException.class, () -> clientSearchService.search(" a ", null, null));
+        assertThrows(IllegalArgumentException.class, () -> clientSearchService.search("ivan", null, "not-a-cursor"));
+        verifyNoInteractions(clientRepository);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bank.project.service.streaming;
+
+import com.bank.project.config.StreamingReadProperties;
+import com.bank.project.dto.ProductResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class StreamingJsonWriterTest {
+
+    private ObjectMapper objectMapper;
+    private StreamingJsonWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = new StreamingJsonWriter(objectMapper, new StreamingReadProperties());
+    }
+
+    @Test
+    void write_AsJsonArray_ShouldProduceSingleArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = writer.write(out, JsonStreamFormat.JSON_ARRAY, sink -> {
+            sink.write(product(1L, "A"));
+            sink.flush();
+            sink.write(product(2L, "B"));
+        });
+
+        assertEquals(2, count);
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("[{\"id\":1,"), json);
+        assertTrue(json.contains("},{\"id\":2,"), json);
+        assertTrue(json.endsWith("}]"), json);
+    }
+
+    @Test
+    void write_AsNdjson_ShouldProduceOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(out, JsonStreamFormat.NDJSON, sink -> {
+            sink.write(product(1L, "A"));
+            sink.write(product(2L, "B"));
+        });
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    void write_WithNoItems_ShouldProduceEmptyArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, writer.write(out, JsonStreamFormat.JSON_ARRAY, sink -> { }));
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fromAccept_ShouldPickNdjsonOnlyWhenAskedFor() {
+        assertEquals(JsonStreamFormat.JSON_ARRAY, JsonStreamFormat.fromAccept(null));
+        assertEquals(JsonStreamFormat.JSON_ARRAY, JsonStreamFormat.fromAccept("*/*"));
+        assertEquals(JsonStreamFormat.JSON_ARRAY, JsonStreamFormat.fromAccept("application/json, application/x-ndjson"));
+        assertEquals(JsonStreamFormat.NDJSON, JsonStreamFormat.fromAccept("application/x-ndjson"));
+        assertEquals(JsonStreamFormat.NDJSON, JsonStreamFormat.fromAccept("*/*, application/x-ndjson"));
+    }
+
+    @Test
+    void write_AsCbor_ShouldReadBackAsList() throws Exception {
+        assumeTrue(JsonStreamFormat.CBOR.isAvailable(), "jackson-dataformat-cbor is not on the classpath");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(out, JsonStreamFormat.CBOR, sink -> {
+            sink.write(product(1L, "A"));
+            sink.write(product(2L, "B"));
+        });
+
+        List<ProductResponse> products = JsonStreamFormat.CBOR.mapperFrom(objectMapper)
+                .readValue(out.toByteArray(), new TypeReference<>() { });
+        assertEquals(List.of("A", "B"), products.stream().map(ProductResponse::getName).toList());
+    }
+
+    @Test
+    void fromAccept_ShouldPickBinaryFormatOnlyWhenAvailable() {
+        assertEquals(JsonStreamFormat.CBOR.isAvailable() ? JsonStreamFormat.CBOR : JsonStreamFormat.JSON_ARRAY,
+                JsonStreamFormat.fromAccept("application/cbor, application/json"));
+        assertEquals(JsonStreamFormat.SMILE.isAvailable() ? JsonStreamFormat.SMILE : JsonStreamFormat.JSON_ARRAY,
+                JsonStreamFormat.fromAccept("application/x-jackson-smile"));
+        assertEquals(JsonStreamFormat.JSON_ARRAY, JsonStreamFormat.fromAccept("application/json, application/cbor"));
+    }
+
+    private static ProductResponse product(Long id, String name) {
+        ProductResponse product = new ProductResponse();
+        product.setId(id);
+        product.setName(name);
+        return product;
+    }
+}
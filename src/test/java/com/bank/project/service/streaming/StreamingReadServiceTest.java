@@ -0,0 +1,128 @@
+package com.bank.project.service.streaming;
+
+import com.bank.project.config.StreamingReadProperties;
+import com.bank.project.dto.TransactionResponse;
+import com.bank.project.entity.Transaction;
+import com.bank.project.repository.AccountRepository;
+import com.bank.project.repository.TransactionRepository;
+import com.bank.project.service.mapper.AccountMapperImpl;
+import com.bank.project.service.mapper.TransactionMapperImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StreamingReadServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 10, 2, 0, 0);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private StreamingReadService streamingReadService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        StreamingReadProperties properties = new StreamingReadProperties();
+        properties.setPageSize(2);
+        streamingReadService = new StreamingReadService(transactionRepository, accountRepository,
+                new TransactionMapperImpl(), new AccountMapperImpl(), properties, transactionManager, entityManager);
+    }
+
+    @Test
+    void streamTransactions_ShouldPageByKeysetUntilShortPage() throws Exception {
+        LocalDateTime t1 = FROM.plusHours(1);
+        LocalDateTime t2 = FROM.plusHours(2);
+        when(transactionRepository.findPageCreatedBetween(FROM, TO, FROM, 0L, Limit.of(2)))
+                .thenReturn(List.of(transaction(1L, t1), transaction(2L, t2)));
+        when(transactionRepository.findPageCreatedBetween(FROM, TO, t2, 2L, Limit.of(2)))
+                .thenReturn(List.of(transaction(3L, t2)));
+        List<List<? extends TransactionResponse>> pages = new ArrayList<>();
+
+        long written = streamingReadService.streamTransactionsCreatedBetween(FROM, TO, pages::add);
+
+        assertEquals(3, written);
+        assertEquals(2, pages.size());
+        assertEquals(3L, pages.get(1).get(0).getId());
+        // Каждая страница читается в отдельной короткой транзакции
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionRepository, times(2)).findPageCreatedBetween(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void streamTransactions_WhenFullPageIsLast_ShouldStopOnEmptyPage() throws Exception {
+        LocalDateTime t1 = FROM.plusHours(1);
+        when(transactionRepository.findPageCreatedBetween(FROM, TO, FROM, 0L, Limit.of(2)))
+                .thenReturn(List.of(transaction(1L, t1), transaction(2L, t1)));
+        when(transactionRepository.findPageCreatedBetween(FROM, TO, t1, 2L, Limit.of(2))).thenReturn(List.of());
+        List<List<? extends TransactionResponse>> pages = new ArrayList<>();
+
+        long written = streamingReadService.streamTransactionsCreatedBetween(FROM, TO, pages::add);
+
+        assertEquals(2, written);
+        assertEquals(1, pages.size());
+    }
+
+    @Test
+    void streamTransactions_ShouldClearPersistenceContextAfterEveryPage() throws Exception {
+        LocalDateTime t1 = FROM.plusHours(1);
+        LocalDateTime t2 = FROM.plusHours(2);
+        when(transactionRepository.findPageCreatedBetween(FROM, TO, FROM, 0L, Limit.of(2)))
+                .thenReturn(List.of(transaction(1L, t1), transaction(2L, t1)));
+        when(transactionRepository.findPageCreatedBetween(FROM, TO, t1, 2L, Limit.of(2)))
+                .thenReturn(List.of(transaction(3L, t2), transaction(4L, t2)));
+        when(transactionRepository.findPageCreatedBetween(FROM, TO, t2, 4L, Limit.of(2))).thenReturn(List.of());
+        PageWriter<Object> writer = mock(PageWriter.class);
+
+        streamingReadService.streamTransactionsCreatedBetween(FROM, TO, writer);
+
+        // Контекст не копит страницы: каждая отпускается раньше, чем читается следующая
+        InOrder inOrder = inOrder(transactionRepository, entityManager, writer);
+        inOrder.verify(transactionRepository).findPageCreatedBetween(FROM, TO, FROM, 0L, Limit.of(2));
+        inOrder.verify(entityManager).clear();
+        inOrder.verify(writer).write(any());
+        inOrder.verify(transactionRepository).findPageCreatedBetween(FROM, TO, t1, 2L, Limit.of(2));
+        inOrder.verify(entityManager).clear();
+        inOrder.verify(writer).write(any());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void streamAccounts_WhenNothingInRange_ShouldWriteNothing() throws Exception {
+        when(accountRepository.findPageCreatedBetween(any(), any(), any(), any(), any())).thenReturn(List.of());
+        PageWriter<Object> writer = mock(PageWriter.class);
+
+        assertEquals(0, streamingReadService.streamAccountsCreatedBetween(FROM, TO, writer));
+        verifyNoInteractions(writer);
+    }
+
+    private static Transaction transaction(Long id, LocalDateTime createdAt) {
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setCreatedAt(createdAt);
+        return transaction;
+    }
+}
@@ -0,0 +1,165 @@
+package com.bank.project.service.uniqueness;
+
+import com.bank.project.config.ClientUniquenessProperties;
+import com.bank.project.entity.Client;
+import com.bank.project.repository.ClientRepository;
+import com.bank.project.repository.ClientUniqueKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ClientUniquenessFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Clock clock;
+
+    private ClientUniquenessFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(clock.instant()).thenReturn(NOW);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        filter = new ClientUniquenessFilter(clientRepository, transactionManager, new SimpleMeterRegistry(),
+                new ClientUniquenessProperties(), clock);
+    }
+
+    @Test
+    void mightExist_BeforeWarmUp_ShouldAlwaysAskDatabase() {
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightExist(ClientUniqueField.EMAIL, "anyone@example.com"));
+        assertFalse(filter.mightExist(ClientUniqueField.EMAIL, null));
+    }
+
+    @Test
+    void warmUp_ShouldLoadExistingKeys() {
+        when(clientRepository.count()).thenReturn(1L);
+        when(clientRepository.streamUniqueKeys())
+                .thenReturn(Stream.of(keys("john@example.com", "+70000000001", "770000000001", "123456")));
+
+        filter.warmUp();
+
+        assertTrue(filter.isReady());
+        assertTrue(filter.mightExist(ClientUniqueField.EMAIL, "john@example.com"));
+        assertTrue(filter.mightExist(ClientUniqueField.PHONE, "+70000000001"));
+        assertTrue(filter.mightExist(ClientUniqueField.TAX_CODE, "770000000001"));
+        assertTrue(filter.mightExist(ClientUniqueField.PASSPORT_NUMBER, "123456"));
+        // Ключи разных полей не смешиваются
+        assertFalse(filter.mightExist(ClientUniqueField.PHONE, "john@example.com"));
+    }
+
+    @Test
+    void register_ShouldMakeNewKeysVisible() {
+        when(clientRepository.streamUniqueKeys()).thenReturn(Stream.empty());
+        filter.warmUp();
+        assertFalse(filter.mightExist(ClientUniqueField.EMAIL, "new@example.com"));
+
+        Client client = new Client();
+        client.setEmail("new@example.com");
+        filter.register(client);
+
+        assertTrue(filter.mightExist(ClientUniqueField.EMAIL, "new@example.com"));
+    }
+
+    @Test
+    void catchUp_ShouldAddClientsWrittenOnOtherNodes() {
+        when(clientRepository.streamUniqueKeys()).thenReturn(Stream.empty());
+        filter.warmUp();
+        // Клиент записан другим узлом: register() здесь не вызывался
+        when(clientRepository.findUniqueKeysUpdatedSince(any()))
+                .thenReturn(List.of(keys("remote@example.com", "+70000000002", null, "654321")));
+        assertFalse(filter.mightExist(ClientUniqueField.EMAIL, "remote@example.com"));
+
+        filter.catchUp();
+
+        assertTrue(filter.mightExist(ClientUniqueField.EMAIL, "remote@example.com"));
+        assertTrue(filter.mightExist(ClientUniqueField.PASSPORT_NUMBER, "654321"));
+        // Окно начинается до старта перестроения: строки, закоммиченные во время чтения, не теряются
+        verify(clientRepository).findUniqueKeysUpdatedSince(LocalDateTime.of(2025, 1, 15, 9, 59));
+    }
+
+    @Test
+    void catchUp_BeforeWarmUp_ShouldNotQuery() {
+        filter.catchUp();
+
+        verify(clientRepository, never()).findUniqueKeysUpdatedSince(any());
+        assertFalse(filter.isReady());
+    }
+
+    @Test
+    void catchUp_WhenDatabaseFails_ShouldRetrySameWindow() {
+        when(clientRepository.streamUniqueKeys()).thenReturn(Stream.empty());
+        filter.warmUp();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        when(clientRepository.findUniqueKeysUpdatedSince(any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+
+        filter.catchUp();
+        filter.catchUp();
+        filter.catchUp();
+
+        verify(clientRepository, times(2)).findUniqueKeysUpdatedSince(LocalDateTime.of(2025, 1, 15, 9, 59));
+        // После успешного прохода окно сдвигается к «сейчас» минус запас
+        verify(clientRepository).findUniqueKeysUpdatedSince(LocalDateTime.of(2025, 1, 15, 9, 59, 30));
+        assertTrue(filter.isReady());
+    }
+
+    @Test
+    void warmUp_WhenDatabaseFails_ShouldStayPermissive() {
+        when(clientRepository.streamUniqueKeys()).thenThrow(new IllegalStateException("db down"));
+
+        filter.warmUp();
+
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightExist(ClientUniqueField.EMAIL, "anyone@example.com"));
+    }
+
+    @Test
+    void bloomFilter_ShouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        BloomFilter bloom = new BloomFilter(10_000, ClientUniquenessFilter.FALSE_POSITIVE_RATE);
+        for (int i = 0; i < 10_000; i++) {
+            bloom.put("client" + i + "@example.com");
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bloom.mightContain("client" + i + "@example.com"));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloom.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    private static ClientUniqueKeys keys(String email, String phone, String taxCode, String passportNumber) {
+        return new ClientUniqueKeys() {
+            public String getEmail() { return email; }
+            public String getPhone() { return phone; }
+            public String getTaxCode() { return taxCode; }
+            public String getPassportNumber() { return passportNumber; }
+        };
+    }
+}